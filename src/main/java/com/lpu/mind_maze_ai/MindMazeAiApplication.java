@@ -3,12 +3,15 @@ package com.lpu.mind_maze_ai;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Mind Maze AI application.
- * Enables asynchronous processing for quiz generation.
+ * Enables asynchronous processing for quiz generation and
+ * scheduled maintenance tasks.
  */
 @EnableAsync
+@EnableScheduling
 @SpringBootApplication
 public class MindMazeAiApplication {
     /**
@@ -0,0 +1,67 @@
+package com.lpu.mind_maze_ai.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Configuration of the Hibernate second-level cache.
+ * Configures:
+ * - Size-bounded Caffeine regions for quizzes, questions and each quiz's question list
+ * - The JCache manager handed to Hibernate's region factory
+ *
+ * Regions are created here rather than by Hibernate so every region has an explicit bound;
+ * Hibernate is configured to fail on any region that is not listed.
+ * Hit, miss and put counts are published per region through the Hibernate Micrometer metrics.
+ */
+@Configuration
+public class HibernateCacheConfig {
+    /** Region of {@link com.lpu.mind_maze_ai.entity.Quiz} entities */
+    public static final String QUIZ_REGION = "quiz";
+    /** Region of {@link com.lpu.mind_maze_ai.entity.QuizQuestion} entities */
+    public static final String QUESTION_REGION = "quiz-question";
+    /** Region of the question id lists of each quiz */
+    public static final String QUIZ_QUESTIONS_REGION = "quiz-questions";
+
+    /**
+     * Creates the cache regions and registers their manager with Hibernate.
+     * Regions that already exist, for example in a second application context of the same JVM, are reused.
+     *
+     * @param quizMaxSize Maximum number of cached quizzes and question lists
+     * @param questionMaxSize Maximum number of cached questions
+     * @return Customizer adding the cache manager to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(@Value("${quiz.cache.quiz-max-size}") long quizMaxSize,
+                                                                    @Value("${quiz.cache.question-max-size}") long questionMaxSize) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createRegion(cacheManager, QUIZ_REGION, quizMaxSize);
+        createRegion(cacheManager, QUESTION_REGION, questionMaxSize);
+        createRegion(cacheManager, QUIZ_QUESTIONS_REGION, quizMaxSize);
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    /**
+     * Creates a region that evicts entries once it holds more than the given number.
+     *
+     * @param cacheManager Cache manager owning the region
+     * @param name Region name
+     * @param maxSize Maximum number of entries
+     */
+    private static void createRegion(CacheManager cacheManager, String name, long maxSize) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -1,24 +1,35 @@
 package com.lpu.mind_maze_ai.config;
 
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.model.AuthenticatedUser;
 import com.lpu.mind_maze_ai.util.JwtUtil;
+import com.lpu.mind_maze_ai.util.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Filter for processing JWT authentication in requests.
  * Intercepts incoming requests to validate JWT tokens and set up security context.
+ *
+ * In stateless mode ({@code jwt.stateless}) the principal is built from the verified token claims
+ * and no user is loaded; role changes then take effect when the user next logs in. Otherwise the user
+ * is loaded on every request and its current roles are used. In both modes tokens issued before the
+ * user's last revocation, or belonging to a revoked login session, are rejected using the in-memory
+ * {@link TokenRevocationList}; no database call is made for that check.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -27,10 +38,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
+    private final boolean stateless;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   TokenRevocationList revocationList, @Value("${jwt.stateless}") boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
+        this.stateless = stateless;
     }
 
     /**
@@ -48,16 +64,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             try {
-                String username = jwtUtil.extractUsername(token);
+                Claims claims = jwtUtil.extractClaims(token);
+                String username = claims.getSubject();
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    if (jwtUtil.validateToken(token)) {
+                    AuthenticatedUser user = jwtUtil.toPrincipal(claims);
+                    Long issuedAt = jwtUtil.issuedAtMillis(claims);
+                    if (issuedAt == null || revocationList.isRevoked(user.id(),
+                            claims.get(JwtUtil.SESSION_CLAIM, String.class), issuedAt)) {
+                        logger.warn("Revoked JWT token for user: {}", username);
+                    } else {
+                        if (!stateless) {
+                            user = loadUser(username);
+                        }
                         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
+                                user, null, user.authorities());
                         SecurityContextHolder.getContext().setAuthentication(authentication);
                         logger.debug("Successfully authenticated user: {}", username);
-                    } else {
-                        logger.warn("Invalid JWT token for user: {}", username);
                     }
                 }
             } catch (Exception e) {
@@ -66,4 +88,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Loads the current state of a user, for the stateful mode.
+     *
+     * @param username Username from the token
+     * @return Principal with the user's current roles
+     */
+    private AuthenticatedUser loadUser(String username) {
+        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(username);
+        return new AuthenticatedUser(userDetails.getId(), userDetails.getUsername(), userDetails.getName(),
+                List.copyOf(userDetails.getAuthorities()));
+    }
 }
@@ -0,0 +1,104 @@
+package com.lpu.mind_maze_ai.config;
+
+import com.lpu.mind_maze_ai.exception.ServerBusyException;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Password encoder running the expensive hashing of its delegate on a bounded executor.
+ * The calling request thread waits for the result without using CPU, so concurrent hashing
+ * never exceeds the executor's threads however many logins arrive at once.
+ *
+ * Hashing requests are queued while the executor is busy. Once its queue is full, or a queued
+ * request waited longer than the maximum wait, a {@link ServerBusyException} is thrown and the
+ * request is shed with 503 instead of holding a request thread any longer.
+ *
+ * {@link #upgradeEncoding(String)} only inspects the hash and runs on the calling thread.
+ * Closing the encoder shuts its executor down.
+ */
+public class OffloadedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final long maxWaitMillis;
+    private final Counter rejected;
+
+    /**
+     * Creates the encoder.
+     *
+     * @param delegate Encoder performing the hashing
+     * @param executor Bounded executor the hashing runs on; must reject tasks when saturated
+     * @param maxWaitMillis Longest time a caller waits for a result before the request is shed
+     * @param rejected Counter of shed hashing requests
+     */
+    public OffloadedPasswordEncoder(PasswordEncoder delegate, ExecutorService executor, long maxWaitMillis, Counter rejected) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxWaitMillis = maxWaitMillis;
+        this.rejected = rejected;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Shuts the hashing executor down, letting queued hashing finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs a hashing operation on the executor and waits for its result.
+     *
+     * @param operation Hashing operation
+     * @return Result of the operation
+     * @throws ServerBusyException if the executor is saturated or the result took too long
+     */
+    private <T> T offload(Callable<T> operation) {
+        Future<T> result;
+        try {
+            result = executor.submit(operation);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServerBusyException("Too many concurrent sign-ins, please retry", e);
+        }
+        try {
+            return result.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // A task still waiting in the queue is skipped; one already hashing runs to completion
+            result.cancel(false);
+            rejected.increment();
+            throw new ServerBusyException("Too many concurrent sign-ins, please retry", e);
+        } catch (InterruptedException e) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServerBusyException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
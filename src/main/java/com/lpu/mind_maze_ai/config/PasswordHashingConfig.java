@@ -0,0 +1,69 @@
+package com.lpu.mind_maze_ai.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of password hashing.
+ * Configures:
+ * - A bounded executor sized to the CPUs that all password hashing runs on
+ * - A delegating encoder storing hashes as {@code {bcrypt}...} with a configurable cost factor
+ *
+ * Hashes stored before the encoder prefixed them are matched as plain bcrypt. Such hashes, and
+ * hashes with a lower cost factor than configured, are re-encoded on the user's next successful
+ * login through {@link com.lpu.mind_maze_ai.service.CustomUserDetailsService#updatePassword}.
+ *
+ * Executor metrics are published as {@code executor.*} tagged {@code name=password.hashing};
+ * shed hashing requests are counted in {@code password.hashing.rejected}.
+ */
+@Configuration
+public class PasswordHashingConfig {
+    private static final String BCRYPT = "bcrypt";
+
+    /**
+     * Creates the application's password encoder and the executor it hashes on.
+     * The executor's threads and queue are bounded and a full queue rejects new work, so a login
+     * burst can only occupy a fixed number of CPUs and request threads. It is deliberately not a
+     * bean of its own, so it cannot replace the executor used by {@code @Async} listeners.
+     *
+     * @param threads Number of hashing threads; 0 uses one per available CPU
+     * @param queueCapacity Number of hashing requests that may wait for a thread
+     * @param maxWait Longest time in milliseconds a request waits for hashing before it is shed
+     * @param bcryptStrength Cost factor of new bcrypt hashes
+     * @param meterRegistry Registry the executor metrics and rejection counter are published to
+     * @return Encoder offloading a delegating bcrypt encoder to the hashing executor
+     */
+    @Bean
+    public OffloadedPasswordEncoder passwordEncoder(@Value("${auth.password.hashing-threads}") int threads,
+                                                    @Value("${auth.password.queue-capacity}") int queueCapacity,
+                                                    @Value("${auth.password.max-wait}") long maxWait,
+                                                    @Value("${auth.password.bcrypt-strength}") int bcryptStrength,
+                                                    MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorService instrumented = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        Counter rejected = Counter.builder("password.hashing.rejected")
+                .description("Password hashing requests shed because the hashing executor was saturated")
+                .register(meterRegistry);
+        return new OffloadedPasswordEncoder(delegating, instrumented, maxWait, rejected);
+    }
+}
@@ -0,0 +1,27 @@
+package com.lpu.mind_maze_ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of quiz generation scheduling.
+ * Configures:
+ * - The scheduler settings bound from {@code quiz.generation}
+ *
+ * The scheduler itself is {@link com.lpu.mind_maze_ai.service.QuizGenerationSchedulerImpl}.
+ */
+@Configuration
+public class QuizGenerationConfig {
+
+    /**
+     * Binds the quiz generation settings.
+     *
+     * @return Quiz generation settings
+     */
+    @Bean
+    @ConfigurationProperties("quiz.generation")
+    public QuizGenerationProperties quizGenerationProperties() {
+        return new QuizGenerationProperties();
+    }
+}
@@ -0,0 +1,44 @@
+package com.lpu.mind_maze_ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the quiz generation scheduler, bound from {@code quiz.generation}.
+ */
+@Getter
+@Setter
+public class QuizGenerationProperties {
+    /** Number of quizzes generated concurrently */
+    private int threads = 4;
+
+    /** Maximum number of quizzes waiting for generation across all users */
+    private int queueCapacity = 1000;
+
+    /** Milliseconds after being queued at which an unfinished generation is cancelled and marked FAILURE */
+    private long deadline = 300_000;
+
+    /** Milliseconds between checks for generations past their deadline */
+    private long deadlineCheckInterval = 1000;
+
+    /**
+     * Milliseconds a taken quiz waits for further quizzes of the same type and level to share its prompt;
+     * 0 generates every quiz with its own prompt
+     */
+    private long batchWindow = 0;
+
+    /** Maximum total number of questions requested by one shared prompt */
+    private int batchMaxQuestions = 50;
+
+    /** Number of questions a user of weight 1 may have generated per scheduling turn */
+    private int quantum = 10;
+
+    /** Weight of users none of whose roles has an entry in {@link #weights} */
+    private int defaultWeight = 1;
+
+    /** Scheduling weight per role, e.g. {@code ROLE_ADMIN}; a user gets the highest weight of their roles */
+    private Map<String, Integer> weights = new HashMap<>();
+}
@@ -0,0 +1,87 @@
+package com.lpu.mind_maze_ai.config;
+
+import com.lpu.mind_maze_ai.service.QuizIdempotencyService;
+import com.lpu.mind_maze_ai.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration of per-user rate limiting.
+ * Configures:
+ * - The rate limit settings bound from {@code quiz.rate-limit}
+ * - A token bucket rate limiter keyed by the user ID of the access token
+ * - The interceptor charging each authenticated request, when enabled
+ *
+ * The number of buckets held is published as {@code rate.limit.buckets}.
+ */
+@Configuration
+public class RateLimitConfig implements WebMvcConfigurer {
+    private final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor;
+
+    public RateLimitConfig(ObjectProvider<RateLimitInterceptor> rateLimitInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+    }
+
+    /**
+     * Binds the rate limit settings.
+     *
+     * @return Rate limit settings
+     */
+    @Bean
+    @ConfigurationProperties("quiz.rate-limit")
+    public RateLimitProperties rateLimitProperties() {
+        return new RateLimitProperties();
+    }
+
+    /**
+     * Creates the token bucket rate limiter holding one bucket per user ID.
+     * Fails at startup if an endpoint costs more than a full bucket, since it could never be called.
+     *
+     * @param properties Rate limit settings
+     * @param meterRegistry Registry the bucket count is published to
+     * @return Per-user rate limiter
+     */
+    @Bean
+    public TokenBucketRateLimiter<Long> userRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        properties.getCosts().forEach((endpoint, cost) -> {
+            if (cost > properties.getCapacity()) {
+                throw new IllegalStateException("Rate limit cost of " + endpoint + " exceeds the capacity of " + properties.getCapacity());
+            }
+        });
+        TokenBucketRateLimiter<Long> rateLimiter = new TokenBucketRateLimiter<>(
+                properties.getCapacity(), properties.getRefillPerMinute(), properties.getMaxUsers());
+        Gauge.builder("rate.limit.buckets", rateLimiter, TokenBucketRateLimiter::size)
+                .description("Number of per-user token buckets held in memory")
+                .register(meterRegistry);
+        return rateLimiter;
+    }
+
+    /**
+     * Creates the interceptor charging requests to the user's bucket.
+     *
+     * @param userRateLimiter Per-user rate limiter
+     * @param properties Rate limit settings
+     * @param meterRegistry Registry the rejection counter is published to
+     * @param idempotencyService Service recognizing replayed quiz creation requests
+     * @return Rate limit interceptor
+     */
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(TokenBucketRateLimiter<Long> userRateLimiter, RateLimitProperties properties,
+                                                     MeterRegistry meterRegistry, QuizIdempotencyService idempotencyService) {
+        return new RateLimitInterceptor(userRateLimiter, properties.getCosts(), properties.getDefaultCost(), meterRegistry,
+                idempotencyService);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (rateLimitProperties().isEnabled()) {
+            registry.addInterceptor(rateLimitInterceptor.getObject()).addPathPatterns("/api/**");
+        }
+    }
+}
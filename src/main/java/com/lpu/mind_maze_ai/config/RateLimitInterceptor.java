@@ -0,0 +1,94 @@
+package com.lpu.mind_maze_ai.config;
+
+import com.lpu.mind_maze_ai.exception.RateLimitExceededException;
+import com.lpu.mind_maze_ai.model.AuthenticatedUser;
+import com.lpu.mind_maze_ai.service.QuizIdempotencyService;
+import com.lpu.mind_maze_ai.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor charging every authenticated request to its user's token bucket.
+ * The cost of a request is looked up by HTTP method and URI pattern, so expensive endpoints such
+ * as quiz generation drain the bucket far faster than answering questions.
+ * A retry carrying an {@code Idempotency-Key} that replays an existing quiz does no generation work,
+ * so it is charged the default cost instead; the key is only looked up for endpoints costing more.
+ *
+ * Every limited response carries the {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset} headers; rejected requests are answered with 429 and {@code Retry-After}
+ * and counted in {@code rate.limit.rejected}, tagged by method and URI pattern.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final TokenBucketRateLimiter<Long> rateLimiter;
+    private final Map<String, Long> costs;
+    private final long defaultCost;
+    private final MeterRegistry meterRegistry;
+    private final QuizIdempotencyService idempotencyService;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param rateLimiter Limiter holding one bucket per user ID
+     * @param costs Cost per endpoint, keyed by HTTP method and URI pattern
+     * @param defaultCost Cost of endpoints without an entry in costs
+     * @param meterRegistry Registry the rejection counter is published to
+     * @param idempotencyService Service telling whether an idempotency key replays an existing quiz
+     */
+    public RateLimitInterceptor(TokenBucketRateLimiter<Long> rateLimiter, Map<String, Long> costs, long defaultCost,
+                                MeterRegistry meterRegistry, QuizIdempotencyService idempotencyService) {
+        this.rateLimiter = rateLimiter;
+        this.costs = Map.copyOf(costs);
+        this.defaultCost = defaultCost;
+        this.meterRegistry = meterRegistry;
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + pattern;
+        long cost = costs.getOrDefault(endpoint, defaultCost);
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (cost > defaultCost && idempotencyKey != null && !idempotencyKey.isBlank()
+                && idempotencyService.isReplay(user.id(), idempotencyKey)) {
+            cost = defaultCost;
+        }
+        if (cost <= 0) {
+            return true;
+        }
+
+        TokenBucketRateLimiter.Decision decision = rateLimiter.tryAcquire(user.id(), cost);
+        response.setHeader("RateLimit-Limit", Long.toString(rateLimiter.capacity()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(toSeconds(decision.nanosUntilFull())));
+        if (!decision.allowed()) {
+            Counter.builder("rate.limit.rejected")
+                    .description("Requests rejected because the user's token bucket was empty")
+                    .tags("method", request.getMethod(), "uri", String.valueOf(pattern))
+                    .register(meterRegistry)
+                    .increment();
+            throw new RateLimitExceededException("Rate limit exceeded, this request costs " + cost + " tokens",
+                    toSeconds(decision.retryAfterNanos()));
+        }
+        return true;
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
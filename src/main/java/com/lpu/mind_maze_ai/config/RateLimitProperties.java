@@ -0,0 +1,32 @@
+package com.lpu.mind_maze_ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the per-user rate limiter, bound from {@code quiz.rate-limit}.
+ */
+@Getter
+@Setter
+public class RateLimitProperties {
+    /** Whether authenticated requests are rate limited */
+    private boolean enabled = true;
+
+    /** Maximum number of tokens a user can spend in a burst */
+    private long capacity = 120;
+
+    /** Number of tokens a user regains per minute */
+    private long refillPerMinute = 120;
+
+    /** Maximum number of users whose buckets are kept in memory */
+    private long maxUsers = 100_000;
+
+    /** Cost of endpoints without an entry in {@link #costs} */
+    private long defaultCost = 1;
+
+    /** Cost per endpoint, keyed by HTTP method and URI pattern, e.g. {@code POST /api/v1/quiz/create}; 0 exempts it */
+    private Map<String, Long> costs = new HashMap<>();
+}
@@ -0,0 +1,109 @@
+package com.lpu.mind_maze_ai.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read/write data source routing, active when {@code spring.datasource.replica.url} is set.
+ * Configures:
+ * - A "primary" connection pool for writes, bound like the default data source
+ * - A read-only "replica" connection pool
+ * - A lag monitor that takes the replica out of rotation when it falls behind
+ * - The application data source routing read-only transactions to the replica
+ *
+ * Routing relies on the connection's read-only flag, which Spring sets for
+ * {@code @Transactional(readOnly = true)} methods before the first statement runs.
+ * The physical connection is only fetched at that statement, so the flag decides the pool.
+ * Both pools publish their metrics under the {@code hikaricp} prefix, tagged by pool name.
+ */
+@Configuration
+@ConditionalOnExpression("!'${spring.datasource.replica.url:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    /**
+     * Creates the primary connection pool from the standard datasource properties.
+     *
+     * @param properties Standard datasource properties
+     * @return Primary connection pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Creates the read-only replica connection pool.
+     *
+     * @param properties Standard datasource properties, for the driver
+     * @param url JDBC URL of the replica
+     * @param username Replica user
+     * @param password Replica password
+     * @return Replica connection pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${spring.datasource.replica.url}") String url,
+                                              @Value("${spring.datasource.replica.username}") String username,
+                                              @Value("${spring.datasource.replica.password}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * Creates the monitor deciding whether the replica may serve reads.
+     *
+     * @param replicaDataSource Replica connection pool
+     * @param maxLag Maximum tolerated replay lag in milliseconds, or zero to disable the check
+     * @param checkInterval Time in milliseconds between lag checks
+     * @param meterRegistry Registry for the lag gauge
+     * @return Replica lag monitor
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${spring.datasource.replica.max-lag}") long maxLag,
+                                               @Value("${spring.datasource.replica.lag-check-interval}") long checkInterval,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, checkInterval, meterRegistry);
+    }
+
+    /**
+     * Creates the application data source.
+     * Connections of read-only transactions come from the replica while it is usable,
+     * every other connection comes from the primary.
+     *
+     * @param primaryDataSource Primary connection pool
+     * @param replicaDataSource Replica connection pool
+     * @param lagMonitor Replica lag monitor
+     * @return Routing data source used by JPA, JDBC and Flyway
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor lagMonitor) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(replicaDataSource, primaryDataSource, lagMonitor));
+        return dataSource;
+    }
+}
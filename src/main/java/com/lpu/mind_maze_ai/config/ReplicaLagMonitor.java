@@ -0,0 +1,102 @@
+package com.lpu.mind_maze_ai.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks how far the read replica is behind the primary.
+ * The replica serves reads only while its replay lag is within the configured tolerance
+ * and the last lag check succeeded; otherwise reads fall back to the primary.
+ * A measurement is trusted for {@value #TRUSTED_CHECKS} check intervals, so reads also fall back
+ * when the checks stop running, for example while the scheduler is busy or a check hangs.
+ *
+ * A maximum lag of zero disables the check and the replica is always used.
+ * A database that is not in recovery, such as a second local database, reports no lag.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() " +
+            "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private static final int TRUSTED_CHECKS = 3;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLag;
+    private final long trustedNanos;
+    private volatile double lag;
+    private volatile boolean available = true;
+    private volatile long checkedAt = System.nanoTime();
+
+    /**
+     * Creates a monitor for the given replica and registers its lag gauge.
+     *
+     * @param replicaDataSource Connection pool of the replica
+     * @param maxLag Maximum tolerated replay lag in milliseconds, or zero to disable the check
+     * @param checkInterval Time in milliseconds between lag checks
+     * @param meterRegistry Registry the lag gauge is published to
+     */
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLag, long checkInterval, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        this.trustedNanos = TimeUnit.MILLISECONDS.toNanos(checkInterval * TRUSTED_CHECKS);
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lag)
+                .description("Replay lag of the read replica, NaN while it is unreachable")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether reads may currently be served by the replica.
+     *
+     * @return true if the replica is reachable and within the lag tolerance as of a recent check
+     */
+    public boolean isReplicaUsable() {
+        return maxLag <= 0 || (available && lag <= maxLag && System.nanoTime() - checkedAt <= trustedNanos);
+    }
+
+    /**
+     * Measures the replica's replay lag.
+     * A failed check marks the replica unusable until the next successful one.
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval}")
+    public void checkLag() {
+        if (maxLag <= 0) {
+            return;
+        }
+        try {
+            Double measured = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            update(measured == null ? 0 : measured, true);
+        } catch (RuntimeException e) {
+            if (available) {
+                logger.warn("Replica lag check failed, routing reads to the primary: {}", e.getMessage());
+            }
+            update(Double.NaN, false);
+        }
+    }
+
+    /**
+     * Records the outcome of a lag check.
+     *
+     * @param lag Measured lag in milliseconds
+     * @param available Whether the replica answered
+     */
+    void update(double lag, boolean available) {
+        boolean wasUsable = isReplicaUsable();
+        this.lag = lag;
+        this.available = available;
+        if (available) {
+            checkedAt = System.nanoTime();
+        }
+        if (wasUsable != isReplicaUsable()) {
+            logger.info("Replica {} for reads (lag: {} ms)", wasUsable ? "disabled" : "enabled", lag);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.lpu.mind_maze_ai.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Data source used for read-only transactions.
+ * Hands out replica connections while the replica is usable and primary connections otherwise,
+ * so a lagging or unreachable replica never serves stale reads beyond the configured tolerance.
+ *
+ * @see ReplicaLagMonitor
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    /**
+     * Creates a routing data source over the two pools.
+     *
+     * @param replicaDataSource Connection pool of the replica
+     * @param primaryDataSource Connection pool of the primary
+     * @param lagMonitor Monitor deciding whether the replica is usable
+     */
+    public ReplicaRoutingDataSource(DataSource replicaDataSource, DataSource primaryDataSource, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return lagMonitor.isReplicaUsable() ? REPLICA : PRIMARY;
+    }
+}
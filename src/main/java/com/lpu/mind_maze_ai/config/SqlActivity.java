@@ -0,0 +1,75 @@
+package com.lpu.mind_maze_ai.config;
+
+/**
+ * Running totals of the database work done by the current thread.
+ * Updated by Hibernate callbacks and read as before/after snapshots by the request filter
+ * and the service aspect, so nested scopes never need to reset anything.
+ *
+ * @see SqlActivityConfig
+ */
+public final class SqlActivity {
+    private static final ThreadLocal<SqlActivity> CURRENT = ThreadLocal.withInitial(SqlActivity::new);
+
+    private long statements;
+    private long entities;
+    private long jdbcNanos;
+
+    private SqlActivity() {
+    }
+
+    /**
+     * Returns the totals of the current thread.
+     *
+     * @return Activity of the current thread
+     */
+    public static SqlActivity current() {
+        return CURRENT.get();
+    }
+
+    /** Counts a prepared JDBC statement; a batch shares one statement */
+    void statementPrepared() {
+        statements++;
+    }
+
+    /** Counts an entity loaded into a persistence context */
+    void entityLoaded() {
+        entities++;
+    }
+
+    /**
+     * Adds time spent executing JDBC statements and batches.
+     *
+     * @param nanos Execution time in nanoseconds
+     */
+    void jdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    /**
+     * Captures the current totals.
+     *
+     * @return Snapshot of the totals
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(statements, entities, jdbcNanos);
+    }
+
+    /**
+     * Totals at one point in time, or the difference between two points.
+     *
+     * @param statements Number of prepared JDBC statements
+     * @param entities   Number of entities loaded
+     * @param jdbcNanos  JDBC execution time in nanoseconds
+     */
+    public record Snapshot(long statements, long entities, long jdbcNanos) {
+        /**
+         * Returns the activity between an earlier snapshot and this one.
+         *
+         * @param start Snapshot taken at the start of the scope
+         * @return Activity within the scope
+         */
+        public Snapshot since(Snapshot start) {
+            return new Snapshot(statements - start.statements, entities - start.entities, jdbcNanos - start.jdbcNanos);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.lpu.mind_maze_ai.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Aspect measuring the database work of each public service method.
+ * Ordered ahead of the transaction advice, so statements flushed at commit
+ * and run by synchronous after-commit listeners count towards the method.
+ *
+ * Publishes, tagged by service class and method:
+ * - {@code db.service.statements}: prepared JDBC statements
+ * - {@code db.service.entities}: entities loaded
+ * - {@code db.service.jdbc}: time spent executing statements
+ *
+ * Nested service calls are counted in both the inner and the outer method.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlActivityAspect {
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the aspect.
+     *
+     * @param meterRegistry Registry the service metrics are published to
+     */
+    public SqlActivityAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Measures a service method invocation.
+     *
+     * @param joinPoint Invoked service method
+     * @return Result of the method
+     * @throws Throwable anything the method throws
+     */
+    @Around("execution(public * com.lpu.mind_maze_ai.service..*Impl.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlActivity activity = SqlActivity.current();
+        SqlActivity.Snapshot start = activity.snapshot();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlActivity.Snapshot used = activity.snapshot().since(start);
+            Tags tags = Tags.of("class", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    "method", joinPoint.getSignature().getName());
+            DistributionSummary.builder("db.service.statements")
+                    .description("JDBC statements prepared per service method call")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(256.0)
+                    .register(meterRegistry)
+                    .record(used.statements());
+            DistributionSummary.builder("db.service.entities")
+                    .description("Entities loaded per service method call")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(10_000.0)
+                    .register(meterRegistry)
+                    .record(used.entities());
+            Timer.builder("db.service.jdbc")
+                    .description("JDBC execution time per service method call")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(used.jdbcNanos()));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.lpu.mind_maze_ai.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuration of the per-thread SQL activity tracking.
+ * Configures:
+ * - A session listener counting prepared statements and JDBC execution time
+ * - A post-load listener counting loaded entities
+ *
+ * The totals are turned into per-request and per-service-method metrics by
+ * {@link SqlActivityFilter} and {@link SqlActivityAspect}.
+ */
+@Configuration
+public class SqlActivityConfig {
+
+    /**
+     * Registers the SQL activity listeners with Hibernate.
+     *
+     * @return Customizer adding the listeners to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlActivityCustomizer() {
+        IntegratorProvider integrators = () -> List.of(new PostLoadCounter());
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlActivitySessionListener.class.getName());
+            properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, integrators);
+        };
+    }
+
+    /**
+     * Integrator appending the entity counter to Hibernate's post-load listeners.
+     * Entities assembled from the second-level cache are counted as well.
+     */
+    private static class PostLoadCounter implements Integrator {
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> SqlActivity.current().entityLoaded());
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
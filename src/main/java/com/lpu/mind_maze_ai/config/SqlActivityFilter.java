@@ -0,0 +1,104 @@
+package com.lpu.mind_maze_ai.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Filter measuring the database work of each HTTP request.
+ * Runs ahead of the security filters, so the authentication lookups are included.
+ *
+ * Publishes, tagged by HTTP method and URI pattern:
+ * - {@code db.request.statements}: prepared JDBC statements
+ * - {@code db.request.entities}: entities loaded
+ * - {@code db.request.jdbc}: time spent executing statements
+ *
+ * Requests issuing more statements than {@code quiz.sql.statement-budget} are logged.
+ * The measured activity is also left on the request under {@link #ACTIVITY_ATTRIBUTE} for tests.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlActivityFilter extends OncePerRequestFilter {
+    /** Request attribute holding the {@link SqlActivity.Snapshot} of the request */
+    public static final String ACTIVITY_ATTRIBUTE = SqlActivityFilter.class.getName() + ".activity";
+    private static final Logger logger = LoggerFactory.getLogger(SqlActivityFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    /**
+     * Creates the filter.
+     *
+     * @param meterRegistry Registry the request metrics are published to
+     * @param statementBudget Number of statements a request may issue before it is logged
+     */
+    public SqlActivityFilter(MeterRegistry meterRegistry, @Value("${quiz.sql.statement-budget}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlActivity activity = SqlActivity.current();
+        SqlActivity.Snapshot start = activity.snapshot();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlActivity.Snapshot used = activity.snapshot().since(start);
+            request.setAttribute(ACTIVITY_ATTRIBUTE, used);
+            record(request, used);
+        }
+    }
+
+    /**
+     * Publishes the activity of a request and logs it if it exceeded the budget.
+     *
+     * @param request Finished request
+     * @param used Activity of the request
+     */
+    private void record(HttpServletRequest request, SqlActivity.Snapshot used) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? "UNKNOWN" : pattern.toString());
+        DistributionSummary.builder("db.request.statements")
+                .description("JDBC statements prepared per HTTP request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(256.0)
+                .register(meterRegistry)
+                .record(used.statements());
+        DistributionSummary.builder("db.request.entities")
+                .description("Entities loaded per HTTP request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry)
+                .record(used.entities());
+        Timer.builder("db.request.jdbc")
+                .description("JDBC execution time per HTTP request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(used.jdbcNanos()));
+        if (used.statements() > statementBudget) {
+            logger.warn("{} {} issued {} SQL statements (budget {}), loaded {} entities, spent {} ms in JDBC",
+                    request.getMethod(), request.getRequestURI(), used.statements(), statementBudget,
+                    used.entities(), used.jdbcNanos() / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.lpu.mind_maze_ai.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener feeding {@link SqlActivity}.
+ * Counts statements where Hibernate's own statistics count them, at preparation,
+ * so the numbers match {@code Statistics#getPrepareStatementCount()}.
+ * A new instance is attached to every session.
+ */
+public class SqlActivitySessionListener implements SessionEventListener {
+    private long executionStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        SqlActivity.current().statementPrepared();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlActivity.current().jdbcTime(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlActivity.current().jdbcTime(System.nanoTime() - executionStart);
+    }
+}
@@ -2,17 +2,21 @@ package com.lpu.mind_maze_ai.controller;
 
 import com.lpu.mind_maze_ai.entity.CustomUserDetails;
 import com.lpu.mind_maze_ai.exception.ResourceAlreadyExistsException;
+import com.lpu.mind_maze_ai.model.AuthenticatedUser;
+import com.lpu.mind_maze_ai.model.TokenPair;
+import com.lpu.mind_maze_ai.service.RefreshTokenService;
+import com.lpu.mind_maze_ai.service.TokenRevocationService;
 import com.lpu.mind_maze_ai.service.UserService;
-import com.lpu.mind_maze_ai.util.JwtUtil;
 import com.lpu.mind_maze_ai.web.request.dto.CreateUserDTO;
 import com.lpu.mind_maze_ai.web.request.dto.LoginDTO;
+import com.lpu.mind_maze_ai.web.request.dto.RefreshTokenDTO;
 import com.lpu.mind_maze_ai.web.response.dto.UserDTO;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -21,28 +25,31 @@ import org.slf4j.LoggerFactory;
 
 /**
  * REST Controller for handling authentication operations.
- * Provides endpoints for user registration and login.
- * Manages JWT token generation and user authentication.
+ * Provides endpoints for user registration, login, token refresh and logout.
+ * Manages short-lived JWT access tokens, rotating refresh tokens and user authentication.
  */
 @RestController
 @RequestMapping("/api/v1/auth")
 public class AuthController {
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
     private final AuthenticationManager authenticationManager;
-    private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthController(AuthenticationManager authenticationManager, JwtUtil jwtUtil, UserService userService) {
+    public AuthController(AuthenticationManager authenticationManager, UserService userService,
+                          RefreshTokenService refreshTokenService, TokenRevocationService tokenRevocationService) {
         this.authenticationManager = authenticationManager;
-        this.jwtUtil = jwtUtil;
         this.userService = userService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
-     * Authenticates a user and returns a JWT token.
+     * Authenticates a user and returns an access token with a refresh token.
      *
      * @param loginDTO Contains user login credentials
-     * @return Map containing the JWT token
+     * @return Map containing the JWT access token and the refresh token
      * @throws org.springframework.security.core.AuthenticationException if authentication fails
      */
     @PostMapping("/login")
@@ -53,12 +60,10 @@ public class AuthController {
                     new UsernamePasswordAuthenticationToken(loginDTO.getUsername(), loginDTO.getPassword()));
 
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            String token = jwtUtil.generateToken(authentication.getName(), userDetails.getId(),
-                userDetails.getName(), userDetails.getAuthorities().stream()
-                    .map(GrantedAuthority::getAuthority).toList());
+            TokenPair tokens = refreshTokenService.createSession(userDetails);
 
             logger.info("Successful login for user: {}", loginDTO.getUsername());
-            return Map.of("token", token);
+            return toResponse(tokens);
         } catch (Exception e) {
             logger.error("Failed login attempt for user: {}", loginDTO.getUsername(), e);
             throw e;
@@ -86,4 +91,46 @@ public class AuthController {
             throw e;
         }
     }
+
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     * Each refresh token can be used once; presenting a used one revokes its whole session.
+     *
+     * @param refreshTokenDTO Contains the refresh token
+     * @return Map containing the new JWT access token and refresh token
+     * @throws com.lpu.mind_maze_ai.exception.InvalidRefreshTokenException if the token can not be exchanged
+     */
+    @PostMapping("/refresh")
+    public Map<String, String> refresh(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO) {
+        return toResponse(refreshTokenService.rotate(refreshTokenDTO.getRefreshToken()));
+    }
+
+    /**
+     * Logs out a single session by revoking its refresh token and the access tokens issued from it.
+     *
+     * @param refreshTokenDTO Contains the refresh token of the session
+     * @return Empty response, also for unknown tokens
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO) {
+        refreshTokenService.revoke(refreshTokenDTO.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Logs the user out of every device by revoking all access and refresh tokens issued to them so far.
+     *
+     * @param user Principal of the authenticated request
+     * @return Empty response once the tokens are revoked
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal AuthenticatedUser user) {
+        tokenRevocationService.revokeTokens(user.id());
+        logger.info("Logged out user: {}", user.username());
+        return ResponseEntity.noContent().build();
+    }
+
+    private static Map<String, String> toResponse(TokenPair tokens) {
+        return Map.of("token", tokens.accessToken(), "refreshToken", tokens.refreshToken());
+    }
 }
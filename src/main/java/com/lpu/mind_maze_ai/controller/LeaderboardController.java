@@ -0,0 +1,79 @@
+package com.lpu.mind_maze_ai.controller;
+
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.service.LeaderboardService;
+import com.lpu.mind_maze_ai.web.response.dto.LeaderboardEntryDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for leaderboards.
+ * Provides endpoints for:
+ * - Top users per quiz type and quiz level
+ * - A user's own rank per quiz type and quiz level
+ */
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+public class LeaderboardController {
+    private static final int MAX_LIMIT = 100;
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Retrieves the top users for a quiz type.
+     *
+     * @param quizType Type of quiz
+     * @param limit Number of entries to return (at most 100)
+     * @return ResponseEntity containing the ranked entries
+     */
+    @GetMapping("/type/{quizType}")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getTopByType(@PathVariable QuizType quizType,
+                                                                  @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTopByType(quizType, Math.clamp(limit, 1, MAX_LIMIT)));
+    }
+
+    /**
+     * Retrieves the top users for a quiz level.
+     *
+     * @param quizLevel Difficulty level of quiz
+     * @param limit Number of entries to return (at most 100)
+     * @return ResponseEntity containing the ranked entries
+     */
+    @GetMapping("/level/{quizLevel}")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getTopByLevel(@PathVariable QuizLevel quizLevel,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTopByLevel(quizLevel, Math.clamp(limit, 1, MAX_LIMIT)));
+    }
+
+    /**
+     * Retrieves a user's rank for a quiz type.
+     *
+     * @param quizType Type of quiz
+     * @param userId ID of the user
+     * @return ResponseEntity containing the user's entry, or no content if the user has no score
+     */
+    @GetMapping("/type/{quizType}/rank")
+    public ResponseEntity<LeaderboardEntryDTO> getRankByType(@PathVariable QuizType quizType, @RequestParam Long userId) {
+        return leaderboardService.getRankByType(quizType, userId)
+                .map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Retrieves a user's rank for a quiz level.
+     *
+     * @param quizLevel Difficulty level of quiz
+     * @param userId ID of the user
+     * @return ResponseEntity containing the user's entry, or no content if the user has no score
+     */
+    @GetMapping("/level/{quizLevel}/rank")
+    public ResponseEntity<LeaderboardEntryDTO> getRankByLevel(@PathVariable QuizLevel quizLevel, @RequestParam Long userId) {
+        return leaderboardService.getRankByLevel(quizLevel, userId)
+                .map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
@@ -1,13 +1,23 @@
 package com.lpu.mind_maze_ai.controller;
 
 import com.lpu.mind_maze_ai.exception.QuestionAlreadyAskedException;
+import com.lpu.mind_maze_ai.service.OfflineQuizService;
 import com.lpu.mind_maze_ai.service.QuizProgressService;
+import com.lpu.mind_maze_ai.service.QuizResultService;
+import com.lpu.mind_maze_ai.web.request.dto.SubmitAnswerSheetDTO;
+import com.lpu.mind_maze_ai.web.response.dto.AnswerSheetDTO;
 import com.lpu.mind_maze_ai.web.response.dto.CorrectResponseDTO;
 import com.lpu.mind_maze_ai.web.response.dto.QuestionDTO;
+import com.lpu.mind_maze_ai.web.response.dto.QuizResultDTO;
 import com.lpu.mind_maze_ai.web.response.dto.ScoreDTO;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -17,15 +27,24 @@ import java.util.Optional;
  * - Getting random questions
  * - Saving answer progress
  * - Resuming quizzes
- * - Retrieving scores
+ * - Retrieving scores and finalized results
+ * - Downloading and submitting offline answer sheets
  */
 @RestController
 @RequestMapping("/api/v1/question")
 public class QuestionController {
+    /** Finalized results never change, so clients may keep them for as long as they like */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
     private final QuizProgressService quizProgressService;
+    private final OfflineQuizService offlineQuizService;
+    private final QuizResultService quizResultService;
 
-    public QuestionController(QuizProgressService quizProgressService) {
+    public QuestionController(QuizProgressService quizProgressService, OfflineQuizService offlineQuizService,
+                              QuizResultService quizResultService) {
         this.quizProgressService = quizProgressService;
+        this.offlineQuizService = offlineQuizService;
+        this.quizResultService = quizResultService;
     }
 
     /**
@@ -49,12 +68,14 @@ public class QuestionController {
      * @param userId ID of the user
      * @param questionId ID of the question being answered
      * @param selectedOption User's selected answer
+     * @param prefetchNext Whether to include the next question in the response
      * @return ResponseEntity containing answer correctness information
      */
     @PostMapping("/saveProgress")
     public ResponseEntity<CorrectResponseDTO> saveProgress(@RequestParam String quizId, @RequestParam Long userId,
-                                          @RequestParam String questionId, @RequestParam String selectedOption) {
-        CorrectResponseDTO correctResponseDTO = quizProgressService.saveProgress(quizId, userId, questionId, selectedOption);
+                                          @RequestParam String questionId, @RequestParam String selectedOption,
+                                          @RequestParam(defaultValue = "false") boolean prefetchNext) {
+        CorrectResponseDTO correctResponseDTO = quizProgressService.saveProgress(quizId, userId, questionId, selectedOption, prefetchNext);
         return ResponseEntity.ok().body(correctResponseDTO);
     }
 
@@ -64,8 +85,65 @@ public class QuestionController {
         return question.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.noContent().build());
     }
 
+    /**
+     * Retrieves the score of a quiz attempt.
+     * Scores of completed attempts are marked as cacheable by the client.
+     *
+     * @param quizId ID of the quiz
+     * @param userId ID of the user
+     * @return ResponseEntity containing the score
+     */
     @GetMapping("/score")
     public ResponseEntity<ScoreDTO> getScore(@RequestParam String quizId, @RequestParam Long userId) {
-        return ResponseEntity.ok(quizProgressService.getScore(quizId, userId));
+        ScoreDTO score = quizProgressService.getScore(quizId, userId);
+        if (Boolean.TRUE.equals(score.getCompleted())) {
+            return ResponseEntity.ok().cacheControl(IMMUTABLE).body(score);
+        }
+        return ResponseEntity.ok(score);
+    }
+
+    /**
+     * Retrieves the immutable result of a finished attempt.
+     * The ETag only depends on the quiz and user, so revalidation is answered
+     * with 304 NOT_MODIFIED without reading the database.
+     *
+     * @param quizId ID of the quiz
+     * @param userId ID of the user
+     * @param ifNoneMatch ETag of a previously fetched result, if any
+     * @return ResponseEntity containing the result, or no content if the attempt has not been finalized yet
+     */
+    @GetMapping("/result")
+    public ResponseEntity<QuizResultDTO> getResult(@RequestParam String quizId, @RequestParam Long userId,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = "\"" + quizId + "-" + userId + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(IMMUTABLE).eTag(eTag).build();
+        }
+        return quizResultService.getResult(quizId, userId)
+                .map(result -> ResponseEntity.ok().cacheControl(IMMUTABLE).eTag(eTag).body(result))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Downloads every question of a quiz for offline, client-side grading.
+     *
+     * @param quizId ID of the quiz
+     * @param userId ID of the user taking the quiz
+     * @return ResponseEntity containing the signed answer sheet
+     */
+    @GetMapping("/sheet")
+    public ResponseEntity<AnswerSheetDTO> getAnswerSheet(@RequestParam String quizId, @RequestParam Long userId) {
+        return ResponseEntity.ok(offlineQuizService.getAnswerSheet(quizId, userId));
+    }
+
+    /**
+     * Uploads the answers of an offline attempt and records the final score.
+     *
+     * @param answerSheet Signed answer sheet with the user's answers
+     * @return ResponseEntity containing the final score
+     */
+    @PostMapping("/sheet")
+    public ResponseEntity<ScoreDTO> submitAnswerSheet(@Valid @RequestBody SubmitAnswerSheetDTO answerSheet) {
+        return ResponseEntity.ok(offlineQuizService.submitAnswerSheet(answerSheet));
     }
 }
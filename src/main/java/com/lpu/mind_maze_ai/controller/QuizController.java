@@ -1,15 +1,27 @@
 package com.lpu.mind_maze_ai.controller;
 
 import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.model.CreationStatus;
+import com.lpu.mind_maze_ai.model.GenerationBacklog;
+import com.lpu.mind_maze_ai.model.ImportFormat;
+import com.lpu.mind_maze_ai.model.QuizLevel;
 import com.lpu.mind_maze_ai.model.QuizMapper;
+import com.lpu.mind_maze_ai.model.QuizSummary;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.service.QuestionImportService;
+import com.lpu.mind_maze_ai.service.QuizGenerationScheduler;
 import com.lpu.mind_maze_ai.service.QuizService;
 import com.lpu.mind_maze_ai.web.request.dto.CreateQuizDTO;
+import com.lpu.mind_maze_ai.web.response.dto.GenerationBacklogDTO;
 import com.lpu.mind_maze_ai.web.response.dto.QuizDTO;
+import com.lpu.mind_maze_ai.web.response.dto.QuizPageDTO;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.InputStream;
 
 /**
  * REST Controller for managing quiz operations.
@@ -17,6 +29,8 @@ import java.util.List;
  * - Creating new quizzes
  * - Retrieving existing quizzes
  * - Deleting quizzes
+ * - Importing curated question banks
+ * - Reporting quizzes waiting for generation
  *
  * All operations are user-specific and require authentication.
  */
@@ -24,28 +38,59 @@ import java.util.List;
 @RequestMapping("/api/v1/quiz")
 public class QuizController {
     private final QuizService quizService;
+    private final QuestionImportService questionImportService;
+    private final QuizGenerationScheduler quizGenerationScheduler;
 
     /**
      * Creates a new QuizController with required dependencies.
      *
      * @param quizService Service handling quiz business logic
+     * @param questionImportService Service importing curated question banks
+     * @param quizGenerationScheduler Scheduler queuing quizzes for question generation
      */
-    public QuizController(QuizService quizService) {
+    public QuizController(QuizService quizService, QuestionImportService questionImportService,
+                          QuizGenerationScheduler quizGenerationScheduler) {
         this.quizService = quizService;
+        this.questionImportService = questionImportService;
+        this.quizGenerationScheduler = quizGenerationScheduler;
     }
 
     /**
-     * Retrieves all quizzes for a specific user.
+     * Retrieves a page of quizzes for a specific user, newest first.
      *
      * @param userId ID of the user whose quizzes to retrieve
-     * @return ResponseEntity containing list of QuizDTOs
+     * @param quizType Optional quiz type filter
+     * @param quizLevel Optional quiz level filter
+     * @param creationStatus Optional creation status filter
+     * @param cursor Cursor returned with the previous page; omit for the first page
+     * @param size Maximum number of quizzes per page (capped at 100)
+     * @return ResponseEntity containing the page of QuizDTOs and the next cursor
      */
     @GetMapping
-    public ResponseEntity<List<QuizDTO>> getAllQuiz(@RequestParam Long userId) {
-        // Logic to get all quizzes for a user
-        List<Quiz> allQuizzes = quizService.getAllQuizzesByUser(userId);
-        List<QuizDTO> quizDTOList = allQuizzes.stream().map(QuizMapper::toDTO).toList();
-        return ResponseEntity.ok(quizDTOList);
+    public ResponseEntity<QuizPageDTO> getAllQuiz(@RequestParam Long userId,
+                                                  @RequestParam(required = false) QuizType quizType,
+                                                  @RequestParam(required = false) QuizLevel quizLevel,
+                                                  @RequestParam(required = false) CreationStatus creationStatus,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int size) {
+        // Logic to get a page of quizzes for a user
+        QuizPageDTO quizPage = quizService.getQuizPage(userId, quizType, quizLevel, creationStatus, cursor, size);
+        return ResponseEntity.ok(quizPage);
+    }
+
+    /**
+     * Reports the user's quizzes that are waiting for question generation.
+     *
+     * @param userId ID of the user whose queue to report
+     * @return ResponseEntity containing the number of waiting quizzes and the oldest one's wait
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<GenerationBacklogDTO> getGenerationBacklog(@RequestParam Long userId) {
+        GenerationBacklog backlog = quizGenerationScheduler.backlog(userId);
+        GenerationBacklogDTO backlogDTO = new GenerationBacklogDTO();
+        backlogDTO.setQueued(backlog.queued());
+        backlogDTO.setWaitMillis(backlog.waitMillis());
+        return ResponseEntity.ok(backlogDTO);
     }
 
     /**
@@ -58,7 +103,7 @@ public class QuizController {
     @GetMapping("/{quizId}")
     public ResponseEntity<QuizDTO> getQuiz(@PathVariable String quizId, @RequestParam Long userId) {
         // Logic to get a quiz for a user
-        Quiz quizById = quizService.getQuizByIdAndUser(quizId, userId);
+        QuizSummary quizById = quizService.getQuizByIdAndUser(quizId, userId);
         QuizDTO quizDTO = QuizMapper.toDTO(quizById);
         return ResponseEntity.ok(quizDTO);
     }
@@ -79,16 +124,44 @@ public class QuizController {
 
     /**
      * Creates a new quiz for a user.
+     * Clients should send an Idempotency-Key header that stays the same across retries of one request;
+     * a retry then returns the quiz of the first attempt instead of generating another one.
      *
      * @param createQuizDTO Data Transfer Object containing quiz details
      * @param userId ID of the user creating the quiz
+     * @param idempotencyKey Optional key identifying retries of the same request
      * @return ResponseEntity containing the created QuizDTO
      */
     @PostMapping("/create")
-    public ResponseEntity<QuizDTO> createQuiz(@Valid @RequestBody CreateQuizDTO createQuizDTO, @RequestParam Long userId) {
+    public ResponseEntity<QuizDTO> createQuiz(@Valid @RequestBody CreateQuizDTO createQuizDTO, @RequestParam Long userId,
+                                              @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
         // Logic to create a quiz for a user
-        Quiz quizCreated = quizService.createQuizForUser(createQuizDTO, userId);
+        Quiz quizCreated = quizService.createQuizForUser(createQuizDTO, userId, idempotencyKey);
         QuizDTO quizDTO = QuizMapper.toDTO(quizCreated);
         return ResponseEntity.ok(quizDTO);
     }
+
+    /**
+     * Creates a ready-to-play quiz from a curated question bank.
+     * The body is streamed straight into the database, so large banks are never held in memory.
+     *
+     * CSV bodies need a header row with the columns question, options and answer,
+     * where options are separated by semicolons. NDJSON bodies contain one
+     * {"question", "options", "answer"} object per line.
+     *
+     * @param body Raw request body
+     * @param contentType Content type of the body (text/csv or application/x-ndjson)
+     * @param quizType Type of the new quiz
+     * @param quizLevel Difficulty level of the new quiz
+     * @param userId ID of the user who will own the quiz
+     * @return ResponseEntity containing the created QuizDTO
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<QuizDTO> importQuiz(InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                              @RequestParam QuizType quizType, @RequestParam QuizLevel quizLevel,
+                                              @RequestParam Long userId) {
+        Quiz quizImported = questionImportService.importQuiz(body, ImportFormat.fromMediaType(contentType), quizType, quizLevel, userId);
+        QuizDTO quizDTO = QuizMapper.toDTO(quizImported);
+        return ResponseEntity.ok(quizDTO);
+    }
 }
@@ -0,0 +1,47 @@
+package com.lpu.mind_maze_ai.controller;
+
+import com.lpu.mind_maze_ai.service.UserStatsService;
+import com.lpu.mind_maze_ai.web.response.dto.UserStatsDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for user statistics.
+ * Serves accuracy and averages per quiz type and level, lifetime or per week, from the stats read model.
+ */
+@RestController
+@RequestMapping("/api/v1/stats")
+public class StatsController {
+    private static final int MAX_WEEKS = 104;
+    private final UserStatsService userStatsService;
+
+    public StatsController(UserStatsService userStatsService) {
+        this.userStatsService = userStatsService;
+    }
+
+    /**
+     * Retrieves a user's statistics per quiz type and level.
+     *
+     * @param userId ID of the user
+     * @return ResponseEntity containing the statistics
+     */
+    @GetMapping
+    public ResponseEntity<List<UserStatsDTO>> getStats(@RequestParam Long userId) {
+        return ResponseEntity.ok(userStatsService.getStats(userId));
+    }
+
+    /**
+     * Retrieves a user's statistics per week, quiz type and level.
+     *
+     * @param userId ID of the user
+     * @param weeks Number of weeks to cover, including the current one (default 12, at most 104)
+     * @return ResponseEntity containing the weekly statistics, oldest week first
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<UserStatsDTO>> getHistory(@RequestParam Long userId,
+                                                         @RequestParam(defaultValue = "12") int weeks) {
+        return ResponseEntity.ok(userStatsService.getHistory(userId, Math.clamp(weeks, 1, MAX_WEEKS)));
+    }
+}
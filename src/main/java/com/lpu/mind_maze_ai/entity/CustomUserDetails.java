@@ -7,6 +7,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -38,6 +39,9 @@ public class CustomUserDetails extends Auditable implements UserDetails {
     private String name; // New field for the user's name
     private String email; // New field for the user's email
 
+    /** Time at which all previously issued access tokens were revoked, null if never */
+    private LocalDateTime tokensRevokedAt;
+
     private final Set<GrantedAuthority> authorities;
 
     @OneToMany(mappedBy = "user")
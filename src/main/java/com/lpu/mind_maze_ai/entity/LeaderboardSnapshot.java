@@ -0,0 +1,38 @@
+package com.lpu.mind_maze_ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing one row of a periodically persisted leaderboard.
+ * Snapshots are written from the in-memory leaderboards and allow
+ * reporting without scanning quiz progress.
+ */
+@Entity
+@Getter
+@Setter
+public class LeaderboardSnapshot extends Auditable {
+    /** Unique identifier for the snapshot row */
+    @Id
+    @UuidV7
+    private UUID id;
+
+    /** Leaderboard the row belongs to (e.g., TYPE:MATH, LEVEL:EASY) */
+    private String board;
+
+    /** 1-based position on the leaderboard */
+    private int position;
+
+    /** ID of the ranked user */
+    private Long userId;
+
+    /** Accumulated number of correct answers */
+    private long score;
+
+    /** Time the score was reached */
+    private LocalDateTime achievedAt;
+}
@@ -1,9 +1,13 @@
 package com.lpu.mind_maze_ai.entity;
 
+import com.lpu.mind_maze_ai.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,16 +16,29 @@ import java.util.UUID;
  * A quiz consists of multiple questions and is associated with a specific user.
  * It tracks metadata such as quiz type, difficulty level, and creation status.
  *
+ * Composite indexes back the keyset-paginated listing: each one leads with the owner,
+ * then an optional filter column, then the (created_at, id) sort key.
+ *
+ * Quizzes and their question lists are kept in the second-level cache, so playing a quiz
+ * reads its questions from memory once they have been loaded.
+ *
  * @see QuizQuestion
  * @see CustomUserDetails
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_quiz_user_created", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_quiz_user_type_level_created", columnList = "user_id, quiz_type, quiz_level, created_at DESC, id DESC"),
+        @Index(name = "idx_quiz_user_status_created", columnList = "user_id, creation_status, created_at DESC, id DESC")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.QUIZ_REGION)
 @Getter
 @Setter
 public class Quiz extends Auditable {
     /** Unique identifier for the quiz */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     /** Type of quiz (e.g., Math, Science) */
@@ -35,13 +52,17 @@ public class Quiz extends Auditable {
 
     /** List of questions associated with this quiz */
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.QUIZ_QUESTIONS_REGION)
     private List<QuizQuestion> quizQuestionList;
 
     /** Current status of quiz creation (NOT_STARTED, IN_PROGRESS, SUCCESS, FAILURE) */
     private String creationStatus;
 
+    /** Time the owner deleted the quiz; deleted quizzes are hidden and purged in the background */
+    private LocalDateTime deletedAt;
+
     /** User who created/owns the quiz */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private CustomUserDetails user;
 }
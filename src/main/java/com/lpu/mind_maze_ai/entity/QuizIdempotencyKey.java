@@ -0,0 +1,45 @@
+package com.lpu.mind_maze_ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Idempotency key of a quiz creation request, mapping the key a client sent to the quiz it created.
+ * Only the SHA-256 digest of the key is stored, and keys are scoped per user, so one user's key
+ * never replays another user's quiz. Rows are written with an upsert and expire after a fixed time.
+ */
+@Entity
+@Table(name = "quiz_idempotency_key", uniqueConstraints =
+        @UniqueConstraint(name = "uk_quiz_idempotency_key_user_hash", columnNames = {"user_id", "key_hash"}))
+@Getter
+@Setter
+public class QuizIdempotencyKey {
+    /** Unique identifier for the key */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** ID of the user who sent the key */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Hex-encoded SHA-256 digest of the key */
+    @Column(name = "key_hash", nullable = false, length = 64)
+    private String keyHash;
+
+    /** ID of the quiz created with the key */
+    @Column(name = "quiz_id", nullable = false)
+    private UUID quizId;
+
+    /** Time the key was first used */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Time after which the key no longer replays the quiz */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
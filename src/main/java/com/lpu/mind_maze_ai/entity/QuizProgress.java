@@ -13,6 +13,11 @@ import java.util.*;
  * - Current question
  * - Score
  * - Completion status
+ *
+ * A user has at most one progress entry per quiz, live or archived. The table is partitioned by
+ * creation month, so the database cannot enforce this; attempts are created under an advisory
+ * lock on the user and quiz instead (see {@link com.lpu.mind_maze_ai.repository.QuizProgressRepository#lockAttempt}).
+ * Finished attempts are moved to {@link QuizProgressArchive} after a retention period.
  */
 @Entity
 @Getter
@@ -20,16 +25,16 @@ import java.util.*;
 public class QuizProgress extends Auditable {
     /** Unique identifier for the progress entry */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     /** User taking the quiz */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private CustomUserDetails user;
 
     /** Quiz being attempted */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "quiz_id", nullable = false)
     private Quiz quiz;
 
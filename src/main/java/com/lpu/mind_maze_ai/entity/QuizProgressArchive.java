@@ -0,0 +1,57 @@
+package com.lpu.mind_maze_ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact, append-only copy of a finished quiz attempt moved out of {@link QuizProgress}.
+ * Keeps only what the score, statistics and leaderboard views need; the asked questions
+ * and audit columns of the attempt are dropped when it is archived.
+ * The quiz type and level are copied so the row outlives a purge of its quiz.
+ */
+@Entity
+@Immutable
+@Table(name = "quiz_progress_archive", uniqueConstraints =
+        @UniqueConstraint(name = "uk_quiz_progress_archive_user_quiz", columnNames = {"user_id", "quiz_id"}))
+@Getter
+@Setter
+public class QuizProgressArchive {
+    /** ID of the archived progress entry */
+    @Id
+    private UUID id;
+
+    /** ID of the quiz */
+    @Column(name = "quiz_id", nullable = false)
+    private UUID quizId;
+
+    /** ID of the user who took the quiz */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Time the attempt was started */
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    /** Time of the attempt's last update */
+    private LocalDateTime finishedAt;
+
+    /** Number of correct answers */
+    private int score;
+
+    /** Number of wrong answers */
+    private int wrongAnswers;
+
+    /** Total number of questions in the quiz */
+    private int totalQuestions;
+
+    /** Type of quiz (e.g., Math, Science) */
+    private String quizType;
+
+    /** Difficulty level of the quiz */
+    private String quizLevel;
+}
@@ -1,8 +1,13 @@
 package com.lpu.mind_maze_ai.entity;
 
+import com.lpu.mind_maze_ai.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,28 +18,35 @@ import java.util.UUID;
  * - Question text
  * - Answer options
  * - Correct answer
+ *
+ * Questions are never modified after they are written and are cached read-only.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = HibernateCacheConfig.QUESTION_REGION)
 @Getter
 @Setter
 public class QuizQuestion extends Auditable {
     /** Unique identifier for the question */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     /** Quiz this question belongs to */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "quiz_id", nullable = false)
     private Quiz quiz;
 
     /** The question text */
     private String question;
 
-    /** List of possible answer options */
-    @ElementCollection
-    @CollectionTable(name = "quiz_options", joinColumns = @JoinColumn(name = "question_id"))
-    @Column(name = "option_value")
+    /**
+     * List of possible answer options.
+     * Stored inline as a Postgres {@code text[]} column so loading or inserting
+     * a question touches a single row instead of a separate options table.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "ans_options", columnDefinition = "text[]")
     private List<String> ansOptions;
 
     /** The correct answer option */
@@ -0,0 +1,56 @@
+package com.lpu.mind_maze_ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable record of a finished quiz attempt.
+ * Written once when the attempt is finalized and never updated afterwards,
+ * which makes it safe to cache at every layer.
+ */
+@Entity
+@Immutable
+@Table(name = "quiz_result", uniqueConstraints =
+        @UniqueConstraint(name = "uk_quiz_result_user_quiz", columnNames = {"user_id", "quiz_id"}))
+@Getter
+@Setter
+public class QuizResult {
+    /** Unique identifier for the result */
+    @Id
+    @UuidV7
+    private UUID id;
+
+    /** Progress record the result was frozen from */
+    private UUID progressId;
+
+    /** ID of the user who took the quiz */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** ID of the quiz */
+    @Column(name = "quiz_id", nullable = false)
+    private UUID quizId;
+
+    /** Type of quiz (e.g., Math, Science) */
+    private String quizType;
+
+    /** Difficulty level of the quiz */
+    private String quizLevel;
+
+    /** Number of correct answers */
+    private int correctAnswers;
+
+    /** Number of wrong answers */
+    private int wrongAnswers;
+
+    /** Total number of questions in the quiz */
+    private int totalQuestions;
+
+    /** Time the attempt was finalized */
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,51 @@
+package com.lpu.mind_maze_ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh token issued at login and rotated on every use.
+ * Only the SHA-256 digest of the token is stored. Tokens rotated from the same login share
+ * a session ID, so a whole login can be revoked at once, e.g. when a used token is replayed.
+ */
+@Entity
+@Table(name = "refresh_token", uniqueConstraints =
+        @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"))
+@Getter
+@Setter
+public class RefreshToken {
+    /** Unique identifier for the token */
+    @Id
+    @UuidV7
+    private UUID id;
+
+    /** Login session the token belongs to, carried by access tokens as the "sid" claim */
+    @Column(name = "session_id", nullable = false)
+    private UUID sessionId;
+
+    /** ID of the user the token was issued to */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Hex-encoded SHA-256 digest of the token */
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    /** Time the token was issued */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Time after which the token is no longer accepted */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** Time the token was exchanged for a new one, null while unused */
+    private LocalDateTime usedAt;
+
+    /** Time the token's session was revoked, null while active */
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,57 @@
+package com.lpu.mind_maze_ai.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized read model holding a user's totals per quiz type, level and week.
+ * Rows are maintained incrementally from answer events with atomic upserts
+ * and can be rebuilt from quiz progress for backfill.
+ */
+@Entity
+@Table(name = "user_quiz_stats", uniqueConstraints =
+        @UniqueConstraint(name = "uk_user_quiz_stats_user_type_level_period",
+                columnNames = {"user_id", "quiz_type", "quiz_level", "period_start"}))
+@Getter
+@Setter
+public class UserQuizStats {
+    /** Unique identifier for the stats row */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** ID of the user */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Type of quiz (e.g., Math, Science) */
+    @Column(name = "quiz_type", nullable = false)
+    private String quizType;
+
+    /** Difficulty level of the quiz */
+    @Column(name = "quiz_level", nullable = false)
+    private String quizLevel;
+
+    /** First day (Monday) of the week the counts belong to */
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    /** Number of quiz attempts started */
+    private long attempts;
+
+    /** Number of attempts finished */
+    private long completedAttempts;
+
+    /** Number of correct answers given in the week */
+    private long correctAnswers;
+
+    /** Number of wrong answers given in the week */
+    private long wrongAnswers;
+
+    /** Time of the last change */
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.lpu.mind_maze_ai.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated UUID identifier as a time-ordered UUIDv7 before the entity is inserted.
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)} on UUID-keyed entities.
+ *
+ * @see UuidV7Generator
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,54 @@
+package com.lpu.mind_maze_ai.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hibernate identifier generator producing UUIDv7 values (RFC 9562).
+ * The most significant 48 bits hold the Unix time in milliseconds, so new keys sort after existing ones
+ * and B-tree inserts append to the rightmost index page instead of splitting random pages.
+ *
+ * Implementation Details:
+ * 1. The 12 bits after the version hold a counter, so identifiers generated within the same
+ *    millisecond on this JVM still increase; an exhausted counter borrows the next millisecond
+ * 2. The remaining 62 bits are random, drawn from the same kind of source as {@link UUID#randomUUID()}
+ * 3. Identifiers keep the standard textual form, so API clients see no difference
+ *
+ * @see UuidV7
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    /** Last issued timestamp in milliseconds shifted left by 12, plus the counter */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * Creates a new UUIDv7 value.
+     * Also used for identifiers assigned outside Hibernate, such as bulk imports.
+     *
+     * @return Time-ordered UUID
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long timeAndCounter = LAST.updateAndGet(last -> Math.max(now, last + 1));
+        long mostSignificant = (timeAndCounter >>> 12) << 16 | 0x7000L | (timeAndCounter & 0xFFFL);
+        long leastSignificant = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,19 @@
+package com.lpu.mind_maze_ai.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published whenever answers are graded for a quiz attempt.
+ * Carries the change in correct and wrong answer counts so listeners can
+ * maintain derived views incrementally instead of recomputing them.
+ *
+ * @param userId       ID of the user taking the quiz
+ * @param quizId       ID of the quiz
+ * @param quizType     Type of the quiz (e.g., MATH)
+ * @param quizLevel    Difficulty level of the quiz (e.g., EASY)
+ * @param correctDelta Change in the number of correct answers
+ * @param wrongDelta   Change in the number of wrong answers
+ */
+public record AnswerRecordedEvent(Long userId, UUID quizId, String quizType, String quizLevel,
+                                  int correctDelta, int wrongDelta) {
+}
@@ -0,0 +1,15 @@
+package com.lpu.mind_maze_ai.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a user starts a new attempt of a quiz,
+ * i.e. when their progress record for the quiz is created.
+ *
+ * @param userId    ID of the user taking the quiz
+ * @param quizId    ID of the quiz
+ * @param quizType  Type of the quiz (e.g., MATH)
+ * @param quizLevel Difficulty level of the quiz (e.g., EASY)
+ */
+public record QuizAttemptStartedEvent(Long userId, UUID quizId, String quizType, String quizLevel) {
+}
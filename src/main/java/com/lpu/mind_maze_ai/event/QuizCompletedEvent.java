@@ -0,0 +1,14 @@
+package com.lpu.mind_maze_ai.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when the final answer of a quiz attempt has been recorded.
+ * Triggers asynchronous finalization of the attempt.
+ *
+ * @param progressId ID of the completed progress record
+ * @param userId     ID of the user who took the quiz
+ * @param quizId     ID of the quiz
+ */
+public record QuizCompletedEvent(UUID progressId, Long userId, UUID quizId) {
+}
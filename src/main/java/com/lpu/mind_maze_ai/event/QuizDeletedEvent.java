@@ -0,0 +1,13 @@
+package com.lpu.mind_maze_ai.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a user deletes a quiz.
+ * Cancels generation of the quiz if it is still queued or running and takes its scores off the leaderboards.
+ *
+ * @param quizId ID of the deleted quiz
+ * @param userId ID of the user who owned the quiz
+ */
+public record QuizDeletedEvent(UUID quizId, Long userId) {
+}
@@ -1,6 +1,7 @@
 package com.lpu.mind_maze_ai.exception;
 
 import com.lpu.mind_maze_ai.web.response.dto.ExceptionDTO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -39,4 +40,110 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NO_CONTENT)
                 .body(new ExceptionDTO(ex.getMessage(), HttpStatus.NO_CONTENT.value()));
     }
+
+    /**
+     * Handles answer sheets that fail verification.
+     * Returns HTTP 400 BAD_REQUEST with error details.
+     *
+     * @param ex The exception containing the rejection reason
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(InvalidAnswerSheetException.class)
+    public ResponseEntity<ExceptionDTO> handleInvalidAnswerSheet(InvalidAnswerSheetException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.BAD_REQUEST.value()));
+    }
+
+    /**
+     * Handles requests for quizzes whose generation has not succeeded.
+     * Returns HTTP 409 CONFLICT with error details.
+     *
+     * @param ex The exception containing the quiz status
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(QuizNotReadyException.class)
+    public ResponseEntity<ExceptionDTO> handleQuizNotReady(QuizNotReadyException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.CONFLICT.value()));
+    }
+
+    /**
+     * Handles answers to questions that are not awaiting an answer in the attempt.
+     * Returns HTTP 409 CONFLICT with error details.
+     *
+     * @param ex The exception identifying the attempt and the question
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(QuestionNotPendingException.class)
+    public ResponseEntity<ExceptionDTO> handleQuestionNotPending(QuestionNotPendingException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.CONFLICT.value()));
+    }
+
+    /**
+     * Handles pagination cursors that cannot be decoded.
+     * Returns HTTP 400 BAD_REQUEST with error details.
+     *
+     * @param ex The exception containing the rejection reason
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ExceptionDTO> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.BAD_REQUEST.value()));
+    }
+
+    /**
+     * Handles question bank imports that cannot be accepted.
+     * Returns HTTP 400 BAD_REQUEST with error details.
+     *
+     * @param ex The exception containing the rejection reason
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<ExceptionDTO> handleInvalidImport(InvalidImportException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.BAD_REQUEST.value()));
+    }
+
+    /**
+     * Handles requests shed because the server is saturated.
+     * Returns HTTP 503 SERVICE_UNAVAILABLE with a Retry-After hint and error details.
+     *
+     * @param ex The exception naming the saturated resource
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ExceptionDTO> handleServerBusy(ServerBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
+    /**
+     * Handles requests from users who have used up their rate limit.
+     * Returns HTTP 429 TOO MANY REQUESTS with a Retry-After header telling the client when to try again.
+     *
+     * @param ex The exception containing the limit details
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ExceptionDTO> handleRateLimitExceeded(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS.value()));
+    }
+
+    /**
+     * Handles refresh tokens that can not be exchanged.
+     * Returns HTTP 401 UNAUTHORIZED with error details; the client has to log in again.
+     *
+     * @param ex The exception containing the rejection reason
+     * @return ResponseEntity with error information
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ExceptionDTO> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ExceptionDTO(ex.getMessage(), HttpStatus.UNAUTHORIZED.value()));
+    }
 }
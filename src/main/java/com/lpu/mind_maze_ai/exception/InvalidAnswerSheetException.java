@@ -0,0 +1,20 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when an uploaded answer sheet cannot be accepted,
+ * e.g. because its signature is invalid, it has expired or it was issued to another user.
+ */
+public class InvalidAnswerSheetException extends RuntimeException {
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Description of why the answer sheet was rejected
+     */
+    public InvalidAnswerSheetException(String message) {
+        super(message);
+    }
+
+    public InvalidAnswerSheetException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
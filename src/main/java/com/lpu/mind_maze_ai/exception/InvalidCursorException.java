@@ -0,0 +1,16 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when a pagination cursor supplied by a client cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Description of why the cursor was rejected
+     * @param cause Underlying decoding failure
+     */
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
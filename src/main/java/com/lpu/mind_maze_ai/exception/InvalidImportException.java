@@ -0,0 +1,20 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when an uploaded question bank cannot be imported,
+ * e.g. because a row is malformed or the bank exceeds the size limit.
+ */
+public class InvalidImportException extends RuntimeException {
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Description of why the import was rejected
+     */
+    public InvalidImportException(String message) {
+        super(message);
+    }
+
+    public InvalidImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired, revoked or already used.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Reason the token was rejected
+     */
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidRefreshTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when an answer is submitted for a question that is not
+ * awaiting an answer in the attempt, because it was never handed out or
+ * has already been answered.
+ */
+public class QuestionNotPendingException extends RuntimeException {
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Description identifying the attempt and the question
+     */
+    public QuestionNotPendingException(String message) {
+        super(message);
+    }
+}
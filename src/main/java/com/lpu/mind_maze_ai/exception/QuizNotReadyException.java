@@ -0,0 +1,20 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when an operation requires a fully generated quiz
+ * but question generation has not completed successfully.
+ */
+public class QuizNotReadyException extends RuntimeException {
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Description identifying the quiz and its current status
+     */
+    public QuizNotReadyException(String message) {
+        super(message);
+    }
+
+    public QuizNotReadyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
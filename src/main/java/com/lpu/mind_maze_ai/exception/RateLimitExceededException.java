@@ -0,0 +1,24 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when a user has used up their request budget.
+ */
+public class RateLimitExceededException extends RuntimeException {
+    /** Number of seconds after which the request could succeed */
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Description of the exceeded limit
+     * @param retryAfterSeconds Number of seconds after which the request could succeed
+     */
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.lpu.mind_maze_ai.exception;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource,
+ * such as the password hashing pool, is saturated.
+ */
+public class ServerBusyException extends RuntimeException {
+    /**
+     * Constructs exception with error message.
+     *
+     * @param message Description of the saturated resource
+     */
+    public ServerBusyException(String message) {
+        super(message);
+    }
+
+    public ServerBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lpu.mind_maze_ai.model;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Principal of a request authenticated with an access token.
+ * Built from the verified token claims, so authenticating a request needs no user lookup.
+ *
+ * @param id          ID of the user
+ * @param username    Username of the user, returned as the principal name
+ * @param fullName    Full name of the user
+ * @param authorities Roles granted to the user when the token was issued
+ */
+public record AuthenticatedUser(Long id, String username, String fullName,
+                                List<GrantedAuthority> authorities) implements Principal {
+    @Override
+    public String getName() {
+        return username;
+    }
+}
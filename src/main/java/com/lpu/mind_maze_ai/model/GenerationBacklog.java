@@ -0,0 +1,10 @@
+package com.lpu.mind_maze_ai.model;
+
+/**
+ * Quizzes of one user waiting for generation.
+ *
+ * @param queued Number of the user's quizzes waiting for generation
+ * @param waitMillis Time the user's oldest waiting quiz has been queued
+ */
+public record GenerationBacklog(int queued, long waitMillis) {
+}
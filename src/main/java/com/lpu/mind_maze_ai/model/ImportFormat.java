@@ -0,0 +1,40 @@
+package com.lpu.mind_maze_ai.model;
+
+import com.lpu.mind_maze_ai.exception.InvalidImportException;
+import org.springframework.http.MediaType;
+
+/**
+ * Enumeration of the formats accepted by the question bank import.
+ */
+public enum ImportFormat {
+    /** Comma separated values with a header row; options are separated by semicolons */
+    CSV("text/csv"),
+    /** Newline delimited JSON, one question object per line */
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolves the import format from a request content type.
+     *
+     * @param contentType Content type of the uploaded body
+     * @return Matching import format
+     * @throws InvalidImportException if the content type is not supported
+     */
+    public static ImportFormat fromMediaType(MediaType contentType) {
+        for (ImportFormat format : values()) {
+            if (MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(contentType)) {
+                return format;
+            }
+        }
+        throw new InvalidImportException("Unsupported import content type: " + contentType);
+    }
+}
@@ -0,0 +1,21 @@
+package com.lpu.mind_maze_ai.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Immutable position of a user on a leaderboard.
+ * Entries are ordered by score (highest first), then by the time the score was
+ * reached (earliest first) and finally by user ID to keep the order total.
+ *
+ * @param userId     ID of the user
+ * @param score      Accumulated number of correct answers
+ * @param achievedAt Time the score was reached
+ */
+public record LeaderboardEntry(Long userId, long score, LocalDateTime achievedAt) {
+    /** Ranking order of leaderboard entries */
+    public static final Comparator<LeaderboardEntry> RANKING = Comparator
+            .comparingLong(LeaderboardEntry::score).reversed()
+            .thenComparing(LeaderboardEntry::achievedAt)
+            .thenComparing(LeaderboardEntry::userId);
+}
@@ -0,0 +1,12 @@
+package com.lpu.mind_maze_ai.model;
+
+/**
+ * Read-only projection of an empty monthly partition of quiz_progress that is due for removal.
+ */
+public interface ProgressPartition {
+    /** @return Table name of the partition, such as quiz_progress_2025_01 */
+    String getName();
+
+    /** @return "attached", "detach_pending" after an interrupted concurrent detach, or "detached" */
+    String getState();
+}
@@ -0,0 +1,19 @@
+package com.lpu.mind_maze_ai.model;
+
+/**
+ * Read-only projection of the score columns of a quiz attempt.
+ * Used by the score endpoint so the asked-question set and associations are never loaded.
+ */
+public interface ProgressScore {
+    /** @return Number of correct answers */
+    int getScore();
+
+    /** @return Number of wrong answers */
+    int getWrongAnswers();
+
+    /** @return Total number of questions in the attempt */
+    int getTotalQuestions();
+
+    /** @return Whether the attempt has been completed */
+    boolean isCompleted();
+}
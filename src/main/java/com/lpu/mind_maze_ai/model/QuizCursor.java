@@ -0,0 +1,56 @@
+package com.lpu.mind_maze_ai.model;
+
+import com.lpu.mind_maze_ai.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a user's quiz listing, ordered by creation time and ID descending.
+ * Travels to clients as an opaque URL-safe Base64 token.
+ *
+ * @param createdAt Creation time of the last quiz on the previous page
+ * @param id        ID of the last quiz on the previous page, breaking ties on equal creation times
+ */
+public record QuizCursor(LocalDateTime createdAt, UUID id) {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Creates the cursor pointing after the given quiz.
+     *
+     * @param quiz Last quiz of the current page
+     * @return Cursor for the next page
+     */
+    public static QuizCursor after(QuizSummary quiz) {
+        return new QuizCursor(quiz.getCreatedAt(), quiz.getId());
+    }
+
+    /**
+     * Encodes the cursor into an opaque token.
+     *
+     * @return URL-safe Base64 token
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token Opaque cursor token
+     * @return Decoded cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static QuizCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new QuizCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid pagination cursor: " + token, e);
+        }
+    }
+}
@@ -47,4 +47,24 @@ public class QuizMapper {
         quizDTO.setNumberOfQuestions(quiz.getNumberOfQuestions());
         return quizDTO;
     }
+
+    /**
+     * Converts a QuizSummary projection to a QuizDTO.
+     *
+     * @param quiz Quiz projection to convert
+     * @return QuizDTO containing quiz details
+     */
+    public static QuizDTO toDTO(QuizSummary quiz) {
+        if (quiz == null) {
+            return null;
+        }
+
+        QuizDTO quizDTO = new QuizDTO();
+        quizDTO.setQuizId(quiz.getId().toString());
+        quizDTO.setQuizType(quiz.getQuizType());
+        quizDTO.setQuizLevel(quiz.getQuizLevel());
+        quizDTO.setCreationStatus(quiz.getCreationStatus());
+        quizDTO.setNumberOfQuestions(quiz.getNumberOfQuestions());
+        return quizDTO;
+    }
 }
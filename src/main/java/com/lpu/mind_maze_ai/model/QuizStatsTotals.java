@@ -0,0 +1,27 @@
+package com.lpu.mind_maze_ai.model;
+
+/**
+ * Projection of a user's statistics counters on one quiz type and level.
+ * Used for the lifetime totals summed over the weekly stats rows.
+ *
+ * @see WeeklyQuizStats
+ */
+public interface QuizStatsTotals {
+    /** @return Type of the quizzes */
+    String getQuizType();
+
+    /** @return Difficulty level of the quizzes */
+    String getQuizLevel();
+
+    /** @return Number of attempts started */
+    long getAttempts();
+
+    /** @return Number of attempts finished */
+    long getCompletedAttempts();
+
+    /** @return Number of correct answers */
+    long getCorrectAnswers();
+
+    /** @return Number of wrong answers */
+    long getWrongAnswers();
+}
@@ -0,0 +1,28 @@
+package com.lpu.mind_maze_ai.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a quiz's own columns.
+ * Used by the quiz read endpoints so neither the owner nor the questions are loaded.
+ */
+public interface QuizSummary {
+    /** @return Unique identifier of the quiz */
+    UUID getId();
+
+    /** @return Type of the quiz */
+    String getQuizType();
+
+    /** @return Difficulty level of the quiz */
+    String getQuizLevel();
+
+    /** @return Number of questions requested for the quiz */
+    Integer getNumberOfQuestions();
+
+    /** @return Current creation status of the quiz */
+    String getCreationStatus();
+
+    /** @return Time the quiz was created, used as the pagination key */
+    LocalDateTime getCreatedAt();
+}
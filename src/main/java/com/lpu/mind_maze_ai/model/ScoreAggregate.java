@@ -0,0 +1,16 @@
+package com.lpu.mind_maze_ai.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a user's total score for one quiz type and level combination.
+ * Used to rebuild leaderboards with a single streaming scan.
+ *
+ * @param userId     ID of the user
+ * @param quizType   Type of the quizzes
+ * @param quizLevel  Difficulty level of the quizzes
+ * @param score      Sum of correct answers
+ * @param achievedAt Time of the latest progress update
+ */
+public record ScoreAggregate(Long userId, String quizType, String quizLevel, Long score, LocalDateTime achievedAt) {
+}
@@ -0,0 +1,14 @@
+package com.lpu.mind_maze_ai.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a revoked login session.
+ * Used to keep the in-memory revocation list in sync across instances.
+ *
+ * @param sessionId ID of the session, carried by its access tokens as the "sid" claim
+ * @param revokedAt Time the session was revoked
+ */
+public record SessionRevocation(UUID sessionId, LocalDateTime revokedAt) {
+}
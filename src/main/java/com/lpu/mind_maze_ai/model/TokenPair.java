@@ -0,0 +1,10 @@
+package com.lpu.mind_maze_ai.model;
+
+/**
+ * Tokens handed to a client at login and on every refresh.
+ *
+ * @param accessToken  Short-lived JWT sent with every request
+ * @param refreshToken Opaque single-use token exchanged for the next pair
+ */
+public record TokenPair(String accessToken, String refreshToken) {
+}
@@ -0,0 +1,13 @@
+package com.lpu.mind_maze_ai.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a user's access token revocation.
+ * Used to keep the in-memory revocation list in sync across instances.
+ *
+ * @param userId    ID of the user
+ * @param revokedAt Time at or before which the user's tokens were issued to be rejected
+ */
+public record TokenRevocation(Long userId, LocalDateTime revokedAt) {
+}
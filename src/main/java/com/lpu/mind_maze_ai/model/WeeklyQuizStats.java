@@ -0,0 +1,11 @@
+package com.lpu.mind_maze_ai.model;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of a user's statistics counters on one quiz type and level during one week.
+ */
+public interface WeeklyQuizStats extends QuizStatsTotals {
+    /** @return First day (Monday) of the week */
+    LocalDate getPeriodStart();
+}
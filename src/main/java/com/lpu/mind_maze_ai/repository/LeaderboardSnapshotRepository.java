@@ -0,0 +1,13 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.entity.LeaderboardSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for managing LeaderboardSnapshot entities.
+ * Stores the periodically persisted top entries of every leaderboard.
+ */
+public interface LeaderboardSnapshotRepository extends JpaRepository<LeaderboardSnapshot, UUID> {
+}
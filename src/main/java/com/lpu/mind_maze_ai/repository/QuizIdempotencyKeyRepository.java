@@ -0,0 +1,83 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.entity.QuizIdempotencyKey;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for managing QuizIdempotencyKey entities.
+ * Handles lookup, claiming and expiry of quiz creation idempotency keys.
+ * The native upsert declares the only table it writes; without it Hibernate
+ * would clear the entire second-level cache after each statement.
+ */
+public interface QuizIdempotencyKeyRepository extends JpaRepository<QuizIdempotencyKey, Long> {
+    /** Query space of the native statements */
+    String KEY_TABLE = "quiz_idempotency_key";
+
+    /**
+     * Finds the quiz created with a user's key, if the key has not expired.
+     *
+     * @param userId ID of the user
+     * @param keyHash Hex-encoded SHA-256 digest of the key
+     * @param now Current time
+     * @return Optional containing the ID of the quiz if found
+     */
+    @Query("SELECT k.quizId FROM QuizIdempotencyKey k WHERE k.userId = :userId AND k.keyHash = :keyHash AND k.expiresAt > :now")
+    Optional<UUID> findQuizId(@Param("userId") Long userId, @Param("keyHash") String keyHash, @Param("now") LocalDateTime now);
+
+    /**
+     * Checks whether a user's key, if it has not expired, names a quiz that was not deleted.
+     *
+     * @param userId ID of the user
+     * @param keyHash Hex-encoded SHA-256 digest of the key
+     * @param now Current time
+     * @return true if a request with the key would replay an existing quiz
+     */
+    @Query("SELECT count(k) > 0 FROM QuizIdempotencyKey k, Quiz q WHERE q.id = k.quizId AND q.deletedAt IS NULL " +
+            "AND k.userId = :userId AND k.keyHash = :keyHash AND k.expiresAt > :now")
+    boolean existsLive(@Param("userId") Long userId, @Param("keyHash") String keyHash, @Param("now") LocalDateTime now);
+
+    /**
+     * Records a user's key for a quiz unless a live entry for the key exists.
+     * An expired entry that has not been deleted yet is taken over, and so is an entry whose quiz
+     * was deleted, so a retry after the deletion creates a new quiz. If another request holds the key
+     * in an uncommitted transaction, the statement waits for it to finish.
+     *
+     * @param userId ID of the user
+     * @param keyHash Hex-encoded SHA-256 digest of the key
+     * @param quizId ID of the quiz created with the key
+     * @param now Current time
+     * @param expiresAt Time after which the key expires
+     * @return 1 if the key was recorded, 0 if a live entry already held it
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = KEY_TABLE))
+    @Query(value = "INSERT INTO quiz_idempotency_key (user_id, key_hash, quiz_id, created_at, expires_at) " +
+            "VALUES (:userId, :keyHash, :quizId, :now, :expiresAt) " +
+            "ON CONFLICT (user_id, key_hash) DO UPDATE SET quiz_id = EXCLUDED.quiz_id, " +
+            "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE quiz_idempotency_key.expires_at <= EXCLUDED.created_at " +
+            "OR EXISTS (SELECT 1 FROM quiz WHERE quiz.id = quiz_idempotency_key.quiz_id AND quiz.deleted_at IS NOT NULL)",
+            nativeQuery = true)
+    int claim(@Param("userId") Long userId, @Param("keyHash") String keyHash, @Param("quizId") UUID quizId,
+              @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Deletes keys that expired before the given time.
+     *
+     * @param before Time before which expired keys are deleted
+     * @return Number of keys deleted
+     */
+    @Modifying
+    @Query("DELETE FROM QuizIdempotencyKey k WHERE k.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
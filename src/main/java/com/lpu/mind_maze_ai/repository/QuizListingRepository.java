@@ -0,0 +1,30 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.model.QuizCursor;
+import com.lpu.mind_maze_ai.model.QuizSummary;
+
+import java.util.List;
+
+/**
+ * Repository fragment listing a user's quizzes with keyset pagination.
+ * Implemented by {@link QuizListingRepositoryImpl} and exposed through {@link QuizRepository}.
+ */
+public interface QuizListingRepository {
+    /**
+     * Finds the newest quizzes of a user, optionally filtered by type, level and status, after a keyset position.
+     * Only the filters that are set become part of the query, so each combination gets its own plan
+     * and the matching composite index can serve both the filter and the order.
+     * Reads the quiz columns only and filters on the foreign key, so the owner row is never joined.
+     * Deleted quizzes never match.
+     *
+     * @param userId ID of the user whose quizzes to retrieve
+     * @param quizType Quiz type to match, or null for any
+     * @param quizLevel Quiz level to match, or null for any
+     * @param creationStatus Creation status to match, or null for any
+     * @param after Position of the last quiz on the previous page, or null for the first page
+     * @param limit Maximum number of quizzes to return
+     * @return Quiz summaries ordered by creation time and ID descending
+     */
+    List<QuizSummary> findPage(Long userId, String quizType, String quizLevel, String creationStatus,
+                               QuizCursor after, int limit);
+}
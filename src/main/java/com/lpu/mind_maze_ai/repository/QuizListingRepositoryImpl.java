@@ -0,0 +1,94 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.model.QuizCursor;
+import com.lpu.mind_maze_ai.model.QuizSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JPQL implementation of {@link QuizListingRepository}.
+ * Builds the listing query from the filters that are set instead of disabling unset ones with
+ * {@code :param IS NULL OR ...} predicates, which Postgres cannot match to an index once it
+ * switches to a generic plan.
+ */
+public class QuizListingRepositoryImpl implements QuizListingRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<QuizSummary> findPage(Long userId, String quizType, String quizLevel, String creationStatus,
+                                      QuizCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT q.id, q.quizType, q.quizLevel, q.numberOfQuestions, " +
+                "q.creationStatus, q.createdAt FROM Quiz q WHERE q.user.id = :userId AND q.deletedAt IS NULL");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("userId", userId);
+        if (quizType != null) {
+            jpql.append(" AND q.quizType = :quizType");
+            parameters.put("quizType", quizType);
+        }
+        if (quizLevel != null) {
+            jpql.append(" AND q.quizLevel = :quizLevel");
+            parameters.put("quizLevel", quizLevel);
+        }
+        if (creationStatus != null) {
+            jpql.append(" AND q.creationStatus = :creationStatus");
+            parameters.put("creationStatus", creationStatus);
+        }
+        if (after != null) {
+            // A row value comparison lets the composite indexes seek straight to the position
+            jpql.append(" AND (q.createdAt, q.id) < (:createdAt, :id)");
+            parameters.put("createdAt", after.createdAt());
+            parameters.put("id", after.id());
+        }
+        jpql.append(" ORDER BY q.createdAt DESC, q.id DESC");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList().stream()
+                .<QuizSummary>map(row -> new Summary(row.get(0, UUID.class), row.get(1, String.class),
+                        row.get(2, String.class), row.get(3, Integer.class), row.get(4, String.class),
+                        row.get(5, LocalDateTime.class)))
+                .toList();
+    }
+
+    private record Summary(UUID id, String quizType, String quizLevel, Integer numberOfQuestions,
+                           String creationStatus, LocalDateTime createdAt) implements QuizSummary {
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getQuizType() {
+            return quizType;
+        }
+
+        @Override
+        public String getQuizLevel() {
+            return quizLevel;
+        }
+
+        @Override
+        public Integer getNumberOfQuestions() {
+            return numberOfQuestions;
+        }
+
+        @Override
+        public String getCreationStatus() {
+            return creationStatus;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.entity.QuizProgressArchive;
+import com.lpu.mind_maze_ai.model.ProgressScore;
+import com.lpu.mind_maze_ai.model.ScoreAggregate;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+/**
+ * Repository interface for managing QuizProgressArchive entities.
+ * Provides the copy of finished attempts into the archive and read access for the history views.
+ */
+public interface QuizProgressArchiveRepository extends JpaRepository<QuizProgressArchive, UUID> {
+    /**
+     * Checks whether a user's attempt of a quiz has been archived.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return true if the attempt is in the archive, false otherwise
+     */
+    boolean existsByUserIdAndQuizId(Long userId, UUID quizId);
+
+    /**
+     * Reads the score columns of an archived attempt.
+     * Archived attempts are always completed.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return Optional containing the score projection if found
+     */
+    @Query("SELECT a.score AS score, a.wrongAnswers AS wrongAnswers, a.totalQuestions AS totalQuestions, " +
+            "true AS completed FROM QuizProgressArchive a WHERE a.userId = :userId AND a.quizId = :quizId")
+    Optional<ProgressScore> findScoreByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") UUID quizId);
+
+    /**
+     * Copies the given attempts into the archive, together with their quiz's type and level.
+     * Attempts already archived are skipped.
+     *
+     * @param progressIds IDs of the attempts to archive
+     * @return Number of rows inserted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "quiz_progress_archive"))
+    @Query(value = "INSERT INTO quiz_progress_archive (id, quiz_id, user_id, started_at, finished_at, score, wrong_answers, " +
+            "total_questions, quiz_type, quiz_level) " +
+            "SELECT qp.id, qp.quiz_id, qp.user_id, qp.created_at, qp.updated_at, qp.score, qp.wrong_answers, " +
+            "qp.total_questions, q.quiz_type, q.quiz_level " +
+            "FROM quiz_progress qp JOIN quiz q ON q.id = qp.quiz_id WHERE qp.id IN (:progressIds) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int archiveAll(@Param("progressIds") List<UUID> progressIds);
+
+    /**
+     * Streams every user's total archived score per quiz type and level, leaving out deleted quizzes.
+     * Must be consumed inside a transaction.
+     *
+     * @return Stream of score aggregates
+     * @see QuizProgressRepository#streamScoreAggregates()
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.lpu.mind_maze_ai.model.ScoreAggregate(a.userId, a.quizType, a.quizLevel, SUM(a.score), MAX(a.finishedAt)) " +
+            "FROM QuizProgressArchive a WHERE EXISTS (SELECT 1 FROM Quiz q WHERE q.id = a.quizId AND q.deletedAt IS NULL) " +
+            "GROUP BY a.userId, a.quizType, a.quizLevel")
+    Stream<ScoreAggregate> streamScoreAggregates();
+
+    /**
+     * Finds every user's archived score on one quiz.
+     *
+     * @param quizId ID of the quiz
+     * @return Score aggregates of the users with an archived attempt
+     */
+    @Query("SELECT new com.lpu.mind_maze_ai.model.ScoreAggregate(a.userId, a.quizType, a.quizLevel, SUM(a.score), MAX(a.finishedAt)) " +
+            "FROM QuizProgressArchive a WHERE a.quizId = :quizId GROUP BY a.userId, a.quizType, a.quizLevel")
+    List<ScoreAggregate> findScoreAggregatesByQuizId(@Param("quizId") UUID quizId);
+}
@@ -1,14 +1,25 @@
 package com.lpu.mind_maze_ai.repository;
 
-import com.lpu.mind_maze_ai.entity.Quiz;
 import com.lpu.mind_maze_ai.entity.QuizProgress;
+import com.lpu.mind_maze_ai.model.ProgressPartition;
+import com.lpu.mind_maze_ai.model.ProgressScore;
+import com.lpu.mind_maze_ai.model.ScoreAggregate;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 
 /**
  * Repository interface for managing QuizProgress entities.
@@ -17,20 +28,164 @@ import java.util.UUID;
 public interface QuizProgressRepository extends JpaRepository<QuizProgress, UUID> {
     /**
      * Finds quiz progress for a specific user and quiz combination.
+     * Filters on the foreign keys so neither the user nor the quiz row is joined.
      *
      * @param userId ID of the user
-     * @param quizQuizId ID of the quiz
+     * @param quizId ID of the quiz
      * @return Optional containing quiz progress if found
      */
-    Optional<QuizProgress> findByUserIdAndQuizId(Long userId, UUID quizQuizId);
+    @Query("SELECT qp FROM QuizProgress qp WHERE qp.user.id = :userId AND qp.quiz.id = :quizId")
+    Optional<QuizProgress> findByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") UUID quizId);
+
+    /**
+     * Finds quiz progress together with its quiz and asked question IDs in a single query.
+     * Used by the answering flow, which needs the quiz type and level for events
+     * and the asked questions for selecting the next one.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return Optional containing the quiz progress if found
+     */
+    @EntityGraph(attributePaths = {"quiz", "askedQuestionIds"})
+    @Query("SELECT qp FROM QuizProgress qp WHERE qp.user.id = :userId AND qp.quiz.id = :quizId")
+    Optional<QuizProgress> findAttemptByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") UUID quizId);
+
+    /**
+     * Serializes the creation of a user's attempt of a quiz until the current transaction ends.
+     * The partitioned progress table cannot carry a unique key on user and quiz,
+     * so every path creating an attempt takes this lock and looks for an existing attempt again.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return Always 1
+     */
+    @Query(value = "SELECT count(*) FROM pg_advisory_xact_lock(hashtextextended(CAST(:quizId AS text) || '/' || CAST(:userId AS text), 0))",
+            nativeQuery = true)
+    long lockAttempt(@Param("userId") Long userId, @Param("quizId") UUID quizId);
+
+    /**
+     * Locks attempt creation for a user and quiz, then finds the attempt another transaction may have
+     * created in the meantime. Used after {@link #findAttemptByUserIdAndQuizId} found nothing.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return Optional containing the quiz progress if it was created concurrently
+     */
+    default Optional<QuizProgress> lockAndFindAttempt(Long userId, UUID quizId) {
+        lockAttempt(userId, quizId);
+        return findAttemptByUserIdAndQuizId(userId, quizId);
+    }
+
+    /**
+     * Reads only the score columns of the quiz progress for a user and quiz.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return Optional containing the score projection if found
+     */
+    @Query("SELECT qp.score AS score, qp.wrongAnswers AS wrongAnswers, qp.totalQuestions AS totalQuestions, " +
+            "qp.completed AS completed FROM QuizProgress qp WHERE qp.user.id = :userId AND qp.quiz.id = :quizId")
+    Optional<ProgressScore> findScoreByUserIdAndQuizId(@Param("userId") Long userId, @Param("quizId") UUID quizId);
+
+    /**
+     * Deletes the asked question IDs of every attempt at the given quizzes.
+     *
+     * @param quizIds IDs of the quizzes being purged
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "quiz_progress_asked_question_ids"))
+    @Query(value = "DELETE FROM quiz_progress_asked_question_ids WHERE quiz_progress_id IN " +
+            "(SELECT id FROM quiz_progress WHERE quiz_id IN (:quizIds))", nativeQuery = true)
+    int deleteAskedQuestionIdsByQuizIds(@Param("quizIds") List<UUID> quizIds);
+
+    /**
+     * Deletes every attempt at the given quizzes.
+     * The asked question IDs must be deleted first.
+     *
+     * @param quizIds IDs of the quizzes being purged
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "quiz_progress"))
+    @Query(value = "DELETE FROM quiz_progress WHERE quiz_id IN (:quizIds)", nativeQuery = true)
+    int deleteAllByQuizIds(@Param("quizIds") List<UUID> quizIds);
+
+    /**
+     * Claims a batch of completed attempts started before the given time for archival.
+     * Only partitions older than the cutoff are scanned; rows locked by another archiver are skipped.
+     *
+     * @param startedBefore Attempts started before this time are claimed
+     * @param limit Maximum number of attempts to claim
+     * @return IDs of the claimed attempts
+     */
+    @Query(value = "SELECT id FROM quiz_progress WHERE created_at < :startedBefore AND completed " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> lockArchivableIds(@Param("startedBefore") LocalDateTime startedBefore, @Param("limit") int limit);
 
     /**
-     * Deletes all progress records associated with a specific quiz.
-     * Used when deleting a quiz to maintain referential integrity.
+     * Deletes the asked question IDs of the given attempts.
      *
-     * @param quiz Quiz whose progress records should be deleted
+     * @param progressIds IDs of the attempts
+     * @return Number of rows deleted
      */
     @Modifying
-    @Query("DELETE FROM QuizProgress qp WHERE qp.quiz = :quiz")
-    void deleteByQuiz(@Param("quiz") Quiz quiz);
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "quiz_progress_asked_question_ids"))
+    @Query(value = "DELETE FROM quiz_progress_asked_question_ids WHERE quiz_progress_id IN (:progressIds)", nativeQuery = true)
+    int deleteAskedQuestionIdsByIds(@Param("progressIds") List<UUID> progressIds);
+
+    /**
+     * Deletes the given attempts.
+     * Their asked question IDs must be deleted first.
+     *
+     * @param progressIds IDs of the attempts
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "quiz_progress"))
+    @Query(value = "DELETE FROM quiz_progress WHERE id IN (:progressIds)", nativeQuery = true)
+    int deleteAllByIds(@Param("progressIds") List<UUID> progressIds);
+
+    /**
+     * Creates the missing monthly partitions from the given month up to the given number of months ahead.
+     *
+     * @param fromMonth Any time within the first month to cover
+     * @param monthsAhead Number of months past the current one to cover
+     * @return Number of partitions created
+     */
+    @Query(value = "SELECT create_quiz_progress_partitions(:fromMonth, :monthsAhead)", nativeQuery = true)
+    int createPartitions(@Param("fromMonth") LocalDateTime fromMonth, @Param("monthsAhead") int monthsAhead);
+
+    /**
+     * Finds the monthly partitions that ended before the given time and no longer hold attempts,
+     * including ones left detached or half-detached by an interrupted removal.
+     *
+     * @param endedBefore Only partitions ending at or before this time are considered
+     * @return Partitions to remove, oldest first
+     */
+    @Query(value = "SELECT partition_name AS name, partition_state AS state FROM empty_quiz_progress_partitions(:endedBefore)",
+            nativeQuery = true)
+    List<ProgressPartition> findEmptyPartitions(@Param("endedBefore") LocalDateTime endedBefore);
+
+    /**
+     * Streams every user's total score per quiz type and level over the live attempts of quizzes not deleted.
+     * Must be consumed inside a transaction; rows are fetched in chunks
+     * so the whole table is never held in memory.
+     *
+     * @return Stream of score aggregates
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.lpu.mind_maze_ai.model.ScoreAggregate(qp.user.id, q.quizType, q.quizLevel, SUM(qp.score), MAX(qp.updatedAt)) " +
+            "FROM QuizProgress qp JOIN qp.quiz q WHERE q.deletedAt IS NULL GROUP BY qp.user.id, q.quizType, q.quizLevel")
+    Stream<ScoreAggregate> streamScoreAggregates();
+
+    /**
+     * Finds every user's score on one quiz, deleted or not.
+     *
+     * @param quizId ID of the quiz
+     * @return Score aggregates of the users with an attempt
+     */
+    @Query("SELECT new com.lpu.mind_maze_ai.model.ScoreAggregate(qp.user.id, q.quizType, q.quizLevel, SUM(qp.score), MAX(qp.updatedAt)) " +
+            "FROM QuizProgress qp JOIN qp.quiz q WHERE q.id = :quizId GROUP BY qp.user.id, q.quizType, q.quizLevel")
+    List<ScoreAggregate> findScoreAggregatesByQuizId(@Param("quizId") UUID quizId);
 }
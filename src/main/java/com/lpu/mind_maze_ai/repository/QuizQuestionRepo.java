@@ -1,7 +1,13 @@
 package com.lpu.mind_maze_ai.repository;
 
 import com.lpu.mind_maze_ai.entity.QuizQuestion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,9 +19,22 @@ import java.util.UUID;
 public interface QuizQuestionRepo extends JpaRepository<QuizQuestion, UUID> {
     /**
      * Retrieves all questions belonging to a specific quiz.
+     * Filters on the foreign key so the quiz row is neither joined nor loaded.
      *
      * @param quizId ID of the quiz
      * @return List of questions for the specified quiz
      */
-    List<QuizQuestion> findAllByQuizId(UUID quizId);
+    @Query("SELECT qq FROM QuizQuestion qq WHERE qq.quiz.id = :quizId")
+    List<QuizQuestion> findAllByQuizId(@Param("quizId") UUID quizId);
+
+    /**
+     * Deletes every question of the given quizzes.
+     *
+     * @param quizIds IDs of the quizzes being purged
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quiz_question"))
+    @Query(value = "DELETE FROM quiz_question WHERE quiz_id IN (:quizIds)", nativeQuery = true)
+    int deleteAllByQuizIds(@Param("quizIds") List<UUID> quizIds);
 }
@@ -1,8 +1,15 @@
 package com.lpu.mind_maze_ai.repository;
 
-import com.lpu.mind_maze_ai.entity.CustomUserDetails;
 import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizQuestion;
+import com.lpu.mind_maze_ai.model.QuizSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,23 +17,65 @@ import java.util.UUID;
 
 /**
  * Repository interface for managing Quiz entities.
- * Provides data access operations for quizzes.
+ * Provides data access operations for quizzes; the filtered listing comes from {@link QuizListingRepository}.
  */
-public interface QuizRepository extends JpaRepository<Quiz, UUID> {
+public interface QuizRepository extends JpaRepository<Quiz, UUID>, QuizListingRepository {
+    /** Select list of the {@link QuizSummary} projection */
+    String SUMMARY_COLUMNS = "q.id AS id, q.quizType AS quizType, q.quizLevel AS quizLevel, " +
+            "q.numberOfQuestions AS numberOfQuestions, q.creationStatus AS creationStatus, q.createdAt AS createdAt";
+
     /**
-     * Finds all quizzes owned by a specific user.
+     * Finds the summary of a specific quiz owned by a specific user.
      *
-     * @param user The user whose quizzes to retrieve
-     * @return List of quizzes belonging to the user
+     * @param quizId ID of the quiz to find
+     * @param userId ID of the owner of the quiz
+     * @return Optional containing the quiz summary if found
      */
-    List<Quiz> findAllByUser(CustomUserDetails user);
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM Quiz q WHERE q.id = :quizId AND q.user.id = :userId AND q.deletedAt IS NULL")
+    Optional<QuizSummary> findSummaryByIdAndUserId(@Param("quizId") UUID quizId, @Param("userId") Long userId);
 
     /**
-     * Finds a specific quiz owned by a specific user.
+     * Finds a quiz unless it has been deleted.
+     * Served by the second-level cache once the quiz has been loaded.
      *
      * @param quizId ID of the quiz to find
-     * @param user Owner of the quiz
-     * @return Optional containing the quiz if found
+     * @return Optional containing the quiz if it exists and is not deleted
+     */
+    default Optional<Quiz> findActiveById(UUID quizId) {
+        return findById(quizId).filter(quiz -> quiz.getDeletedAt() == null);
+    }
+
+    /**
+     * Retrieves all questions of a quiz through the quiz's question list.
+     * The quiz, its list of question IDs and the questions are all served by the second-level cache,
+     * so repeated calls for the same quiz issue no SQL. Must be called within a transaction.
+     *
+     * @param quizId ID of the quiz
+     * @return Questions of the quiz, or an empty list if the quiz does not exist or was deleted
+     */
+    default List<QuizQuestion> findQuestionsByQuizId(UUID quizId) {
+        return findActiveById(quizId).map(Quiz::getQuizQuestionList).orElseGet(List::of);
+    }
+
+    /**
+     * Claims a batch of deleted quizzes for purging, oldest deletion first.
+     * Rows claimed by a concurrent purge are skipped, so several instances can purge side by side.
+     *
+     * @param limit Maximum number of quizzes to claim
+     * @return IDs of the claimed quizzes
+     */
+    @Query(value = "SELECT id FROM quiz WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<UUID> lockDeletedIds(@Param("limit") int limit);
+
+    /**
+     * Deletes quizzes whose children have already been purged.
+     *
+     * @param quizIds IDs of the quizzes
+     * @return Number of quizzes deleted
      */
-    Optional<Quiz> findByIdAndUser(UUID quizId, CustomUserDetails user);
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quiz"))
+    @Query(value = "DELETE FROM quiz WHERE id IN (:quizIds)", nativeQuery = true)
+    int deleteAllByIds(@Param("quizIds") List<UUID> quizIds);
 }
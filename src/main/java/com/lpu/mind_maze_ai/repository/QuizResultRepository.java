@@ -0,0 +1,31 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.entity.QuizResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for managing QuizResult entities.
+ * Provides read access to finalized quiz attempts.
+ */
+public interface QuizResultRepository extends JpaRepository<QuizResult, UUID> {
+    /**
+     * Finds the result of a user's finished attempt of a quiz.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return Optional containing the result if the attempt has been finalized
+     */
+    Optional<QuizResult> findByUserIdAndQuizId(Long userId, UUID quizId);
+
+    /**
+     * Checks whether a user's attempt of a quiz has been finalized.
+     *
+     * @param userId ID of the user
+     * @param quizId ID of the quiz
+     * @return true if a result exists, false otherwise
+     */
+    boolean existsByUserIdAndQuizId(Long userId, UUID quizId);
+}
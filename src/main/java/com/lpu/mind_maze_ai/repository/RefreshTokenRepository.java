@@ -0,0 +1,83 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.entity.RefreshToken;
+import com.lpu.mind_maze_ai.model.SessionRevocation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for managing RefreshToken entities.
+ * Handles lookup by digest, rotation and revocation of refresh tokens.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+    /**
+     * Finds a refresh token by its digest and locks it, so two concurrent
+     * refreshes with the same token cannot both rotate it.
+     *
+     * @param tokenHash Hex-encoded SHA-256 digest of the token
+     * @return Optional containing the locked token if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> lockByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Finds a refresh token by its digest.
+     *
+     * @param tokenHash Hex-encoded SHA-256 digest of the token
+     * @return Optional containing the token if found
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revokes every refresh token of a login session.
+     *
+     * @param sessionId ID of the session
+     * @param revokedAt Time of the revocation
+     * @return Number of tokens revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :revokedAt WHERE r.sessionId = :sessionId AND r.revokedAt IS NULL")
+    int revokeSession(@Param("sessionId") UUID sessionId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * Revokes every refresh token of a user.
+     *
+     * @param userId ID of the user
+     * @param revokedAt Time of the revocation
+     * @return Number of tokens revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :revokedAt WHERE r.userId = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * Finds the sessions revoked after the given time.
+     * Sessions revoked longer than an access token lifetime ago no longer have live access tokens and are skipped.
+     *
+     * @param since Time after which revocations are returned
+     * @return One revocation per session
+     */
+    @Query("SELECT new com.lpu.mind_maze_ai.model.SessionRevocation(r.sessionId, MAX(r.revokedAt)) " +
+            "FROM RefreshToken r WHERE r.revokedAt > :since GROUP BY r.sessionId")
+    List<SessionRevocation> findSessionRevocationsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Deletes refresh tokens that expired before the given time.
+     *
+     * @param before Time before which expired tokens are deleted
+     * @return Number of tokens deleted
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,127 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.entity.UserQuizStats;
+import com.lpu.mind_maze_ai.model.QuizStatsTotals;
+import com.lpu.mind_maze_ai.model.WeeklyQuizStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for managing UserQuizStats entities.
+ * Provides atomic incremental updates and a set-based rebuild of the stats read model.
+ * Counts are kept per week, starting on Monday; activity is counted in the week it happens.
+ *
+ * Every native statement declares the only table it writes; without it Hibernate
+ * would clear the entire second-level cache after each statement.
+ */
+public interface UserQuizStatsRepository extends JpaRepository<UserQuizStats, Long> {
+    /** Query space of the native statements */
+    String STATS_TABLE = "user_quiz_stats";
+
+    /**
+     * Sums a user's weekly stats rows into lifetime totals.
+     *
+     * @param userId ID of the user
+     * @return Totals per quiz type and level the user has attempted
+     */
+    @Query("SELECT s.quizType AS quizType, s.quizLevel AS quizLevel, SUM(s.attempts) AS attempts, " +
+            "SUM(s.completedAttempts) AS completedAttempts, SUM(s.correctAnswers) AS correctAnswers, " +
+            "SUM(s.wrongAnswers) AS wrongAnswers FROM UserQuizStats s WHERE s.userId = :userId " +
+            "GROUP BY s.quizType, s.quizLevel ORDER BY s.quizType, s.quizLevel")
+    List<QuizStatsTotals> findTotalsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds a user's weekly stats rows from a given week on.
+     *
+     * @param userId ID of the user
+     * @param from First day of the earliest week to return
+     * @return Stats per week, quiz type and level, oldest week first
+     */
+    @Query("SELECT s.periodStart AS periodStart, s.quizType AS quizType, s.quizLevel AS quizLevel, " +
+            "s.attempts AS attempts, s.completedAttempts AS completedAttempts, s.correctAnswers AS correctAnswers, " +
+            "s.wrongAnswers AS wrongAnswers FROM UserQuizStats s WHERE s.userId = :userId AND s.periodStart >= :from " +
+            "ORDER BY s.periodStart, s.quizType, s.quizLevel")
+    List<WeeklyQuizStats> findHistory(@Param("userId") Long userId, @Param("from") LocalDate from);
+
+    /**
+     * Adds the given deltas to a user's stats row of the current week, creating it if necessary.
+     *
+     * @param userId ID of the user
+     * @param quizType Type of the quiz
+     * @param quizLevel Difficulty level of the quiz
+     * @param attempts Number of attempts to add
+     * @param correct Number of correct answers to add
+     * @param wrong Number of wrong answers to add
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_TABLE))
+    @Query(value = "INSERT INTO user_quiz_stats (user_id, quiz_type, quiz_level, period_start, attempts, completed_attempts, correct_answers, wrong_answers, updated_at) " +
+            "VALUES (:userId, :quizType, :quizLevel, CAST(date_trunc('week', now()) AS date), :attempts, 0, :correct, :wrong, now()) " +
+            "ON CONFLICT (user_id, quiz_type, quiz_level, period_start) DO UPDATE SET " +
+            "attempts = user_quiz_stats.attempts + EXCLUDED.attempts, " +
+            "correct_answers = user_quiz_stats.correct_answers + EXCLUDED.correct_answers, " +
+            "wrong_answers = user_quiz_stats.wrong_answers + EXCLUDED.wrong_answers, " +
+            "updated_at = now()", nativeQuery = true)
+    void increment(@Param("userId") Long userId, @Param("quizType") String quizType, @Param("quizLevel") String quizLevel,
+                   @Param("attempts") long attempts, @Param("correct") long correct, @Param("wrong") long wrong);
+
+    /**
+     * Counts a finished attempt in a user's stats row of the current week, creating it if necessary.
+     *
+     * @param userId ID of the user
+     * @param quizType Type of the quiz
+     * @param quizLevel Difficulty level of the quiz
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_TABLE))
+    @Query(value = "INSERT INTO user_quiz_stats (user_id, quiz_type, quiz_level, period_start, attempts, completed_attempts, correct_answers, wrong_answers, updated_at) " +
+            "VALUES (:userId, :quizType, :quizLevel, CAST(date_trunc('week', now()) AS date), 0, 1, 0, 0, now()) " +
+            "ON CONFLICT (user_id, quiz_type, quiz_level, period_start) DO UPDATE SET " +
+            "completed_attempts = user_quiz_stats.completed_attempts + 1, updated_at = now()", nativeQuery = true)
+    void incrementCompleted(@Param("userId") Long userId, @Param("quizType") String quizType, @Param("quizLevel") String quizLevel);
+
+    /**
+     * Locks the stats table against writes until the end of the transaction; reads continue.
+     * Incremental updates arriving meanwhile wait and are applied on top of the rebuilt rows.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_TABLE))
+    @Query(value = "LOCK TABLE user_quiz_stats IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockAgainstWrites();
+
+    /**
+     * Deletes all stats rows ahead of a rebuild.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_TABLE))
+    @Query(value = "DELETE FROM user_quiz_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    /**
+     * Recomputes all stats rows from live and archived quiz progress in a single statement.
+     * Answer times are not stored, so an attempt is counted in the week it started and its answers and
+     * completion in the week of its last change.
+     *
+     * @return Number of stats rows written
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_TABLE))
+    @Query(value = "INSERT INTO user_quiz_stats (user_id, quiz_type, quiz_level, period_start, attempts, completed_attempts, correct_answers, wrong_answers, updated_at) " +
+            "SELECT p.user_id, p.quiz_type, p.quiz_level, a.period_start, sum(a.attempts), sum(a.completed), sum(a.score), sum(a.wrong_answers), now() " +
+            "FROM (SELECT qp.user_id, q.quiz_type, q.quiz_level, qp.created_at AS started_at, qp.updated_at AS changed_at, " +
+            "qp.completed, qp.score, qp.wrong_answers FROM quiz_progress qp JOIN quiz q ON q.id = qp.quiz_id " +
+            "UNION ALL SELECT user_id, quiz_type, quiz_level, started_at, finished_at, true, score, wrong_answers FROM quiz_progress_archive) p " +
+            "CROSS JOIN LATERAL (VALUES (CAST(date_trunc('week', COALESCE(p.started_at, now())) AS date), 1, 0, 0, 0), " +
+            "(CAST(date_trunc('week', COALESCE(p.changed_at, p.started_at, now())) AS date), 0, CASE WHEN p.completed THEN 1 ELSE 0 END, p.score, p.wrong_answers)) " +
+            "AS a (period_start, attempts, completed, score, wrong_answers) " +
+            "GROUP BY p.user_id, p.quiz_type, p.quiz_level, a.period_start", nativeQuery = true)
+    int rebuildFromProgress();
+}
@@ -1,8 +1,14 @@
 package com.lpu.mind_maze_ai.repository;
 
 import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.model.TokenRevocation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,4 +33,37 @@ public interface UserRepository extends JpaRepository<CustomUserDetails, Long> {
      * @return Optional containing the user if found
      */
     Optional<CustomUserDetails> findByEmail(String email);
+
+    /**
+     * Replaces the password hash of a user.
+     *
+     * @param username Username of the user
+     * @param password New password hash
+     * @return Number of users updated
+     */
+    @Modifying
+    @Query("UPDATE CustomUserDetails u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
+    /**
+     * Revokes every access token issued to a user up to the given time.
+     *
+     * @param userId ID of the user
+     * @param revokedAt Cut-off time; tokens issued at or before it are rejected
+     * @return Number of users updated
+     */
+    @Modifying
+    @Query("UPDATE CustomUserDetails u SET u.tokensRevokedAt = :revokedAt WHERE u.id = :userId")
+    int revokeTokens(@Param("userId") Long userId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * Finds the token revocations made after the given time.
+     * Revocations older than the token lifetime no longer reject any token and are skipped.
+     *
+     * @param since Time after which revocations are returned
+     * @return Revocations made after the given time
+     */
+    @Query("SELECT new com.lpu.mind_maze_ai.model.TokenRevocation(u.id, u.tokensRevokedAt) " +
+            "FROM CustomUserDetails u WHERE u.tokensRevokedAt > :since")
+    List<TokenRevocation> findTokenRevocationsSince(@Param("since") LocalDateTime since);
 }
@@ -1,10 +1,14 @@
 package com.lpu.mind_maze_ai.service;
 
 import com.lpu.mind_maze_ai.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Custom implementation of Spring Security's UserDetailsService.
@@ -15,9 +19,11 @@ import org.springframework.stereotype.Service;
  * - Loading user details for authentication
  * - Converting database user entities to Spring Security UserDetails
  * - Handling username lookup failures
+ * - Storing password hashes upgraded on login to the current encoding and cost factor
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+    private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     /** Repository for user data access */
     private final UserRepository userRepository;
@@ -48,4 +54,24 @@ public class CustomUserDetailsService implements UserDetailsService {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
+
+    /**
+     * Stores a user's re-encoded password hash.
+     * Called by the authentication provider after a successful login whose stored hash
+     * uses an outdated encoding or a lower cost factor than configured.
+     *
+     * The hash is written with a single UPDATE; the loaded user is left untouched so that
+     * it is not flushed as a whole when it is still attached to the request's persistence context.
+     *
+     * @param user User whose password was verified
+     * @param newPassword Password hash in the current encoding
+     * @return The given user details, used only as the login's principal
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        logger.info("Upgraded password hash of user: {}", user.getUsername());
+        return user;
+    }
 }
@@ -0,0 +1,49 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.web.response.dto.LeaderboardEntryDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for per-type and per-level leaderboards.
+ */
+public interface LeaderboardService {
+    /**
+     * Retrieves the best ranked users for a quiz type.
+     *
+     * @param quizType The quiz type
+     * @param limit Maximum number of entries to return
+     * @return Leaderboard entries ordered by rank
+     */
+    List<LeaderboardEntryDTO> getTopByType(QuizType quizType, int limit);
+
+    /**
+     * Retrieves the best ranked users for a quiz level.
+     *
+     * @param quizLevel The quiz level
+     * @param limit Maximum number of entries to return
+     * @return Leaderboard entries ordered by rank
+     */
+    List<LeaderboardEntryDTO> getTopByLevel(QuizLevel quizLevel, int limit);
+
+    /**
+     * Retrieves a user's position on the leaderboard of a quiz type.
+     *
+     * @param quizType The quiz type
+     * @param userId The ID of the user
+     * @return Optional containing the user's entry, or empty if the user has no score
+     */
+    Optional<LeaderboardEntryDTO> getRankByType(QuizType quizType, Long userId);
+
+    /**
+     * Retrieves a user's position on the leaderboard of a quiz level.
+     *
+     * @param quizLevel The quiz level
+     * @param userId The ID of the user
+     * @return Optional containing the user's entry, or empty if the user has no score
+     */
+    Optional<LeaderboardEntryDTO> getRankByLevel(QuizLevel quizLevel, Long userId);
+}
@@ -0,0 +1,337 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.LeaderboardSnapshot;
+import com.lpu.mind_maze_ai.event.AnswerRecordedEvent;
+import com.lpu.mind_maze_ai.event.QuizDeletedEvent;
+import com.lpu.mind_maze_ai.model.LeaderboardEntry;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.model.ScoreAggregate;
+import com.lpu.mind_maze_ai.repository.LeaderboardSnapshotRepository;
+import com.lpu.mind_maze_ai.repository.QuizProgressArchiveRepository;
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.util.RankedSkipList;
+import com.lpu.mind_maze_ai.web.response.dto.LeaderboardEntryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of LeaderboardService backed by in-memory ranked indexes.
+ * This service handles:
+ * - Incremental score updates from answer events
+ * - Taking the scores earned on a quiz off the leaderboards when it is deleted
+ * - Top-K and rank queries in O(log n)
+ * - Periodic snapshots of the top entries to the database
+ * - Rebuilding all leaderboards from a streaming scan at startup
+ *
+ * Leaderboards are never computed with ORDER BY over quiz progress on the read path.
+ * Only answers accepted by the progress service are scored, one per handed out question.
+ *
+ * @see LeaderboardService
+ * @see RankedSkipList
+ */
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardServiceImpl.class);
+    private final QuizProgressRepository progressRepository;
+    private final QuizProgressArchiveRepository archiveRepository;
+    private final LeaderboardSnapshotRepository snapshotRepository;
+    private final int snapshotSize;
+
+    private volatile Map<QuizType, Board> typeBoards = newTypeBoards();
+    private volatile Map<QuizLevel, Board> levelBoards = newLevelBoards();
+    /** Guards swapping in rebuilt leaderboards against concurrent score changes */
+    private final Object rebuildLock = new Object();
+    /** Score changes applied while a rebuild scans, replayed onto the rebuilt leaderboards; null when not rebuilding */
+    private List<AnswerRecordedEvent> changesDuringRebuild;
+
+    /**
+     * Creates a new instance of LeaderboardServiceImpl with required dependencies.
+     *
+     * @param progressRepository Repository used to rebuild the leaderboards from live attempts
+     * @param archiveRepository Repository used to rebuild the leaderboards from archived attempts
+     * @param snapshotRepository Repository for persisted leaderboard snapshots
+     * @param snapshotSize Number of top entries persisted per leaderboard
+     */
+    public LeaderboardServiceImpl(QuizProgressRepository progressRepository, QuizProgressArchiveRepository archiveRepository,
+                                  LeaderboardSnapshotRepository snapshotRepository,
+                                  @Value("${quiz.leaderboard.snapshot-size}") int snapshotSize) {
+        this.progressRepository = progressRepository;
+        this.archiveRepository = archiveRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.snapshotSize = snapshotSize;
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getTopByType(QuizType quizType, int limit) {
+        return typeBoards.get(quizType).top(limit);
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getTopByLevel(QuizLevel quizLevel, int limit) {
+        return levelBoards.get(quizLevel).top(limit);
+    }
+
+    @Override
+    public Optional<LeaderboardEntryDTO> getRankByType(QuizType quizType, Long userId) {
+        return typeBoards.get(quizType).rank(userId);
+    }
+
+    @Override
+    public Optional<LeaderboardEntryDTO> getRankByLevel(QuizLevel quizLevel, Long userId) {
+        return levelBoards.get(quizLevel).rank(userId);
+    }
+
+    /**
+     * Applies score changes once the transaction that graded the answers has committed.
+     * During a rebuild the change is also kept, to be replayed onto the rebuilt leaderboards.
+     *
+     * @param event Event describing the graded answers
+     */
+    @TransactionalEventListener
+    public void onAnswerRecorded(AnswerRecordedEvent event) {
+        if (event.correctDelta() == 0) {
+            return;
+        }
+        record(event);
+    }
+
+    /**
+     * Takes the scores earned on a quiz off the leaderboards once its deletion has committed.
+     * The scores are read from the live and archived attempts, which the purge only removes later;
+     * rebuilds leave deleted quizzes out in the same way. Runs asynchronously, so the lookups
+     * are not part of the deletion request.
+     *
+     * @param event Event describing the deleted quiz
+     */
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onQuizDeleted(QuizDeletedEvent event) {
+        List<ScoreAggregate> scores = new ArrayList<>(progressRepository.findScoreAggregatesByQuizId(event.quizId()));
+        scores.addAll(archiveRepository.findScoreAggregatesByQuizId(event.quizId()));
+        for (ScoreAggregate score : scores) {
+            if (score.score() > 0) {
+                record(new AnswerRecordedEvent(score.userId(), event.quizId(), score.quizType(), score.quizLevel(),
+                        -score.score().intValue(), 0));
+            }
+        }
+        logger.debug("Removed scores of {} attempts of deleted quiz {} from the leaderboards", scores.size(), event.quizId());
+    }
+
+    /**
+     * Applies a score change to the leaderboards, keeping it for replay while a rebuild scans.
+     *
+     * @param event Event describing the score change
+     */
+    private void record(AnswerRecordedEvent event) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+            apply(event, typeBoards, levelBoards);
+        }
+    }
+
+    /**
+     * Rebuilds every leaderboard from streaming scans of live and archived quiz progress.
+     * Scores of the same user from both scans add up.
+     * The new leaderboards are filled off to the side and swapped in once complete; score changes
+     * committed while the scans run are recorded and replayed onto them before the swap, so none
+     * are lost. A change committing in the moment between the recording starting and the scans
+     * taking their snapshot may be counted twice.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        logger.info("Rebuilding leaderboards from quiz progress");
+        synchronized (rebuildLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            swapIn(scan());
+        } finally {
+            synchronized (rebuildLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Fills new leaderboards from streaming scans of live and archived quiz progress.
+     *
+     * @return The new type and level leaderboards
+     */
+    private Boards scan() {
+        Map<QuizType, Board> newTypeBoards = newTypeBoards();
+        Map<QuizLevel, Board> newLevelBoards = newLevelBoards();
+        try (Stream<ScoreAggregate> live = progressRepository.streamScoreAggregates();
+             Stream<ScoreAggregate> archived = archiveRepository.streamScoreAggregates()) {
+            Stream.concat(live, archived).filter(aggregate -> aggregate.score() > 0).forEach(aggregate -> {
+                newTypeBoards.get(QuizType.valueOf(aggregate.quizType()))
+                        .add(aggregate.userId(), aggregate.score(), aggregate.achievedAt());
+                newLevelBoards.get(QuizLevel.valueOf(aggregate.quizLevel()))
+                        .add(aggregate.userId(), aggregate.score(), aggregate.achievedAt());
+            });
+        }
+        return new Boards(newTypeBoards, newLevelBoards);
+    }
+
+    /**
+     * Replays the score changes recorded during the scans onto rebuilt leaderboards and swaps them in.
+     *
+     * @param boards Rebuilt leaderboards
+     */
+    private void swapIn(Boards boards) {
+        synchronized (rebuildLock) {
+            changesDuringRebuild.forEach(event -> apply(event, boards.types(), boards.levels()));
+            typeBoards = boards.types();
+            levelBoards = boards.levels();
+            logger.info("Rebuilt leaderboards for {} quiz types and {} quiz levels, replaying {} concurrent score changes",
+                    boards.types().size(), boards.levels().size(), changesDuringRebuild.size());
+        }
+    }
+
+    private static void apply(AnswerRecordedEvent event, Map<QuizType, Board> types, Map<QuizLevel, Board> levels) {
+        LocalDateTime now = LocalDateTime.now();
+        types.get(QuizType.valueOf(event.quizType())).add(event.userId(), event.correctDelta(), now);
+        levels.get(QuizLevel.valueOf(event.quizLevel())).add(event.userId(), event.correctDelta(), now);
+    }
+
+    /**
+     * Periodically persists the top entries of every leaderboard, replacing the previous snapshot.
+     */
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.snapshot-interval}", initialDelayString = "${quiz.leaderboard.snapshot-interval}")
+    @Transactional
+    public void snapshot() {
+        List<LeaderboardSnapshot> rows = new ArrayList<>();
+        typeBoards.forEach((quizType, board) -> rows.addAll(board.snapshot("TYPE:" + quizType.name(), snapshotSize)));
+        levelBoards.forEach((quizLevel, board) -> rows.addAll(board.snapshot("LEVEL:" + quizLevel.name(), snapshotSize)));
+        snapshotRepository.deleteAllInBatch();
+        snapshotRepository.saveAll(rows);
+        logger.debug("Persisted leaderboard snapshot with {} rows", rows.size());
+    }
+
+    private static Map<QuizType, Board> newTypeBoards() {
+        Map<QuizType, Board> boards = new EnumMap<>(QuizType.class);
+        for (QuizType quizType : QuizType.values()) {
+            boards.put(quizType, new Board());
+        }
+        return boards;
+    }
+
+    private static Map<QuizLevel, Board> newLevelBoards() {
+        Map<QuizLevel, Board> boards = new EnumMap<>(QuizLevel.class);
+        for (QuizLevel quizLevel : QuizLevel.values()) {
+            boards.put(quizLevel, new Board());
+        }
+        return boards;
+    }
+
+    private record Boards(Map<QuizType, Board> types, Map<QuizLevel, Board> levels) {
+    }
+
+    /**
+     * A single leaderboard: a ranked index plus a lookup of each user's current entry.
+     */
+    private static final class Board {
+        private final RankedSkipList<LeaderboardEntry> ranking = new RankedSkipList<>(LeaderboardEntry.RANKING);
+        private final Map<Long, LeaderboardEntry> entries = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        /**
+         * Changes a user's score. Lowering a score keeps the time it was achieved,
+         * and a user whose score drops to zero leaves the leaderboard.
+         */
+        void add(Long userId, long delta, LocalDateTime achievedAt) {
+            lock.writeLock().lock();
+            try {
+                LeaderboardEntry current = entries.get(userId);
+                long score = delta;
+                if (current != null) {
+                    ranking.remove(current);
+                    score += current.score();
+                    if (delta < 0 || current.achievedAt().isAfter(achievedAt)) {
+                        achievedAt = current.achievedAt();
+                    }
+                }
+                if (score <= 0) {
+                    entries.remove(userId);
+                    return;
+                }
+                LeaderboardEntry updated = new LeaderboardEntry(userId, score, achievedAt);
+                entries.put(userId, updated);
+                ranking.insert(updated);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<LeaderboardEntryDTO> top(int limit) {
+            lock.readLock().lock();
+            try {
+                List<LeaderboardEntry> first = ranking.first(limit);
+                List<LeaderboardEntryDTO> result = new ArrayList<>(first.size());
+                for (int i = 0; i < first.size(); i++) {
+                    result.add(new LeaderboardEntryDTO(i + 1, first.get(i).userId(), first.get(i).score()));
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Optional<LeaderboardEntryDTO> rank(Long userId) {
+            lock.readLock().lock();
+            try {
+                LeaderboardEntry entry = entries.get(userId);
+                if (entry == null) {
+                    return Optional.empty();
+                }
+                return Optional.of(new LeaderboardEntryDTO(ranking.rank(entry), userId, entry.score()));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<LeaderboardSnapshot> snapshot(String name, int limit) {
+            lock.readLock().lock();
+            try {
+                List<LeaderboardEntry> first = ranking.first(limit);
+                List<LeaderboardSnapshot> rows = new ArrayList<>(first.size());
+                for (int i = 0; i < first.size(); i++) {
+                    LeaderboardSnapshot row = new LeaderboardSnapshot();
+                    row.setBoard(name);
+                    row.setPosition(i + 1);
+                    row.setUserId(first.get(i).userId());
+                    row.setScore(first.get(i).score());
+                    row.setAchievedAt(first.get(i).achievedAt());
+                    rows.add(row);
+                }
+                return rows;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
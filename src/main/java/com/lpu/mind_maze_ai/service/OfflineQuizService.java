@@ -0,0 +1,29 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.web.request.dto.SubmitAnswerSheetDTO;
+import com.lpu.mind_maze_ai.web.response.dto.AnswerSheetDTO;
+import com.lpu.mind_maze_ai.web.response.dto.ScoreDTO;
+
+/**
+ * Service interface for taking a quiz offline with client-side grading.
+ */
+public interface OfflineQuizService {
+    /**
+     * Issues a signed answer sheet containing every question of a quiz.
+     *
+     * @param quizId The ID of the quiz
+     * @param userId The ID of the user taking the quiz
+     * @return Answer sheet with hashed answers
+     * @throws com.lpu.mind_maze_ai.exception.QuizNotReadyException if the quiz has not been generated successfully
+     */
+    AnswerSheetDTO getAnswerSheet(String quizId, Long userId);
+
+    /**
+     * Verifies an uploaded answer sheet, grades it and records the final progress.
+     *
+     * @param answerSheet The signed answer sheet with the user's answers
+     * @return DTO containing the final score
+     * @throws com.lpu.mind_maze_ai.exception.InvalidAnswerSheetException if the sheet cannot be verified
+     */
+    ScoreDTO submitAnswerSheet(SubmitAnswerSheetDTO answerSheet);
+}
@@ -0,0 +1,211 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizProgress;
+import com.lpu.mind_maze_ai.entity.QuizQuestion;
+import com.lpu.mind_maze_ai.event.AnswerRecordedEvent;
+import com.lpu.mind_maze_ai.event.QuizAttemptStartedEvent;
+import com.lpu.mind_maze_ai.event.QuizCompletedEvent;
+import com.lpu.mind_maze_ai.exception.InvalidAnswerSheetException;
+import com.lpu.mind_maze_ai.exception.QuizNotReadyException;
+import com.lpu.mind_maze_ai.exception.ResourceAlreadyExistsException;
+import com.lpu.mind_maze_ai.model.CreationStatus;
+import com.lpu.mind_maze_ai.repository.QuizProgressArchiveRepository;
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import com.lpu.mind_maze_ai.util.AnswerSheetSigner;
+import com.lpu.mind_maze_ai.web.request.dto.SubmitAnswerSheetDTO;
+import com.lpu.mind_maze_ai.web.response.dto.AnswerSheetDTO;
+import com.lpu.mind_maze_ai.web.response.dto.OfflineQuestionDTO;
+import com.lpu.mind_maze_ai.web.response.dto.ScoreDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of OfflineQuizService for low-bandwidth quiz attempts.
+ * This service handles:
+ * - Issuing signed answer sheets with salted answer hashes
+ * - Verifying uploaded answer sheets
+ * - Grading all answers in a single pass
+ * - Recording the final progress of the attempt
+ *
+ * An offline attempt takes two requests regardless of the number of questions,
+ * instead of a question and an answer request per question.
+ *
+ * @see OfflineQuizService
+ * @see AnswerSheetSigner
+ */
+@Service
+public class OfflineQuizServiceImpl implements OfflineQuizService {
+    private static final Logger logger = LoggerFactory.getLogger(OfflineQuizServiceImpl.class);
+    private final QuizRepository quizRepository;
+    private final QuizProgressRepository progressRepository;
+    private final QuizProgressArchiveRepository archiveRepository;
+    private final UserRepository userRepository;
+    private final AnswerSheetSigner answerSheetSigner;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a new instance of OfflineQuizServiceImpl with required dependencies.
+     *
+     * @param quizRepository Repository for managing quizzes and their cached questions
+     * @param progressRepository Repository for managing quiz progress data
+     * @param archiveRepository Repository for archived quiz progress
+     * @param userRepository Repository for managing user data
+     * @param answerSheetSigner Signer for answer sheets and answer hashes
+     * @param eventPublisher Publisher for attempt, answer and completion events
+     */
+    public OfflineQuizServiceImpl(QuizRepository quizRepository, QuizProgressRepository progressRepository,
+                                  QuizProgressArchiveRepository archiveRepository, UserRepository userRepository,
+                                  AnswerSheetSigner answerSheetSigner, ApplicationEventPublisher eventPublisher) {
+        this.quizRepository = quizRepository;
+        this.progressRepository = progressRepository;
+        this.archiveRepository = archiveRepository;
+        this.userRepository = userRepository;
+        this.answerSheetSigner = answerSheetSigner;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Issues a signed answer sheet for a successfully generated quiz.
+     *
+     * Implementation Details:
+     * 1. Verifies the quiz finished generation successfully
+     * 2. Reads all questions of the quiz, from the second-level cache once loaded
+     * 3. Replaces each correct answer by a salted hash
+     * 4. Signs the sheet so the upload can be verified without server-side state
+     *
+     * @param quizId Unique identifier of the quiz
+     * @param userId Identifier of the user taking the quiz
+     * @return Answer sheet containing every question of the quiz
+     * @throws QuizNotReadyException if the quiz is not in SUCCESS status
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AnswerSheetDTO getAnswerSheet(String quizId, Long userId) {
+        logger.debug("Issuing answer sheet for quiz: {}, user: {}", quizId, userId);
+        UUID quizUUID = UUID.fromString(quizId);
+        Quiz quiz = quizRepository.findActiveById(quizUUID)
+                .orElseThrow(() -> new RuntimeException("Quiz not found with ID: " + quizId));
+        if (!CreationStatus.SUCCESS.name().equals(quiz.getCreationStatus())) {
+            throw new QuizNotReadyException(String.format("[quizId: %s, status: %s]Quiz is not ready", quizId, quiz.getCreationStatus()));
+        }
+
+        String salt = answerSheetSigner.generateSalt();
+        long issuedAt = System.currentTimeMillis();
+        List<OfflineQuestionDTO> questions = quizRepository.findQuestionsByQuizId(quizUUID).stream().map(question -> {
+            OfflineQuestionDTO questionDTO = new OfflineQuestionDTO();
+            questionDTO.setId(question.getId());
+            questionDTO.setQuestion(question.getQuestion());
+            questionDTO.setOptions(question.getAnsOptions());
+            questionDTO.setAnswerHash(answerSheetSigner.hashAnswer(salt, question.getId(), question.getCorrectAnswer()));
+            return questionDTO;
+        }).toList();
+
+        AnswerSheetDTO answerSheetDTO = new AnswerSheetDTO();
+        answerSheetDTO.setQuizId(quizUUID);
+        answerSheetDTO.setUserId(userId);
+        answerSheetDTO.setSalt(salt);
+        answerSheetDTO.setIssuedAt(issuedAt);
+        answerSheetDTO.setSignature(answerSheetSigner.sign(quizUUID, userId, salt, issuedAt));
+        answerSheetDTO.setQuestions(questions);
+        logger.info("Issued answer sheet with {} questions for quiz: {}, user: {}", questions.size(), quizId, userId);
+        return answerSheetDTO;
+    }
+
+    /**
+     * Grades an uploaded answer sheet and writes the final quiz progress.
+     *
+     * Implementation Details:
+     * 1. Verifies the sheet signature and expiry
+     * 2. Reads all questions of the quiz, from the second-level cache once loaded
+     * 3. Grades every submitted answer against the stored correct answer
+     * 4. Creates or overwrites the progress with the final counts and marks it completed;
+     *    creation holds the attempt lock and is refused for archived attempts
+     * 5. Publishes an {@link AnswerRecordedEvent} with the change in counts and a
+     *    {@link QuizCompletedEvent} to freeze the result
+     *
+     * Answers for questions that do not belong to the quiz are ignored.
+     *
+     * @param answerSheet The signed answer sheet with the user's answers
+     * @return DTO containing the final score
+     * @throws InvalidAnswerSheetException if the signature is invalid or the sheet expired
+     * @throws QuizNotReadyException if the quiz has no questions
+     * @throws ResourceAlreadyExistsException if the attempt was already completed or archived
+     */
+    @Override
+    @Transactional
+    public ScoreDTO submitAnswerSheet(SubmitAnswerSheetDTO answerSheet) {
+        UUID quizId = answerSheet.getQuizId();
+        Long userId = answerSheet.getUserId();
+        logger.debug("Submitting answer sheet for quiz: {}, user: {}", quizId, userId);
+        if (!answerSheetSigner.verify(quizId, userId, answerSheet.getSalt(), answerSheet.getIssuedAt(), answerSheet.getSignature())) {
+            logger.warn("Rejected answer sheet for quiz: {}, user: {}", quizId, userId);
+            throw new InvalidAnswerSheetException(String.format("[userId: %s, quizId: %s]Answer sheet signature is invalid or expired", userId, quizId));
+        }
+
+        List<QuizQuestion> questions = quizRepository.findQuestionsByQuizId(quizId);
+        if (questions.isEmpty()) {
+            throw new QuizNotReadyException(String.format("[quizId: %s]Quiz has no questions", quizId));
+        }
+        QuizProgress progress = progressRepository.findAttemptByUserIdAndQuizId(userId, quizId)
+                .or(() -> progressRepository.lockAndFindAttempt(userId, quizId))
+                .orElseGet(() -> {
+                    if (archiveRepository.existsByUserIdAndQuizId(userId, quizId)) {
+                        throw new ResourceAlreadyExistsException(String.format("[userId: %s, quizId: %s]Quiz attempt already completed", userId, quizId));
+                    }
+                    QuizProgress newProgress = new QuizProgress();
+                    newProgress.setUser(userRepository.getReferenceById(userId));
+                    newProgress.setQuiz(questions.getFirst().getQuiz());
+                    eventPublisher.publishEvent(new QuizAttemptStartedEvent(userId, quizId,
+                            newProgress.getQuiz().getQuizType(), newProgress.getQuiz().getQuizLevel()));
+                    return newProgress;
+                });
+        if (progress.isCompleted()) {
+            throw new ResourceAlreadyExistsException(String.format("[userId: %s, quizId: %s]Quiz attempt already completed", userId, quizId));
+        }
+
+        int correct = 0;
+        int wrong = 0;
+        for (QuizQuestion question : questions) {
+            String selectedOption = answerSheet.getAnswers().get(question.getId());
+            if (selectedOption == null) {
+                continue;
+            }
+            if (question.getCorrectAnswer().equalsIgnoreCase(selectedOption)) {
+                correct++;
+            } else {
+                wrong++;
+            }
+        }
+
+        int correctDelta = correct - progress.getScore();
+        int wrongDelta = wrong - progress.getWrongAnswers();
+        progress.setScore(correct);
+        progress.setWrongAnswers(wrong);
+        progress.setTotalQuestions(questions.size());
+        progress.setAskedQuestionIds(new HashSet<>(questions.stream().map(QuizQuestion::getId).toList()));
+        progress.setCurrentQuestionId(questions.getLast().getId());
+        progress.setCompleted(true);
+        QuizProgress savedProgress = progressRepository.save(progress);
+        eventPublisher.publishEvent(new AnswerRecordedEvent(userId, quizId, progress.getQuiz().getQuizType(),
+                progress.getQuiz().getQuizLevel(), correctDelta, wrongDelta));
+        eventPublisher.publishEvent(new QuizCompletedEvent(savedProgress.getId(), userId, quizId));
+        logger.info("Graded answer sheet for quiz: {}, user: {}, correct: {}, wrong: {}", quizId, userId, correct, wrong);
+
+        ScoreDTO scoreDTO = new ScoreDTO();
+        scoreDTO.setCorrectAnswers(correct);
+        scoreDTO.setWrongAnswers(wrong);
+        scoreDTO.setTotalQuestions(questions.size());
+        scoreDTO.setCompleted(true);
+        return scoreDTO;
+    }
+}
@@ -12,16 +12,22 @@ import com.lpu.mind_maze_ai.repository.QuizRepository;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.ollama.OllamaChatModel;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Implementation of OllamaQuizService that generates quiz questions using the Ollama AI model.
- * This service handles the asynchronous generation of quiz questions by interacting with an AI model.
+ * This service generates quiz questions by interacting with an AI model; it is called from the
+ * worker threads of {@link QuizGenerationScheduler}, which decide the order quizzes are generated in.
  * It processes the AI responses and converts them into quiz questions that can be stored in the database.
  *
  * The service uses a template-based prompt system to generate structured quiz content
@@ -38,6 +44,7 @@ public class OllamaQuizQuizServiceImpl implements OllamaQuizService {
     private final QuizQuestionRepo quizQuestionRepo;
     private final QuizRepository quizRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
     public static final String promptString = """
             You are a quiz organizer. Your task is to generate a quiz based strictly on the provided details:
             - quizId: {quizId} (a unique identifier, do not modify)
@@ -66,6 +73,34 @@ public class OllamaQuizQuizServiceImpl implements OllamaQuizService {
                 ]
             }
 
+            Do not include any additional information or deviate from the format. Only return the JSON response.
+            """;
+    public static final String batchPromptString = """
+            You are a quiz organizer. Your task is to generate quiz questions based strictly on the provided details:
+            - quizType: {quizType} (e.g., Math, Science, History, as provided in the input)
+            - quizLevel: {quizLevel} (e.g., Easy, Medium, Hard, as provided in the input)
+            - numberOfQuestions: {numberOfQuestions} (an integer, as provided in the input)
+
+            Constraints:
+            1. Do not modify or infer any values for quizType, quizLevel, or numberOfQuestions.
+            2. Generate exactly the number of questions specified in numberOfQuestions, with no two questions alike.
+            3. Each question must have four options, and only one correct answer.
+            4. Ensure the response strictly adheres to the format below.
+
+            Expected Response Format:
+            {
+                "quizType": "{quizType}",
+                "quizLevel": "{quizLevel}",
+                "numberOfQuestions": {numberOfQuestions},
+                "quizQuestionList": [
+                    {
+                        "question": "question-text",
+                        "options": ["option1", "option2", "option3", "option4"],
+                        "answer": "correct-answer"
+                    }
+                ]
+            }
+
             Do not include any additional information or deviate from the format. Only return the JSON response.
             """;
 
@@ -76,68 +111,90 @@ public class OllamaQuizQuizServiceImpl implements OllamaQuizService {
      * @param objectMapper Mapper for JSON processing
      * @param quizQuestionRepo Repository for quiz questions
      * @param quizRepository Repository for quizzes
+     * @param transactionManager Transaction manager for the status and question updates
      */
-    public OllamaQuizQuizServiceImpl(OllamaChatModel chatModel, ObjectMapper objectMapper, QuizQuestionRepo quizQuestionRepo, QuizRepository quizRepository) {
+    public OllamaQuizQuizServiceImpl(OllamaChatModel chatModel, ObjectMapper objectMapper, QuizQuestionRepo quizQuestionRepo,
+                                     QuizRepository quizRepository, PlatformTransactionManager transactionManager) {
         this.chatModel = chatModel;
         this.objectMapper = objectMapper;
         this.quizQuestionRepo = quizQuestionRepo;
         this.quizRepository = quizRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * Asynchronously generates quiz questions using AI.
+     * Generates quiz questions using AI on the calling thread, with one prompt for all given quizzes.
+     * Quizzes of the same type and level share the prompt, so its fixed cost is paid once; the
+     * questions are requested in one list and split across the quizzes by ID in request order.
+     * The quizzes are re-read before every write instead of merging the given instances, so a quiz
+     * deleted during generation stays deleted and receives no questions.
      *
      * Implementation Details:
-     * 1. Creates AI prompt with quiz parameters
-     * 2. Updates quiz status to IN_PROGRESS
-     * 3. Calls AI model to generate questions
-     * 4. Processes response and saves questions
-     * 5. Updates quiz status on completion
+     * 1. Updates the status of the quizzes to IN_PROGRESS, leaving out deleted ones
+     * 2. Creates AI prompt for the total number of questions of the remaining quizzes
+     * 3. Calls AI model to generate questions; an interrupt aborts the HTTP request
+     * 4. Processes response and saves each quiz's share of the questions with the SUCCESS status,
+     *    unless the quiz was deleted meanwhile
+     * 5. Updates the status of the quizzes to FAILURE if any step fails
      *
-     * @param quiz The quiz for which to generate questions
+     * @param quizzes The quizzes for which to generate questions, all of the same type and level
+     * @return IDs of the quizzes whose questions were stored
      * @throws QuizCreationException if generation fails
      */
     @Override
-    @Async
-    public void getQuizQuestions(Quiz quiz) {
-        logger.info("Starting quiz generation for quiz ID: {}", quiz.getId());
-        // Create a prompt with the provided quiz details
-        String formattedPrompt = promptString
-                .replace("{quizId}", String.valueOf(quiz.getId()))
-                .replace("{quizType}", quiz.getQuizType())
-                .replace("{quizLevel}", quiz.getQuizLevel())
-                .replace("{numberOfQuestions}", quiz.getNumberOfQuestions().toString());
-
-        Prompt prompt = new Prompt(formattedPrompt);
-        quiz.setCreationStatus(CreationStatus.IN_PROGRESS.name());
-        quizRepository.saveAndFlush(quiz);
+    public Set<UUID> getQuizQuestions(List<Quiz> quizzes) {
+        List<Quiz> active = startGeneration(quizzes);
+        if (active.isEmpty()) {
+            logger.info("Quizzes {} were deleted before generation started", quizzes.stream().map(Quiz::getId).toList());
+            return Set.of();
+        }
+        List<UUID> quizIds = active.stream().map(Quiz::getId).toList();
+        int numberOfQuestions = active.stream().mapToInt(OllamaQuizQuizServiceImpl::questionCount).sum();
+        logger.info("Starting quiz generation for quiz IDs: {}", quizIds);
+        Prompt prompt = new Prompt(formatPrompt(active, numberOfQuestions));
 
         try {
-            logger.debug("Calling AI model with prompt for quiz ID: {}", quiz.getId());
+            logger.debug("Calling AI model with prompt for quiz IDs: {}", quizIds);
             ChatResponse chatResponse = chatModel.call(prompt);
             String text = chatResponse.getResult().getOutput().getText();
-            logger.debug("Received AI response for quiz ID: {}", quiz.getId());
-            processLLMMessage(text, quiz);
-            logger.info("Successfully generated quiz questions for quiz ID: {}", quiz.getId());
+            logger.debug("Received AI response for quiz IDs: {}", quizIds);
+            List<QuizQuestion> quizQuestions = processLLMMessage(text, numberOfQuestions, quizIds);
+            Set<UUID> stored = transactionTemplate.execute(status -> storeQuestions(active, quizQuestions));
+            logger.info("Successfully generated quiz questions for quiz IDs: {}", stored);
+            if (stored.size() < quizIds.size()) {
+                logger.info("Discarded generated questions of {} quizzes deleted during generation", quizIds.size() - stored.size());
+            }
+            return stored;
         } catch (Exception e) {
-            logger.error("Failed to generate quiz questions for quiz ID: {}", quiz.getId(), e);
-            quiz.setCreationStatus(CreationStatus.FAILURE.name());
-            quizRepository.saveAndFlush(quiz);
+            // A cancelled generation is interrupted; clear the flag so the failure can still be recorded
+            if (Thread.interrupted()) {
+                logger.info("Generation of quiz IDs: {} was cancelled", quizIds);
+            } else {
+                logger.error("Failed to generate quiz questions for quiz IDs: {}", quizIds, e);
+            }
+            quizIds.forEach(this::markFailed);
             throw new QuizCreationException(e.getMessage());
         }
     }
 
+    @Override
+    public void markFailed(UUID quizId) {
+        updateStatus(quizId, CreationStatus.FAILURE);
+    }
+
     /**
-     * Processes the AI model's response and creates quiz questions.
+     * Processes the AI model's response into quiz questions.
      * This method handles the parsing of JSON responses and creation of QuizQuestion entities.
      *
      * @param message Raw message response from the AI model
-     * @param quiz Quiz entity to associate the generated questions with
+     * @param numberOfQuestions Number of questions requested
+     * @param quizIds IDs of the quizzes the questions were generated for
+     * @return Unsaved questions, in the order generated
      * @throws JsonProcessingException if JSON parsing fails
      * @throws QuizCreationException if the required number of questions is not generated
      */
-    private void processLLMMessage(String message, Quiz quiz) throws JsonProcessingException {
-        logger.debug("Processing AI response for quiz ID: {}", quiz.getId());
+    private List<QuizQuestion> processLLMMessage(String message, int numberOfQuestions, List<UUID> quizIds) throws JsonProcessingException {
+        logger.debug("Processing AI response for quiz IDs: {}", quizIds);
         // Remove the <think> section if it exists
         if (message.contains("<think>") && message.contains("</think>")) {
             message = message.replaceAll("<think>.*?</think>", "").trim();
@@ -149,25 +206,121 @@ public class OllamaQuizQuizServiceImpl implements OllamaQuizService {
         // Parse JSON into QuizResponse
         QuizResponse quizResponse = objectMapper.readValue(json, QuizResponse.class);
 
-        // Save QuizQuestion entities
         List<QuizQuestion> quizQuestions = quizResponse.getQuizQuestionList().stream().map(q -> {
             QuizQuestion quizQuestion = new QuizQuestion();
-            quizQuestion.setQuiz(quiz); // Associate the saved Quiz
             quizQuestion.setQuestion(q.getQuestion());
             quizQuestion.setAnsOptions(q.getOptions());
             quizQuestion.setCorrectAnswer(q.getAnswer());
             return quizQuestion;
         }).toList();
 
-        if (quizQuestions.isEmpty() || quizQuestions.size() != quiz.getNumberOfQuestions()) {
-            quiz.setCreationStatus(CreationStatus.FAILURE.name());
-            quizRepository.saveAndFlush(quiz);
+        if (quizQuestions.isEmpty() || quizQuestions.size() != numberOfQuestions) {
             throw new QuizCreationException("No questions generated");
         }
+        return quizQuestions;
+    }
+
+    /**
+     * Splits generated questions across quizzes in order and saves each quiz's share.
+     * Must be called within a transaction.
+     *
+     * @param quizzes Quizzes the questions were generated for, in request order
+     * @param quizQuestions Unsaved questions, as many as the quizzes have in total
+     * @return IDs of the quizzes whose questions were saved
+     */
+    private Set<UUID> storeQuestions(List<Quiz> quizzes, List<QuizQuestion> quizQuestions) {
+        Set<UUID> stored = new HashSet<>();
+        int from = 0;
+        for (Quiz quiz : quizzes) {
+            int to = from + questionCount(quiz);
+            if (storeQuestions(quiz.getId(), quizQuestions.subList(from, to))) {
+                stored.add(quiz.getId());
+            }
+            from = to;
+        }
+        return stored;
+    }
+
+    /**
+     * Saves generated questions and marks the quiz ready, unless it has been deleted.
+     * Must be called within a transaction.
+     *
+     * @param quizId ID of the quiz
+     * @param quizQuestions Unsaved questions of the quiz
+     * @return true if the questions were saved
+     */
+    private boolean storeQuestions(UUID quizId, List<QuizQuestion> quizQuestions) {
+        Optional<Quiz> active = quizRepository.findActiveById(quizId);
+        if (active.isEmpty()) {
+            return false;
+        }
+        Quiz quiz = active.get();
+        quizQuestions.forEach(quizQuestion -> quizQuestion.setQuiz(quiz));
         // Save the quiz questions to the database
-        List<QuizQuestion> savedQuizQuestions = quizQuestionRepo.saveAll(quizQuestions);
-        quiz.setQuizQuestionList(savedQuizQuestions);
+        quiz.getQuizQuestionList().addAll(quizQuestionRepo.saveAll(quizQuestions));
         quiz.setCreationStatus(CreationStatus.SUCCESS.name());
-        quizRepository.save(quiz);
+        return true;
+    }
+
+    /**
+     * Sets the status of quizzes to IN_PROGRESS in one transaction, leaving out deleted ones.
+     *
+     * @param quizzes Quizzes about to be generated
+     * @return The quizzes that are not deleted, in the given order
+     */
+    private List<Quiz> startGeneration(List<Quiz> quizzes) {
+        return transactionTemplate.execute(tx -> quizzes.stream()
+                .filter(quiz -> quizRepository.findActiveById(quiz.getId())
+                        .map(active -> {
+                            active.setCreationStatus(CreationStatus.IN_PROGRESS.name());
+                            return true;
+                        })
+                        .orElse(false))
+                .toList());
+    }
+
+    /**
+     * Returns the number of questions to generate for a quiz.
+     * Quizzes created before the count was validated may lack one; like the scheduler, they count as one question.
+     *
+     * @param quiz Quiz to generate questions for
+     * @return Number of questions, at least 1
+     */
+    private static int questionCount(Quiz quiz) {
+        return quiz.getNumberOfQuestions() == null ? 1 : quiz.getNumberOfQuestions();
+    }
+
+    /**
+     * Creates the prompt for quizzes of the same type and level.
+     * A single quiz gets the per-quiz prompt; several share one prompt for their total number of questions.
+     *
+     * @param quizzes Quizzes to generate questions for
+     * @param numberOfQuestions Total number of questions of the quizzes
+     * @return Prompt text
+     */
+    private static String formatPrompt(List<Quiz> quizzes, int numberOfQuestions) {
+        Quiz first = quizzes.get(0);
+        String template = quizzes.size() == 1 ? promptString : batchPromptString;
+        return template
+                .replace("{quizId}", String.valueOf(first.getId()))
+                .replace("{quizType}", first.getQuizType())
+                .replace("{quizLevel}", first.getQuizLevel())
+                .replace("{numberOfQuestions}", String.valueOf(numberOfQuestions));
+    }
+
+    /**
+     * Sets the creation status of a quiz in its own transaction, unless the quiz has been deleted.
+     *
+     * @param quizId ID of the quiz
+     * @param status New creation status
+     * @return true if the status was set
+     */
+    private boolean updateStatus(UUID quizId, CreationStatus status) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(tx -> quizRepository.findActiveById(quizId)
+                .map(quiz -> {
+                    quiz.setCreationStatus(status.name());
+                    return true;
+                })
+                .orElse(false)));
     }
 }
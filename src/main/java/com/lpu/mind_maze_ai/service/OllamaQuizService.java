@@ -2,15 +2,28 @@ package com.lpu.mind_maze_ai.service;
 
 import com.lpu.mind_maze_ai.entity.Quiz;
 
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * Service interface for generating quiz questions using Ollama AI.
  */
 public interface OllamaQuizService {
     /**
-     * Generates quiz questions using AI for a given quiz.
+     * Generates quiz questions using AI for quizzes of the same type and level with one prompt.
+     * Interrupting the calling thread aborts the request to the model.
      *
-     * @param quiz The quiz entity for which questions need to be generated
+     * @param quizzes The quiz entities for which questions need to be generated, all of the same type and level
+     * @return IDs of the quizzes whose questions were stored; quizzes deleted before they could be are left out
      * @throws com.lpu.mind_maze_ai.exception.QuizCreationException if there's an error during question generation
      */
-    void getQuizQuestions(Quiz quiz);
+    Set<UUID> getQuizQuestions(List<Quiz> quizzes);
+
+    /**
+     * Marks a quiz's generation as failed, unless the quiz has been deleted.
+     *
+     * @param quizId ID of the quiz
+     */
+    void markFailed(UUID quizId);
 }
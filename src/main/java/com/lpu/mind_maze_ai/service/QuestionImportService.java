@@ -0,0 +1,27 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.model.ImportFormat;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for importing curated question banks.
+ */
+public interface QuestionImportService {
+    /**
+     * Creates a ready-to-play quiz from an uploaded question bank.
+     *
+     * @param input Stream of the uploaded bank
+     * @param format Format of the uploaded bank
+     * @param quizType Type of the new quiz
+     * @param quizLevel Difficulty level of the new quiz
+     * @param userId The ID of the user who will own the quiz
+     * @return The created quiz entity
+     * @throws com.lpu.mind_maze_ai.exception.InvalidImportException if the bank is malformed or too large
+     * @throws RuntimeException if the user is not found
+     */
+    Quiz importQuiz(InputStream input, ImportFormat format, QuizType quizType, QuizLevel quizLevel, Long userId);
+}
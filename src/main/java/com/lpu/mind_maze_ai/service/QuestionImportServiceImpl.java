@@ -0,0 +1,242 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.UuidV7Generator;
+import com.lpu.mind_maze_ai.exception.InvalidImportException;
+import com.lpu.mind_maze_ai.model.CreationStatus;
+import com.lpu.mind_maze_ai.model.ImportFormat;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizQuestionDTO;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Implementation of QuestionImportService that streams question banks into Postgres with COPY.
+ * This service handles:
+ * - Parsing CSV and NDJSON uploads row by row
+ * - Validating every question before it is sent
+ * - Writing all questions of the bank in a single COPY operation
+ *
+ * The upload is never materialized: rows are parsed, validated and encoded into a
+ * bounded buffer that is flushed to the COPY stream whenever it fills up.
+ *
+ * @see QuestionImportService
+ */
+@Service
+public class QuestionImportServiceImpl implements QuestionImportService {
+    private static final Logger logger = LoggerFactory.getLogger(QuestionImportServiceImpl.class);
+    private static final String COPY_SQL = "COPY quiz_question (id, quiz_id, question, ans_options, correct_answer, " +
+            "created_at, updated_at, created_by, updated_by) FROM STDIN WITH (FORMAT csv)";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MIN_OPTIONS = 2;
+
+    private final QuizRepository quizRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int maxQuestions;
+
+    /**
+     * Creates a new instance of QuestionImportServiceImpl with required dependencies.
+     *
+     * @param quizRepository Repository for managing quizzes
+     * @param userRepository Repository for managing user data
+     * @param jdbcTemplate Template giving access to the transaction's JDBC connection
+     * @param objectMapper Mapper for NDJSON rows
+     * @param maxQuestions Maximum number of questions accepted per import
+     */
+    public QuestionImportServiceImpl(QuizRepository quizRepository, UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                                     ObjectMapper objectMapper, @Value("${quiz.import.max-questions}") int maxQuestions) {
+        this.quizRepository = quizRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ndjsonReader = objectMapper.readerFor(QuizQuestionDTO.class);
+        this.csvReader = new CsvMapper().readerFor(QuizQuestionDTO.class)
+                .with(CsvSchema.emptySchema().withHeader().withArrayElementSeparator(";"));
+        this.maxQuestions = maxQuestions;
+    }
+
+    /**
+     * Creates a quiz and copies the uploaded questions into it.
+     *
+     * Implementation Details:
+     * 1. Persists the quiz in IN_PROGRESS status so the questions can reference it
+     * 2. Streams the upload through COPY on the transaction's connection
+     * 3. Marks the quiz SUCCESS with the imported question count
+     * 4. Any invalid row aborts the COPY and rolls the whole import back
+     *
+     * @param input Stream of the uploaded bank
+     * @param format Format of the uploaded bank
+     * @param quizType Type of the new quiz
+     * @param quizLevel Difficulty level of the new quiz
+     * @param userId The ID of the user who will own the quiz
+     * @return The created quiz entity
+     * @throws InvalidImportException if the bank is malformed, empty or too large
+     */
+    @Override
+    @Transactional
+    public Quiz importQuiz(InputStream input, ImportFormat format, QuizType quizType, QuizLevel quizLevel, Long userId) {
+        logger.debug("Importing {} question bank for user with ID: {}", format, userId);
+        CustomUserDetails user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
+
+        Quiz quiz = new Quiz();
+        quiz.setUser(user);
+        quiz.setQuizType(quizType.name());
+        quiz.setQuizLevel(quizLevel.name());
+        quiz.setNumberOfQuestions(0);
+        quiz.setCreationStatus(CreationStatus.IN_PROGRESS.name());
+        quizRepository.saveAndFlush(quiz);
+
+        ObjectReader reader = format == ImportFormat.CSV ? csvReader : ndjsonReader;
+        Long imported = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> copyQuestions(connection, reader, input, quiz));
+        if (imported == null || imported == 0) {
+            throw new InvalidImportException("Question bank contains no questions");
+        }
+
+        quiz.setNumberOfQuestions(imported.intValue());
+        quiz.setCreationStatus(CreationStatus.SUCCESS.name());
+        logger.info("Imported {} questions into quiz with ID: {} for user with ID: {}", imported, quiz.getId(), userId);
+        return quiz;
+    }
+
+    /**
+     * Parses the upload and streams every row into quiz_question.
+     *
+     * @param connection Connection of the current transaction
+     * @param reader Reader for the upload format
+     * @param input Stream of the uploaded bank
+     * @param quiz Quiz the questions belong to
+     * @return Number of rows copied
+     * @throws SQLException if the COPY fails
+     */
+    private long copyQuestions(Connection connection, ObjectReader reader, InputStream input, Quiz quiz) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        String quizId = quiz.getId().toString();
+        String createdAt = quiz.getCreatedAt().toString();
+        String createdBy = quiz.getCreatedBy();
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+        long row = 0;
+        try (MappingIterator<QuizQuestionDTO> questions = reader.readValues(input)) {
+            while (questions.hasNextValue()) {
+                QuizQuestionDTO question = questions.nextValue();
+                row++;
+                if (row > maxQuestions) {
+                    throw new InvalidImportException("Question bank exceeds the limit of " + maxQuestions + " questions");
+                }
+                validate(question, row);
+                appendField(buffer, UuidV7Generator.next().toString()).append(',');
+                appendField(buffer, quizId).append(',');
+                appendField(buffer, question.getQuestion()).append(',');
+                appendField(buffer, toArrayLiteral(question.getOptions())).append(',');
+                appendField(buffer, question.getAnswer()).append(',');
+                appendField(buffer, createdAt).append(',');
+                appendField(buffer, createdAt).append(',');
+                appendField(buffer, createdBy).append(',');
+                appendField(buffer, createdBy).append('\n');
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    flush(copyIn, buffer);
+                }
+            }
+            flush(copyIn, buffer);
+            return copyIn.endCopy();
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportException("Malformed question at row " + (row + 1) + ": " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new InvalidImportException("Failed to read question bank", e);
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Rejects questions that could not be played.
+     *
+     * @param question Parsed question
+     * @param row One-based row number, for the error message
+     * @throws InvalidImportException if the question is incomplete
+     */
+    private void validate(QuizQuestionDTO question, long row) {
+        if (question.getQuestion() == null || question.getQuestion().isBlank()) {
+            throw new InvalidImportException("Question text is missing at row " + row);
+        }
+        List<String> options = question.getOptions();
+        if (options == null || options.size() < MIN_OPTIONS || options.stream().anyMatch(option -> option == null || option.isBlank())) {
+            throw new InvalidImportException("At least " + MIN_OPTIONS + " non-empty options are required at row " + row);
+        }
+        if (question.getAnswer() == null || options.stream().noneMatch(option -> option.equalsIgnoreCase(question.getAnswer()))) {
+            throw new InvalidImportException("Answer is not one of the options at row " + row);
+        }
+    }
+
+    /**
+     * Writes the buffered rows to the COPY stream and clears the buffer.
+     *
+     * @param copyIn Active COPY operation
+     * @param buffer Encoded rows
+     * @throws SQLException if the server rejects the data
+     */
+    private void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Appends a value as a quoted CSV field, so empty strings are never read as NULL.
+     *
+     * @param buffer Target buffer
+     * @param value Field value
+     * @return The buffer, for chaining
+     */
+    private static StringBuilder appendField(StringBuilder buffer, String value) {
+        return buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * Encodes options as a Postgres text[] literal with every element quoted.
+     *
+     * @param options Answer options
+     * @return Array literal such as {"a","b"}
+     */
+    private static String toArrayLiteral(List<String> options) {
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < options.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"').append(options.get(i).replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        return literal.append('}').toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.lpu.mind_maze_ai.service;
+
+/**
+ * Service interface for keeping the live quiz progress table small.
+ */
+public interface QuizArchiveService {
+    /**
+     * Creates the monthly progress partitions needed for upcoming attempts.
+     *
+     * @return Number of partitions created
+     */
+    int createPartitions();
+
+    /**
+     * Moves completed attempts past the retention period to the archive, up to a bounded
+     * number of batches per run, and drops the monthly progress partitions left empty.
+     *
+     * @return Number of attempts archived
+     */
+    int archiveFinishedAttempts();
+}
@@ -0,0 +1,174 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.model.ProgressPartition;
+import com.lpu.mind_maze_ai.repository.QuizProgressArchiveRepository;
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of QuizArchiveService that maintains the monthly progress partitions.
+ * This service handles:
+ * - Creating partitions ahead of the attempts that will land in them
+ * - Claiming batches of completed attempts past the retention period
+ * - Copying them to the archive and deleting them with their asked question IDs
+ * - Detaching and dropping old partitions once they are empty
+ *
+ * Each batch runs in its own transaction, like the quiz purge, so an archival run never holds
+ * locks on more than one batch of attempts. A run archives a bounded number of batches and leaves
+ * the rest to the next run, so it never occupies a scheduler thread for long. Attempts that were
+ * never completed stay in place.
+ * Partitions are detached with DETACH PARTITION ... CONCURRENTLY, which can not run in a transaction,
+ * so the removal statements run outside of one and never block queries on quiz_progress.
+ *
+ * @see QuizArchiveService
+ */
+@Service
+public class QuizArchiveServiceImpl implements QuizArchiveService {
+    private static final Logger logger = LoggerFactory.getLogger(QuizArchiveServiceImpl.class);
+    private final QuizProgressRepository progressRepository;
+    private final QuizProgressArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int afterDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int partitionsAhead;
+
+    /**
+     * Creates a new instance of QuizArchiveServiceImpl with required dependencies.
+     *
+     * @param progressRepository Repository for managing quiz progress data
+     * @param archiveRepository Repository for archived quiz progress
+     * @param transactionManager Transaction manager for the per-batch transactions
+     * @param jdbcTemplate Template for the partition removal statements
+     * @param afterDays Number of days after its start a completed attempt is archived
+     * @param batchSize Maximum number of attempts archived per transaction
+     * @param maxBatchesPerRun Maximum number of batches archived per scheduled run
+     * @param partitionsAhead Number of monthly partitions kept ready past the current month
+     */
+    public QuizArchiveServiceImpl(QuizProgressRepository progressRepository, QuizProgressArchiveRepository archiveRepository,
+                                  PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate,
+                                  @Value("${quiz.archive.after-days}") int afterDays,
+                                  @Value("${quiz.archive.batch-size}") int batchSize,
+                                  @Value("${quiz.archive.max-batches-per-run}") int maxBatchesPerRun,
+                                  @Value("${quiz.archive.partitions-ahead}") int partitionsAhead) {
+        this.progressRepository = progressRepository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    /**
+     * Creates the partitions of the current and upcoming months at startup,
+     * so attempts can be stored even if the application was down across a month boundary.
+     *
+     * @return Number of partitions created
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public int createPartitions() {
+        int created = transactionTemplate.execute(status ->
+                progressRepository.createPartitions(LocalDateTime.now(), partitionsAhead));
+        if (created > 0) {
+            logger.info("Created {} quiz progress partitions", created);
+        }
+        return created;
+    }
+
+    /**
+     * Archives completed attempts batch by batch until none past the retention period are left
+     * or the run reached its batch limit, then drops the partitions they emptied.
+     *
+     * @return Number of attempts archived
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${quiz.archive.interval}", initialDelayString = "${quiz.archive.interval}")
+    public int archiveFinishedAttempts() {
+        createPartitions();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        int archived = 0;
+        int batches = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += batch;
+        } while (batch == batchSize && ++batches < maxBatchesPerRun);
+        if (batch == batchSize) {
+            logger.info("Reached {} archive batches, leaving the remaining attempts to the next run", maxBatchesPerRun);
+        }
+        int dropped = dropEmptyPartitions(cutoff);
+        if (archived > 0 || dropped > 0) {
+            logger.info("Archived {} finished quiz attempts and dropped {} empty partitions", archived, dropped);
+        }
+        return archived;
+    }
+
+    /**
+     * Removes the monthly partitions that ended before the cutoff and no longer hold attempts.
+     *
+     * Implementation Details:
+     * 1. Detaches attached partitions concurrently, which waits for running queries instead of blocking new ones
+     * 2. Finalizes partitions whose concurrent detach was interrupted
+     * 3. Drops the detached tables
+     * 4. A partition that fails any step is logged and retried on the next run
+     *
+     * @param cutoff Only partitions ending at or before this time are removed
+     * @return Number of partitions dropped
+     */
+    private int dropEmptyPartitions(LocalDateTime cutoff) {
+        int dropped = 0;
+        for (ProgressPartition partition : progressRepository.findEmptyPartitions(cutoff)) {
+            // Names are validated by the listing function; quoting keeps them from being read as SQL
+            String table = '"' + partition.getName() + '"';
+            try {
+                switch (partition.getState()) {
+                    case "attached" -> jdbcTemplate.execute("ALTER TABLE quiz_progress DETACH PARTITION " + table + " CONCURRENTLY");
+                    case "detach_pending" -> jdbcTemplate.execute("ALTER TABLE quiz_progress DETACH PARTITION " + table + " FINALIZE");
+                    default -> {
+                    }
+                }
+                jdbcTemplate.execute("DROP TABLE " + table);
+                dropped++;
+            } catch (DataAccessException e) {
+                logger.warn("Failed to drop quiz progress partition {}, retrying on the next run", partition.getName(), e);
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Moves one batch of completed attempts to the archive.
+     *
+     * @param cutoff Attempts started before this time are archived
+     * @return Number of attempts claimed
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<UUID> progressIds = progressRepository.lockArchivableIds(cutoff, batchSize);
+        if (progressIds.isEmpty()) {
+            return 0;
+        }
+        int copied = archiveRepository.archiveAll(progressIds);
+        int askedQuestions = progressRepository.deleteAskedQuestionIdsByIds(progressIds);
+        int attempts = progressRepository.deleteAllByIds(progressIds);
+        logger.debug("Archived {} attempts ({} copied) with {} asked questions", attempts, copied, askedQuestions);
+        return progressIds.size();
+    }
+}
@@ -0,0 +1,36 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.model.GenerationBacklog;
+
+import java.util.UUID;
+
+/**
+ * Service scheduling quiz generation fairly across users.
+ */
+public interface QuizGenerationScheduler {
+    /**
+     * Queues a quiz for question generation under its owner.
+     *
+     * @param quiz Saved quiz whose owner, including roles, is loaded
+     * @throws com.lpu.mind_maze_ai.exception.ServerBusyException if the generation queue is full
+     */
+    void schedule(Quiz quiz);
+
+    /**
+     * Describes a user's quizzes waiting for generation.
+     *
+     * @param userId ID of the user
+     * @return Number of queued quizzes and how long the oldest has waited
+     */
+    GenerationBacklog backlog(Long userId);
+
+    /**
+     * Cancels generation of a quiz that is queued or running.
+     * A running generation has its request to the model aborted.
+     *
+     * @param quizId ID of the quiz
+     * @return true if a generation was cancelled
+     */
+    boolean cancel(UUID quizId);
+}
@@ -0,0 +1,506 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.config.QuizGenerationProperties;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.event.QuizDeletedEvent;
+import com.lpu.mind_maze_ai.exception.ServerBusyException;
+import com.lpu.mind_maze_ai.model.GenerationBacklog;
+import com.lpu.mind_maze_ai.util.DeficitRoundRobinQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementation of QuizGenerationScheduler queuing generation work per user.
+ * Quizzes wait in a {@link DeficitRoundRobinQueue} keyed by user ID and are generated by a fixed
+ * number of worker threads, so a user who creates many quizzes at once only delays other users
+ * by one quiz per turn instead of pushing them to the back of a FIFO queue.
+ *
+ * Each user's share of the turns is the highest weight configured for their roles. Turns are
+ * measured in questions, so a quiz of 20 questions uses twice the share of one of 10.
+ *
+ * Every queued or running generation is registered under its quiz ID and can be cancelled, which
+ * happens when the quiz is deleted or when it has not finished within {@code quiz.generation.deadline}
+ * of being queued. A cancelled generation that is still queued is dropped when its turn comes; a
+ * running one has its worker interrupted, which aborts the request to Ollama and frees the worker.
+ * Generations cancelled by the deadline are marked FAILURE.
+ *
+ * With {@code quiz.generation.batch-window} set, a worker that takes a quiz also claims the queued
+ * quizzes of the same type and level, up to {@code quiz.generation.batch-max-questions} questions, and
+ * generates them all with one prompt, so the fixed cost of a prompt is paid once per batch. Claimed
+ * quizzes are charged to their owners' turns. If the batch has room and no other quiz is waiting, the
+ * worker first waits up to the window for compatible quizzes to arrive; this adds at most one window
+ * of latency, and only while the workers are not all busy. A running batch is aborted once all
+ * of its quizzes are cancelled; until then cancelled quizzes only have their questions discarded,
+ * and quizzes past their deadline keep the questions if the batch succeeds.
+ *
+ * Publishes:
+ * - {@code quiz.generation.wait}: time quizzes spent queued, tagged by the role that set the weight
+ * - {@code quiz.generation.queued}: quizzes waiting across all users
+ * - {@code quiz.generation.users}: users with quizzes waiting
+ * - {@code quiz.generation.rejected}: quizzes refused because the queue was full
+ * - {@code quiz.generation.batch.quizzes}: quizzes generated per prompt
+ * - {@code quiz.generation.wasted}: generation time spent on quizzes that were cancelled or deleted,
+ *   tagged by reason and by whether generation had started; a batch's time is shared by question count
+ */
+@Service
+public class QuizGenerationSchedulerImpl implements QuizGenerationScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(QuizGenerationSchedulerImpl.class);
+    private static final String DEFAULT_ROLE = "default";
+    private static final String DELETED = "deleted";
+    private static final String DEADLINE = "deadline";
+
+    private final OllamaQuizService ollamaQuizService;
+    private final MeterRegistry meterRegistry;
+    private final int threads;
+    private final int defaultWeight;
+    private final Map<String, Integer> weights;
+    private final long deadlineNanos;
+    private final long batchWindowNanos;
+    private final int batchMaxQuestions;
+    private final DeficitRoundRobinQueue<Long, Generation> queue;
+    private final Map<UUID, Generation> generations = new ConcurrentHashMap<>();
+    /** Batches still accepting quizzes, by type and level; guards the membership of every forming batch */
+    private final Map<String, Batch> forming = new HashMap<>();
+    private final Counter rejected;
+    private final DistributionSummary batchSize;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * Creates the scheduler; its workers start once the application is ready.
+     *
+     * @param ollamaQuizService Service generating the questions of a quiz
+     * @param properties Scheduler settings
+     * @param meterRegistry Registry the scheduler metrics are published to
+     */
+    public QuizGenerationSchedulerImpl(OllamaQuizService ollamaQuizService, QuizGenerationProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.ollamaQuizService = ollamaQuizService;
+        this.meterRegistry = meterRegistry;
+        this.threads = properties.getThreads();
+        this.defaultWeight = properties.getDefaultWeight();
+        this.weights = Map.copyOf(properties.getWeights());
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(properties.getDeadline());
+        this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getBatchWindow());
+        this.batchMaxQuestions = properties.getBatchMaxQuestions();
+        this.queue = new DeficitRoundRobinQueue<>(properties.getQuantum(), properties.getQueueCapacity());
+        this.rejected = Counter.builder("quiz.generation.rejected")
+                .description("Quizzes refused because the generation queue was full")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("quiz.generation.batch.quizzes")
+                .description("Quizzes generated per prompt")
+                .register(meterRegistry);
+        Gauge.builder("quiz.generation.queued", queue, DeficitRoundRobinQueue::size)
+                .description("Quizzes waiting for generation")
+                .register(meterRegistry);
+        Gauge.builder("quiz.generation.users", queue, DeficitRoundRobinQueue::keys)
+                .description("Users with quizzes waiting for generation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a quiz for question generation under its owner.
+     *
+     * Implementation Details:
+     * 1. Resolves the owner's weight from the highest weighted of their roles
+     * 2. Costs the quiz by its number of questions
+     * 3. Registers a cancellable generation with its deadline
+     * 4. Queues it under the owner's ID, or counts and refuses it if the queue is full
+     *
+     * @param quiz Saved quiz whose owner, including roles, is loaded
+     * @throws ServerBusyException if the generation queue is full
+     */
+    @Override
+    public void schedule(Quiz quiz) {
+        String role = DEFAULT_ROLE;
+        int weight = defaultWeight;
+        for (GrantedAuthority authority : quiz.getUser().getAuthorities()) {
+            Integer roleWeight = weights.get(authority.getAuthority());
+            if (roleWeight != null && roleWeight > weight) {
+                role = authority.getAuthority();
+                weight = roleWeight;
+            }
+        }
+        long cost = quiz.getNumberOfQuestions() == null ? 1 : quiz.getNumberOfQuestions();
+        Generation generation = new Generation(quiz, role, cost, System.nanoTime() + deadlineNanos);
+        generations.put(quiz.getId(), generation);
+        if (!queue.offer(quiz.getUser().getId(), weight, cost, generation)) {
+            generations.remove(quiz.getId());
+            rejected.increment();
+            throw new ServerBusyException("Too many quizzes are waiting for generation, please retry");
+        }
+        logger.debug("Queued quiz ID: {} for user ID: {} with weight {}", quiz.getId(), quiz.getUser().getId(), weight);
+    }
+
+    @Override
+    public GenerationBacklog backlog(Long userId) {
+        DeficitRoundRobinQueue.Backlog backlog = queue.backlog(userId);
+        return new GenerationBacklog(backlog.queued(), TimeUnit.NANOSECONDS.toMillis(backlog.waitNanos()));
+    }
+
+    @Override
+    public boolean cancel(UUID quizId) {
+        return cancel(quizId, DELETED);
+    }
+
+    /**
+     * Cancels generation of a quiz once its deletion has committed.
+     *
+     * @param event Event describing the deleted quiz
+     */
+    @TransactionalEventListener
+    public void onQuizDeleted(QuizDeletedEvent event) {
+        if (cancel(event.quizId(), DELETED)) {
+            logger.info("Cancelled generation of deleted quiz ID: {}", event.quizId());
+        }
+    }
+
+    /**
+     * Cancels generations that have not finished within the deadline of being queued.
+     */
+    @Scheduled(fixedDelayString = "${quiz.generation.deadline-check-interval}")
+    public void enforceDeadlines() {
+        long now = System.nanoTime();
+        generations.forEach((quizId, generation) -> {
+            if (now - generation.deadline >= 0 && generation.cancel(DEADLINE)) {
+                logger.warn("Generation of quiz ID: {} missed its deadline and was cancelled", quizId);
+            }
+        });
+    }
+
+    /**
+     * Starts the worker threads once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("quiz-generation-");
+        threadFactory.setDaemon(true);
+        for (int i = 0; i < threads; i++) {
+            Thread worker = threadFactory.newThread(this::work);
+            workers.add(worker);
+            worker.start();
+        }
+        logger.info("Started {} quiz generation workers", threads);
+    }
+
+    /**
+     * Stops the worker threads, aborting running generations; quizzes still queued stay NOT_STARTED.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+    }
+
+    private boolean cancel(UUID quizId, String reason) {
+        Generation generation = generations.get(quizId);
+        return generation != null && generation.cancel(reason);
+    }
+
+    /**
+     * Generates queued quizzes in fair order until stopped.
+     * Generation failures are recorded on the quiz by the generating service and do not stop the worker.
+     */
+    private void work() {
+        while (running) {
+            DeficitRoundRobinQueue.Entry<Long, Generation> entry;
+            try {
+                entry = queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            Generation generation = entry.item();
+            recordWait(generation, entry.waitNanos());
+            if (System.nanoTime() - generation.deadline >= 0) {
+                generation.cancel(DEADLINE);
+            }
+            if (generation.cancelReason() != null) {
+                generations.remove(generation.quiz.getId());
+                abandoned(generation, generation.cancelReason(), "queued", 0);
+                continue;
+            }
+            Batch batch = batch(generation);
+            if (batch != null) {
+                generate(batch);
+            }
+        }
+    }
+
+    /**
+     * Places a taken generation in a batch.
+     * Without a batch window every generation forms its own batch. Otherwise the generation joins
+     * the forming batch of its type and level if that has room, or starts one: it claims the
+     * compatible quizzes already queued and, if the batch still has room and no other quiz is waiting,
+     * waits out the window for more to arrive.
+     *
+     * @param generation Generation taken from the queue
+     * @return Batch the current worker has to generate, or null if the generation joined another worker's batch
+     */
+    private Batch batch(Generation generation) {
+        if (batchWindowNanos <= 0) {
+            return new Batch(generation);
+        }
+        synchronized (forming) {
+            Batch open = forming.get(generation.batchKey);
+            if (open != null && open.fits(generation)) {
+                open.add(generation);
+                if (open.questions >= batchMaxQuestions) {
+                    forming.remove(generation.batchKey);
+                    open.sealed = true;
+                    forming.notifyAll();
+                }
+                return null;
+            }
+            Batch batch = new Batch(generation);
+            claimQueued(batch);
+            if (batch.questions < batchMaxQuestions && queue.size() == 0) {
+                forming.put(generation.batchKey, batch);
+                long windowEnd = System.nanoTime() + batchWindowNanos;
+                try {
+                    long remaining;
+                    while (!batch.sealed && (remaining = windowEnd - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(forming, remaining);
+                    }
+                } catch (InterruptedException e) {
+                    // Stopping; the interrupt aborts the generation below
+                    Thread.currentThread().interrupt();
+                }
+                forming.remove(generation.batchKey, batch);
+                claimQueued(batch);
+            }
+            batch.sealed = true;
+            return batch;
+        }
+    }
+
+    /**
+     * Moves queued quizzes that fit a forming batch into it, ahead of their turn.
+     * Their owners are charged for them in the queue, so the fair shares hold over time.
+     * Must be called with the lock of the forming batches held.
+     *
+     * @param batch Forming batch
+     */
+    private void claimQueued(Batch batch) {
+        for (DeficitRoundRobinQueue.Entry<Long, Generation> entry : queue.drain(queued -> {
+            if (queued.cancelReason() == null && batch.fits(queued)) {
+                batch.add(queued);
+                return true;
+            }
+            return false;
+        })) {
+            recordWait(entry.item(), entry.waitNanos());
+            if (System.nanoTime() - entry.item().deadline >= 0) {
+                entry.item().cancel(DEADLINE);
+            }
+        }
+    }
+
+    /**
+     * Runs one batch on the current worker and accounts for its quizzes that were cancelled or whose result was discarded.
+     *
+     * @param batch Sealed batch
+     */
+    private void generate(Batch batch) {
+        List<Generation> live = batch.start(Thread.currentThread());
+        for (Generation generation : batch.members) {
+            if (!live.contains(generation)) {
+                generations.remove(generation.quiz.getId());
+                abandoned(generation, generation.cancelReason(), "queued", 0);
+            }
+        }
+        if (live.isEmpty()) {
+            return;
+        }
+        batchSize.record(live.size());
+        long started = System.nanoTime();
+        Set<UUID> stored = Set.of();
+        boolean failed = false;
+        try {
+            stored = ollamaQuizService.getQuizQuestions(live.stream().map(generation -> generation.quiz).toList());
+        } catch (RuntimeException e) {
+            failed = true;
+            logger.debug("Generation of quizzes {} failed", live.stream().map(generation -> generation.quiz.getId()).toList(), e);
+        } finally {
+            batch.finish();
+            long elapsed = System.nanoTime() - started;
+            long questions = live.stream().mapToLong(generation -> generation.cost).sum();
+            for (Generation generation : live) {
+                generations.remove(generation.quiz.getId());
+                if (stored.contains(generation.quiz.getId())) {
+                    continue;
+                }
+                long share = elapsed * generation.cost / questions;
+                String reason = generation.cancelReason();
+                if (reason != null) {
+                    abandoned(generation, reason, "running", share);
+                } else if (!failed) {
+                    // The quiz was deleted before the questions could be stored
+                    abandoned(generation, DELETED, "running", share);
+                }
+            }
+        }
+    }
+
+    private void recordWait(Generation generation, long waitNanos) {
+        Timer.builder("quiz.generation.wait")
+                .description("Time quizzes spent waiting for generation")
+                .tag("role", generation.role)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a generation that was cancelled or whose result was discarded.
+     * Generations cancelled by the deadline are marked FAILURE, since their quiz will never be ready.
+     *
+     * @param generation Abandoned generation
+     * @param reason Why it was abandoned
+     * @param stage Whether it was still queued or already running
+     * @param wastedNanos Generation time spent on it
+     */
+    private void abandoned(Generation generation, String reason, String stage, long wastedNanos) {
+        Timer.builder("quiz.generation.wasted")
+                .description("Generation time spent on quizzes that were cancelled or deleted")
+                .tags("reason", reason, "stage", stage)
+                .register(meterRegistry)
+                .record(wastedNanos, TimeUnit.NANOSECONDS);
+        if (DEADLINE.equals(reason)) {
+            try {
+                ollamaQuizService.markFailed(generation.quiz.getId());
+            } catch (RuntimeException e) {
+                logger.warn("Could not mark quiz ID: {} as failed", generation.quiz.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * Cancellable handle of a queued or running generation.
+     * Once in a batch, cancelling the last live quiz of the running batch interrupts its worker.
+     */
+    private static final class Generation {
+        private final Quiz quiz;
+        private final String role;
+        private final long cost;
+        private final long deadline;
+        /** Quizzes with the same key can share a prompt */
+        private final String batchKey;
+        private final AtomicReference<String> cancelReason = new AtomicReference<>();
+        private volatile Batch batch;
+
+        private Generation(Quiz quiz, String role, long cost, long deadline) {
+            this.quiz = quiz;
+            this.role = role;
+            this.cost = cost;
+            this.deadline = deadline;
+            this.batchKey = quiz.getQuizType() + "/" + quiz.getQuizLevel();
+        }
+
+        /**
+         * Cancels the generation, aborting its batch if no other quiz of the batch is still wanted.
+         *
+         * @param reason Why the generation is cancelled
+         * @return false if it had already been cancelled
+         */
+        private boolean cancel(String reason) {
+            if (!cancelReason.compareAndSet(null, reason)) {
+                return false;
+            }
+            Batch current = batch;
+            if (current != null) {
+                current.cancelled();
+            }
+            return true;
+        }
+
+        private String cancelReason() {
+            return cancelReason.get();
+        }
+    }
+
+    /**
+     * Quizzes of the same type and level generated with one prompt by one worker.
+     * Members are added while the batch forms, under the lock of the forming batches, and fixed once
+     * it is sealed. The worker clears the interrupt a cancellation may have caused when it finishes,
+     * so a late cancellation can never reach the next batch.
+     */
+    private final class Batch {
+        private final List<Generation> members = new ArrayList<>();
+        private long questions;
+        private boolean sealed;
+        private Thread runner;
+
+        private Batch(Generation first) {
+            add(first);
+        }
+
+        private boolean fits(Generation generation) {
+            return generation.batchKey.equals(members.get(0).batchKey) && questions + generation.cost <= batchMaxQuestions;
+        }
+
+        private void add(Generation generation) {
+            members.add(generation);
+            questions += generation.cost;
+            generation.batch = this;
+        }
+
+        /**
+         * Binds the sealed batch to a worker.
+         *
+         * @param worker Worker about to generate the batch
+         * @return Members not cancelled, which the worker has to generate; empty if there are none
+         */
+        private synchronized List<Generation> start(Thread worker) {
+            List<Generation> live = members.stream().filter(generation -> generation.cancelReason() == null).toList();
+            if (!live.isEmpty()) {
+                runner = worker;
+            }
+            return live;
+        }
+
+        /**
+         * Interrupts the worker if the batch is running and all of its members are cancelled.
+         */
+        private synchronized void cancelled() {
+            if (runner != null && members.stream().allMatch(generation -> generation.cancelReason() != null)) {
+                runner.interrupt();
+            }
+        }
+
+        /**
+         * Unbinds the batch from its worker and clears any interrupt it caused.
+         */
+        private synchronized void finish() {
+            runner = null;
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.lpu.mind_maze_ai.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service recording the idempotency keys of quiz creation requests.
+ */
+public interface QuizIdempotencyService {
+    /**
+     * Finds the quiz a user already created with a key.
+     *
+     * @param userId ID of the user
+     * @param idempotencyKey Key sent with the request
+     * @return Optional containing the ID of the quiz if the key is known and has not expired
+     */
+    Optional<UUID> findQuizId(Long userId, String idempotencyKey);
+
+    /**
+     * Checks whether a request with a user's key would replay a quiz instead of creating one.
+     * Unlike {@link #findQuizId}, the check is not counted as a duplicate.
+     *
+     * @param userId ID of the user
+     * @param idempotencyKey Key sent with the request
+     * @return true if the key is known, has not expired and its quiz was not deleted
+     */
+    boolean isReplay(Long userId, String idempotencyKey);
+
+    /**
+     * Records a user's key for a newly created quiz, unless a concurrent request recorded it first.
+     *
+     * @param userId ID of the user
+     * @param idempotencyKey Key sent with the request
+     * @param quizId ID of the quiz created for the request
+     * @return The given quiz ID if the key was recorded, otherwise the ID of the quiz that holds the key
+     */
+    UUID claim(Long userId, String idempotencyKey, UUID quizId);
+
+    /**
+     * Deletes keys that have expired.
+     *
+     * @return Number of keys deleted
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,128 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.repository.QuizIdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of QuizIdempotencyService storing keys as SHA-256 digests.
+ * Keys are hashed, so clients may send keys of any length, and scoped per user.
+ *
+ * A retried request is normally answered by {@link #findQuizId}. Two attempts racing with the same
+ * key both create a quiz, but only one can claim the key; the other learns the winner's quiz from
+ * {@link #claim} and discards its own.
+ *
+ * Suppressed duplicates are counted in {@code quiz.idempotency.duplicates}, tagged {@code stage=lookup}
+ * for retries found before any work and {@code stage=claim} for races settled by the claim.
+ *
+ * @see QuizIdempotencyService
+ */
+@Service
+public class QuizIdempotencyServiceImpl implements QuizIdempotencyService {
+    private static final Logger logger = LoggerFactory.getLogger(QuizIdempotencyServiceImpl.class);
+
+    private final QuizIdempotencyKeyRepository keyRepository;
+    private final long keyLifetime;
+    private final Counter lookupDuplicates;
+    private final Counter claimDuplicates;
+
+    /**
+     * Creates a new instance of QuizIdempotencyServiceImpl with required dependencies.
+     *
+     * @param keyRepository Repository for idempotency keys
+     * @param keyLifetime Time in milliseconds a key replays its quiz
+     * @param meterRegistry Registry the duplicate counters are published to
+     */
+    public QuizIdempotencyServiceImpl(QuizIdempotencyKeyRepository keyRepository,
+                                      @Value("${quiz.idempotency.ttl}") long keyLifetime,
+                                      MeterRegistry meterRegistry) {
+        this.keyRepository = keyRepository;
+        this.keyLifetime = keyLifetime;
+        this.lookupDuplicates = duplicates(meterRegistry, "lookup");
+        this.claimDuplicates = duplicates(meterRegistry, "claim");
+    }
+
+    @Override
+    public Optional<UUID> findQuizId(Long userId, String idempotencyKey) {
+        Optional<UUID> quizId = keyRepository.findQuizId(userId, digest(idempotencyKey), LocalDateTime.now());
+        quizId.ifPresent(id -> lookupDuplicates.increment());
+        return quizId;
+    }
+
+    @Override
+    public boolean isReplay(Long userId, String idempotencyKey) {
+        return keyRepository.existsLive(userId, digest(idempotencyKey), LocalDateTime.now());
+    }
+
+    /**
+     * Records a user's key for a newly created quiz.
+     *
+     * Implementation Details:
+     * 1. Inserts the key, taking over an expired entry for it
+     * 2. If a live entry holds the key, waits for its transaction and reads the quiz it names
+     *
+     * @param userId ID of the user
+     * @param idempotencyKey Key sent with the request
+     * @param quizId ID of the quiz created for the request
+     * @return The given quiz ID if the key was recorded, otherwise the ID of the quiz that holds the key
+     */
+    @Override
+    @Transactional
+    public UUID claim(Long userId, String idempotencyKey, UUID quizId) {
+        String keyHash = digest(idempotencyKey);
+        LocalDateTime now = LocalDateTime.now();
+        if (keyRepository.claim(userId, keyHash, quizId, now, now.plusNanos(keyLifetime * 1_000_000)) > 0) {
+            return quizId;
+        }
+        claimDuplicates.increment();
+        UUID holder = keyRepository.findQuizId(userId, keyHash, now)
+                .orElseThrow(() -> new IllegalStateException("Idempotency key is held but could not be read"));
+        logger.info("Quiz ID: {} lost the idempotency key of user ID: {} to quiz ID: {}", quizId, userId, holder);
+        return holder;
+    }
+
+    /**
+     * Deletes keys that have expired.
+     *
+     * @return Number of keys deleted
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${quiz.idempotency.purge-interval}", initialDelayString = "${quiz.idempotency.purge-interval}")
+    public int purgeExpired() {
+        int deleted = keyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired quiz idempotency keys", deleted);
+        }
+        return deleted;
+    }
+
+    private static Counter duplicates(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("quiz.idempotency.duplicates")
+                .description("Quiz creation requests answered with the quiz of an earlier request with the same key")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private static String digest(String idempotencyKey) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(idempotencyKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -22,14 +22,17 @@ public interface QuizProgressService {
 
     /**
      * Saves the user's answer and returns whether it was correct.
+     * When {@code prefetchNext} is set, the next unasked question is selected and recorded
+     * in the same transaction and returned alongside the feedback.
      *
      * @param quizId The ID of the quiz
      * @param userId The ID of the user
      * @param questionId The ID of the question being answered
      * @param selectedOption The user's selected answer
+     * @param prefetchNext Whether to include the next question in the response
      * @return DTO containing information about the correct answer
      */
-    CorrectResponseDTO saveProgress(String quizId, Long userId, String questionId, String selectedOption);
+    CorrectResponseDTO saveProgress(String quizId, Long userId, String questionId, String selectedOption, boolean prefetchNext);
 
     /**
      * Resumes a quiz in progress by returning the last unanswered question.
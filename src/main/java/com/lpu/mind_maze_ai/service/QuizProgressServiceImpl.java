@@ -1,17 +1,28 @@
 package com.lpu.mind_maze_ai.service;
 
+import com.lpu.mind_maze_ai.entity.Quiz;
 import com.lpu.mind_maze_ai.entity.QuizProgress;
+import com.lpu.mind_maze_ai.event.AnswerRecordedEvent;
+import com.lpu.mind_maze_ai.event.QuizAttemptStartedEvent;
+import com.lpu.mind_maze_ai.event.QuizCompletedEvent;
 import com.lpu.mind_maze_ai.entity.QuizQuestion;
 import com.lpu.mind_maze_ai.exception.QuestionAlreadyAskedException;
+import com.lpu.mind_maze_ai.exception.QuestionNotPendingException;
+import com.lpu.mind_maze_ai.exception.ResourceAlreadyExistsException;
+import com.lpu.mind_maze_ai.model.ProgressScore;
+import com.lpu.mind_maze_ai.repository.QuizProgressArchiveRepository;
 import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
 import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
 import com.lpu.mind_maze_ai.repository.UserRepository;
 import com.lpu.mind_maze_ai.web.response.dto.CorrectResponseDTO;
 import com.lpu.mind_maze_ai.web.response.dto.QuestionDTO;
 import com.lpu.mind_maze_ai.web.response.dto.ScoreDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
@@ -37,20 +48,31 @@ import java.util.UUID;
 public class QuizProgressServiceImpl implements QuizProgressService {
     private static final Logger logger = LoggerFactory.getLogger(QuizProgressServiceImpl.class);
     private final QuizProgressRepository progressRepository;
+    private final QuizProgressArchiveRepository archiveRepository;
     private final QuizQuestionRepo questionRepo;
+    private final QuizRepository quizRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new instance of QuizProgressServiceImpl with required dependencies.
      *
      * @param progressRepository Repository for managing quiz progress data
+     * @param archiveRepository Repository for archived quiz progress
      * @param questionRepo Repository for managing quiz questions
+     * @param quizRepository Repository serving the cached questions of each quiz
      * @param userRepository Repository for managing user data
+     * @param eventPublisher Publisher for attempt, answer and completion events
      */
-    public QuizProgressServiceImpl(QuizProgressRepository progressRepository, QuizQuestionRepo questionRepo, UserRepository userRepository) {
+    public QuizProgressServiceImpl(QuizProgressRepository progressRepository, QuizProgressArchiveRepository archiveRepository,
+                                   QuizQuestionRepo questionRepo, QuizRepository quizRepository, UserRepository userRepository,
+                                   ApplicationEventPublisher eventPublisher) {
         this.progressRepository = progressRepository;
+        this.archiveRepository = archiveRepository;
         this.questionRepo = questionRepo;
+        this.quizRepository = quizRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -59,8 +81,9 @@ public class QuizProgressServiceImpl implements QuizProgressService {
      * Tracks which questions have been asked to ensure no repetition.
      *
      * Implementation Details:
-     * 1. Fetches all questions for the quiz
-     * 2. Creates or retrieves quiz progress for the user
+     * 1. Reads all questions for the quiz, from the second-level cache once loaded
+     * 2. Creates or retrieves quiz progress for the user, publishing a {@link QuizAttemptStartedEvent} on creation;
+     *    creation holds the attempt lock and is refused for archived attempts
      * 3. Filters out previously asked questions
      * 4. Updates progress with the selected question
      * 5. Returns the question as a DTO
@@ -68,127 +91,172 @@ public class QuizProgressServiceImpl implements QuizProgressService {
      * @param quizId Unique identifier of the quiz
      * @param userId Identifier of the user taking the quiz
      * @return DTO containing the selected question and its options
-     * @throws QuestionAlreadyAskedException if all questions have been asked
+     * @throws QuestionAlreadyAskedException if all questions have been asked, including archived attempts
      */
     @Override
+    @Transactional(noRollbackFor = QuestionAlreadyAskedException.class)
     public QuestionDTO getRandomQuestion(String quizId, Long userId) {
         logger.debug("Getting random question for quiz: {}, user: {}", quizId, userId);
+        UUID quizUUID = UUID.fromString(quizId);
         // Fetch all questions tied to the quiz
-        List<QuizQuestion> questions = questionRepo.findAllByQuizId(UUID.fromString(quizId));
+        List<QuizQuestion> questions = quizRepository.findQuestionsByQuizId(quizUUID);
 
         // Fetch the user's progress for the quiz
-        QuizProgress progress = progressRepository.findByUserIdAndQuizId(userId, UUID.fromString(quizId))
+        QuizProgress progress = progressRepository.findAttemptByUserIdAndQuizId(userId, quizUUID)
+                .or(() -> progressRepository.lockAndFindAttempt(userId, quizUUID))
                 .orElseGet(() -> {
+                    if (archiveRepository.existsByUserIdAndQuizId(userId, quizUUID)) {
+                        throw new QuestionAlreadyAskedException(String.format("[userId: %s, quizId: %s]No more questions available for this quiz", userId, quizId));
+                    }
                     QuizProgress newProgress = new QuizProgress();
-                    newProgress.setUser(userRepository.findById(userId).orElseThrow());
+                    newProgress.setUser(userRepository.getReferenceById(userId));
                     newProgress.setQuiz(questions.getFirst().getQuiz());
                     newProgress.setScore(0);
                     newProgress.setWrongAnswers(0);
                     newProgress.setCompleted(false);
                     newProgress.setAskedQuestionIds(new HashSet<>()); // Initialize asked questions list
                     newProgress.setTotalQuestions(questions.size());
-                    return progressRepository.save(newProgress);
+                    Quiz quiz = newProgress.getQuiz();
+                    eventPublisher.publishEvent(new QuizAttemptStartedEvent(userId, quiz.getId(), quiz.getQuizType(), quiz.getQuizLevel()));
+                    return newProgress; // Persisted below together with the first asked question
                 });
 
         // Find the next question that hasn't been asked yet
-        Optional<QuizQuestion> nextQuestion = questions.stream()
-                .filter(question -> !progress.getAskedQuestionIds().contains(question.getId())) // Exclude asked questions
-                .findFirst();
+        Optional<QuizQuestion> nextQuestion = findNextQuestion(questions, progress);
 
         if (nextQuestion.isEmpty()) {
             logger.info("No more questions available for quiz: {}, user: {}", quizId, userId);
+            if (isFinished(progress) && !progress.isCompleted()) {
+                // Attempts finished before completion detection existed are finalized on first access;
+                // the exception below does not roll back, so the event is still delivered after commit
+                eventPublisher.publishEvent(new QuizCompletedEvent(progress.getId(), userId, progress.getQuiz().getId()));
+            }
             throw new QuestionAlreadyAskedException(String.format("[userId: %s, quizId: %s]No more questions available for this quiz", userId, quizId));
         }
 
         // Update progress with the current question
         QuizQuestion question = nextQuestion.get();
-        progress.getAskedQuestionIds().add(question.getId()); // Add to asked questions list
-        progress.setCurrentQuestionId(question.getId());
+        markAsked(progress, question);
         progressRepository.save(progress);
 
-        // Map the question to a DTO
-        QuestionDTO questionDTO = new QuestionDTO();
-        questionDTO.setId(question.getId());
-        questionDTO.setQuestion(question.getQuestion());
-        questionDTO.setOptions(question.getAnsOptions());
         logger.debug("Retrieved random question for quiz: {}, user: {}", quizId, userId);
-        return questionDTO;
+        return toQuestionDTO(question);
     }
 
     /**
      * Records the user's answer to a question and updates the quiz progress.
      * Calculates whether the answer was correct and updates score accordingly.
+     * Optionally selects the next question in the same transaction so the client
+     * does not need a separate round trip to {@link #getRandomQuestion(String, Long)}.
      *
      * Implementation Details:
      * 1. Retrieves the current quiz progress
-     * 2. Validates the answer against the correct answer
-     * 3. Updates score or wrong answer count
-     * 4. Saves the updated progress
-     * 5. Returns feedback about the answer
+     * 2. Accepts only the current question of the attempt, the one last handed out and not yet answered,
+     *    so every question is scored at most once and only questions of this quiz are scored
+     * 3. Validates the answer against the correct answer
+     * 4. Updates score or wrong answer count and clears the current question
+     * 5. If requested, records the next unasked question as the current question
+     * 6. Marks the attempt completed when this was the final answer, so later answers are refused
+     * 7. Saves the updated progress
+     * 8. Publishes an {@link AnswerRecordedEvent} for derived views such as leaderboards
+     * 9. Publishes a {@link QuizCompletedEvent} when this was the final answer
+     * 10. Returns feedback about the answer
      *
      * @param quizId Unique identifier of the quiz
      * @param userId Identifier of the user taking the quiz
      * @param questionId Identifier of the question being answered
      * @param selectedOption The option selected by the user
+     * @param prefetchNext Whether to attach the next question to the response
      * @return DTO containing feedback about the answer correctness
      * @throws RuntimeException if progress or question cannot be found
+     * @throws ResourceAlreadyExistsException if the attempt has already been completed or archived
+     * @throws QuestionNotPendingException if the question is not awaiting an answer in this attempt
      */
     @Override
-    public CorrectResponseDTO saveProgress(String quizId, Long userId, String questionId, String selectedOption) {
+    @Transactional
+    public CorrectResponseDTO saveProgress(String quizId, Long userId, String questionId, String selectedOption, boolean prefetchNext) {
         logger.debug("Saving progress for quiz: {}, user: {}, question: {}", quizId, userId, questionId);
-        QuizProgress progress = progressRepository.findByUserIdAndQuizId(userId, UUID.fromString(quizId))
-                .orElseThrow(() -> new RuntimeException("Progress not found for user and quiz."));
+        UUID quizUUID = UUID.fromString(quizId);
+        UUID questionUUID = UUID.fromString(questionId);
+        QuizProgress progress = progressRepository.findAttemptByUserIdAndQuizId(userId, quizUUID)
+                .orElseThrow(() -> archiveRepository.existsByUserIdAndQuizId(userId, quizUUID)
+                        ? new ResourceAlreadyExistsException(String.format("[userId: %s, quizId: %s]Quiz attempt already completed", userId, quizId))
+                        : new RuntimeException("Progress not found for user and quiz."));
+        if (progress.isCompleted()) {
+            throw new ResourceAlreadyExistsException(String.format("[userId: %s, quizId: %s]Quiz attempt already completed", userId, quizId));
+        }
+        if (!questionUUID.equals(progress.getCurrentQuestionId())) {
+            throw new QuestionNotPendingException(String.format("[userId: %s, quizId: %s, questionId: %s]Question is not awaiting an answer",
+                    userId, quizId, questionId));
+        }
 
-        // Check if the answer is correct
-        QuizQuestion question = questionRepo.findById(UUID.fromString(questionId))
+        // When prefetching, the quiz's question list serves both grading and next question selection
+        List<QuizQuestion> questions = prefetchNext ? quizRepository.findQuestionsByQuizId(quizUUID) : List.of();
+        QuizQuestion question = questions.stream()
+                .filter(q -> q.getId().equals(questionUUID))
+                .findFirst()
+                .or(() -> questionRepo.findById(questionUUID))
                 .orElseThrow(() -> new RuntimeException("Question not found."));
-        if (question.getCorrectAnswer().equalsIgnoreCase(selectedOption)) {
+
+        // Check if the answer is correct
+        boolean correct = question.getCorrectAnswer().equalsIgnoreCase(selectedOption);
+        if (correct) {
             progress.setScore(progress.getScore() + 1);
         } else {
             progress.setWrongAnswers(progress.getWrongAnswers() + 1);
         }
-        progress.setCurrentQuestionId(UUID.fromString(questionId));
-        progressRepository.save(progress);
+        progress.setCurrentQuestionId(null);
+
         CorrectResponseDTO responseDTO = new CorrectResponseDTO();
-        responseDTO.setIsCorrect(question.getCorrectAnswer().equalsIgnoreCase(selectedOption));
+        responseDTO.setIsCorrect(correct);
         responseDTO.setCorrectOption(question.getCorrectAnswer());
         responseDTO.setQuestion(question.getQuestion());
-        logger.info("Progress saved for quiz: {}, user: {}, question: {}, correct: {}",
-            quizId, userId, questionId, question.getCorrectAnswer().equalsIgnoreCase(selectedOption));
+        if (prefetchNext) {
+            findNextQuestion(questions, progress).ifPresent(next -> {
+                markAsked(progress, next);
+                responseDTO.setNextQuestion(toQuestionDTO(next));
+            });
+        }
+        boolean finished = isFinished(progress);
+        progress.setCompleted(finished);
+        progressRepository.save(progress);
+        Quiz quiz = progress.getQuiz();
+        eventPublisher.publishEvent(new AnswerRecordedEvent(userId, quizUUID, quiz.getQuizType(), quiz.getQuizLevel(),
+                correct ? 1 : 0, correct ? 0 : 1));
+        if (finished) {
+            logger.info("Final answer recorded for quiz: {}, user: {}", quizId, userId);
+            eventPublisher.publishEvent(new QuizCompletedEvent(progress.getId(), userId, quizUUID));
+        }
+        logger.info("Progress saved for quiz: {}, user: {}, question: {}, correct: {}", quizId, userId, questionId, correct);
         return responseDTO;
     }
 
     /**
-     * Resumes a quiz in progress by returning the last question that was being answered.
+     * Resumes a quiz in progress by returning the question awaiting an answer.
      * Used when a user returns to a quiz they haven't completed.
      *
      * Implementation Details:
      * 1. Retrieves the quiz progress
-     * 2. Finds the last question that was being answered
+     * 2. Finds the question that was handed out and not yet answered
      * 3. Returns the question as a DTO if found
      *
      * @param quizId Unique identifier of the quiz
      * @param userId Identifier of the user taking the quiz
-     * @return Optional containing the current question, or empty if no question is in progress
+     * @return Optional containing the current question, or empty if no question is awaiting an answer
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<QuestionDTO> resumeQuiz(String quizId, Long userId) {
         return progressRepository.findByUserIdAndQuizId(userId, UUID.fromString(quizId))
-                .map(progress -> {
-                    QuizQuestion question = questionRepo.findById(progress.getCurrentQuestionId()).orElseThrow();
-                    QuestionDTO questionDTO = new QuestionDTO();
-                    questionDTO.setId(question.getId());
-                    questionDTO.setQuestion(question.getQuestion());
-                    questionDTO.setOptions(question.getAnsOptions());
-                    return questionDTO;
-                });
+                .map(QuizProgress::getCurrentQuestionId)
+                .map(questionId -> toQuestionDTO(questionRepo.findById(questionId).orElseThrow()));
     }
 
     /**
      * Retrieves the current score and progress statistics for a quiz attempt.
      *
      * Implementation Details:
-     * 1. Retrieves the quiz progress
+     * 1. Reads only the score columns of the quiz progress, falling back to the archive
      * 2. Compiles score statistics including correct answers, wrong answers, and total questions
      * 3. Returns the statistics as a DTO
      *
@@ -198,13 +266,67 @@ public class QuizProgressServiceImpl implements QuizProgressService {
      * @throws RuntimeException if progress cannot be found
      */
     @Override
+    @Transactional(readOnly = true)
     public ScoreDTO getScore(String quizId, Long userId) {
-        QuizProgress quizProgress = progressRepository.findByUserIdAndQuizId(userId, UUID.fromString(quizId))
+        UUID quizUUID = UUID.fromString(quizId);
+        ProgressScore quizProgress = progressRepository.findScoreByUserIdAndQuizId(userId, quizUUID)
+                .or(() -> archiveRepository.findScoreByUserIdAndQuizId(userId, quizUUID))
                 .orElseThrow(() -> new RuntimeException("Progress not found for user and quiz."));
         ScoreDTO scoreDTO = new ScoreDTO();
         scoreDTO.setCorrectAnswers(quizProgress.getScore());
         scoreDTO.setTotalQuestions(quizProgress.getTotalQuestions());
         scoreDTO.setWrongAnswers(quizProgress.getWrongAnswers());
+        scoreDTO.setCompleted(quizProgress.isCompleted());
         return scoreDTO;
     }
+
+    /**
+     * Finds the first question of the quiz that has not been asked in this attempt.
+     *
+     * @param questions All questions of the quiz
+     * @param progress The user's progress for the quiz
+     * @return Optional containing the next question, or empty if all have been asked
+     */
+    private Optional<QuizQuestion> findNextQuestion(List<QuizQuestion> questions, QuizProgress progress) {
+        return questions.stream()
+                .filter(question -> !progress.getAskedQuestionIds().contains(question.getId())) // Exclude asked questions
+                .findFirst();
+    }
+
+    /**
+     * Checks whether every question of the attempt has been answered.
+     * Answers are only accepted for the current question, so each question is counted at most once.
+     *
+     * @param progress The user's progress for the quiz
+     * @return true if the number of answers reached the number of questions
+     */
+    private boolean isFinished(QuizProgress progress) {
+        return progress.getTotalQuestions() > 0
+                && progress.getScore() + progress.getWrongAnswers() >= progress.getTotalQuestions();
+    }
+
+    /**
+     * Records a question as asked and makes it the current question of the attempt.
+     *
+     * @param progress The user's progress for the quiz
+     * @param question The question being handed out
+     */
+    private void markAsked(QuizProgress progress, QuizQuestion question) {
+        progress.getAskedQuestionIds().add(question.getId()); // Add to asked questions list
+        progress.setCurrentQuestionId(question.getId());
+    }
+
+    /**
+     * Maps a question entity to a DTO without exposing the correct answer.
+     *
+     * @param question Question entity to convert
+     * @return QuestionDTO containing the question and its options
+     */
+    private QuestionDTO toQuestionDTO(QuizQuestion question) {
+        QuestionDTO questionDTO = new QuestionDTO();
+        questionDTO.setId(question.getId());
+        questionDTO.setQuestion(question.getQuestion());
+        questionDTO.setOptions(question.getAnsOptions());
+        return questionDTO;
+    }
 }
@@ -0,0 +1,14 @@
+package com.lpu.mind_maze_ai.service;
+
+/**
+ * Service interface for removing deleted quizzes from the database.
+ */
+public interface QuizPurgeService {
+    /**
+     * Removes quizzes flagged as deleted together with their questions and attempts,
+     * up to a bounded number of batches per run.
+     *
+     * @return Number of quizzes removed
+     */
+    int purgeDeletedQuizzes();
+}
@@ -0,0 +1,104 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of QuizPurgeService that deletes flagged quizzes in the background.
+ * This service handles:
+ * - Claiming batches of deleted quizzes
+ * - Deleting their asked question IDs, attempts and questions with set-based statements
+ * - Deleting the quizzes themselves
+ *
+ * Each batch runs in its own transaction, so locks and undo are bounded by the batch size
+ * however many quizzes are waiting. A run purges a bounded number of batches and leaves the
+ * rest to the next run, so a mass deletion never occupies a scheduler thread for long. Finalized results and archived attempts are kept as history.
+ *
+ * @see QuizPurgeService
+ */
+@Service
+public class QuizPurgeServiceImpl implements QuizPurgeService {
+    private static final Logger logger = LoggerFactory.getLogger(QuizPurgeServiceImpl.class);
+    private final QuizRepository quizRepository;
+    private final QuizQuestionRepo questionRepo;
+    private final QuizProgressRepository progressRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    /**
+     * Creates a new instance of QuizPurgeServiceImpl with required dependencies.
+     *
+     * @param quizRepository Repository for managing quizzes
+     * @param questionRepo Repository for managing quiz questions
+     * @param progressRepository Repository for managing quiz progress data
+     * @param transactionManager Transaction manager for the per-batch transactions
+     * @param batchSize Maximum number of quizzes purged per transaction
+     * @param maxBatchesPerRun Maximum number of batches purged per scheduled run
+     */
+    public QuizPurgeServiceImpl(QuizRepository quizRepository, QuizQuestionRepo questionRepo,
+                                QuizProgressRepository progressRepository, PlatformTransactionManager transactionManager,
+                                @Value("${quiz.purge.batch-size}") int batchSize,
+                                @Value("${quiz.purge.max-batches-per-run}") int maxBatchesPerRun) {
+        this.quizRepository = quizRepository;
+        this.questionRepo = questionRepo;
+        this.progressRepository = progressRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Purges deleted quizzes batch by batch until none are left or the run reached its batch limit.
+     *
+     * @return Number of quizzes removed
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${quiz.purge.interval}", initialDelayString = "${quiz.purge.interval}")
+    public int purgeDeletedQuizzes() {
+        int purged = 0;
+        int batches = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> purgeBatch());
+            purged += batch;
+        } while (batch == batchSize && ++batches < maxBatchesPerRun);
+        if (batch == batchSize) {
+            logger.info("Reached {} purge batches, leaving the remaining quizzes to the next run", maxBatchesPerRun);
+        }
+        if (purged > 0) {
+            logger.info("Purged {} deleted quizzes", purged);
+        }
+        return purged;
+    }
+
+    /**
+     * Deletes one batch of flagged quizzes, children first.
+     *
+     * @return Number of quizzes deleted
+     */
+    private int purgeBatch() {
+        List<UUID> quizIds = quizRepository.lockDeletedIds(batchSize);
+        if (quizIds.isEmpty()) {
+            return 0;
+        }
+        int askedQuestions = progressRepository.deleteAskedQuestionIdsByQuizIds(quizIds);
+        int attempts = progressRepository.deleteAllByQuizIds(quizIds);
+        int questions = questionRepo.deleteAllByQuizIds(quizIds);
+        int quizzes = quizRepository.deleteAllByIds(quizIds);
+        logger.debug("Purged {} quizzes with {} questions, {} attempts and {} asked questions",
+                quizzes, questions, attempts, askedQuestions);
+        return quizzes;
+    }
+}
@@ -0,0 +1,19 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.web.response.dto.QuizResultDTO;
+
+import java.util.Optional;
+
+/**
+ * Service interface for finalized quiz attempts.
+ */
+public interface QuizResultService {
+    /**
+     * Retrieves the immutable result of a finished attempt.
+     *
+     * @param quizId The ID of the quiz
+     * @param userId The ID of the user
+     * @return Optional containing the result, or empty if the attempt has not been finalized
+     */
+    Optional<QuizResultDTO> getResult(String quizId, Long userId);
+}
@@ -0,0 +1,125 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizProgress;
+import com.lpu.mind_maze_ai.entity.QuizResult;
+import com.lpu.mind_maze_ai.event.QuizCompletedEvent;
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.repository.QuizResultRepository;
+import com.lpu.mind_maze_ai.repository.UserQuizStatsRepository;
+import com.lpu.mind_maze_ai.web.response.dto.QuizResultDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of QuizResultService that finalizes completed quiz attempts.
+ * This service handles:
+ * - Asynchronous finalization once the final answer has been committed
+ * - Marking the progress as completed
+ * - Freezing an immutable result record
+ * - Updating completion aggregates
+ * - Serving finalized results
+ *
+ * Finalization is idempotent: an attempt that already has a result is skipped.
+ *
+ * @see QuizResultService
+ * @see QuizResult
+ */
+@Service
+public class QuizResultServiceImpl implements QuizResultService {
+    private static final Logger logger = LoggerFactory.getLogger(QuizResultServiceImpl.class);
+    private final QuizResultRepository resultRepository;
+    private final QuizProgressRepository progressRepository;
+    private final UserQuizStatsRepository statsRepository;
+
+    /**
+     * Creates a new instance of QuizResultServiceImpl with required dependencies.
+     *
+     * @param resultRepository Repository for finalized results
+     * @param progressRepository Repository for managing quiz progress data
+     * @param statsRepository Repository for the user statistics read model
+     */
+    public QuizResultServiceImpl(QuizResultRepository resultRepository, QuizProgressRepository progressRepository,
+                                 UserQuizStatsRepository statsRepository) {
+        this.resultRepository = resultRepository;
+        this.progressRepository = progressRepository;
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Retrieves the immutable result of a finished attempt.
+     *
+     * @param quizId Unique identifier of the quiz
+     * @param userId Identifier of the user who took the quiz
+     * @return Optional containing the result DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<QuizResultDTO> getResult(String quizId, Long userId) {
+        return resultRepository.findByUserIdAndQuizId(userId, UUID.fromString(quizId)).map(result -> {
+            QuizResultDTO resultDTO = new QuizResultDTO();
+            resultDTO.setQuizId(result.getQuizId().toString());
+            resultDTO.setQuizType(result.getQuizType());
+            resultDTO.setQuizLevel(result.getQuizLevel());
+            resultDTO.setCorrectAnswers(result.getCorrectAnswers());
+            resultDTO.setWrongAnswers(result.getWrongAnswers());
+            resultDTO.setTotalQuestions(result.getTotalQuestions());
+            resultDTO.setCompletedAt(result.getCompletedAt());
+            return resultDTO;
+        });
+    }
+
+    /**
+     * Finalizes a completed attempt after the transaction recording its final answer has committed.
+     *
+     * Implementation Details:
+     * 1. Skips attempts that already have a result
+     * 2. Marks the progress as completed, which the final answer has already done except for attempts finalized on access
+     * 3. Freezes the final counts into an immutable result
+     * 4. Counts the completion in the user's statistics
+     *
+     * @param event Event identifying the completed attempt
+     */
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onQuizCompleted(QuizCompletedEvent event) {
+        if (resultRepository.existsByUserIdAndQuizId(event.userId(), event.quizId())) {
+            logger.debug("Quiz attempt already finalized for quiz: {}, user: {}", event.quizId(), event.userId());
+            return;
+        }
+        QuizProgress progress = progressRepository.findById(event.progressId()).orElse(null);
+        if (progress == null) {
+            logger.warn("Progress {} disappeared before finalization", event.progressId());
+            return;
+        }
+        progress.setCompleted(true);
+        progressRepository.save(progress);
+
+        Quiz quiz = progress.getQuiz();
+        QuizResult result = new QuizResult();
+        result.setProgressId(progress.getId());
+        result.setUserId(event.userId());
+        result.setQuizId(event.quizId());
+        result.setQuizType(quiz.getQuizType());
+        result.setQuizLevel(quiz.getQuizLevel());
+        result.setCorrectAnswers(progress.getScore());
+        result.setWrongAnswers(progress.getWrongAnswers());
+        result.setTotalQuestions(progress.getTotalQuestions());
+        result.setCompletedAt(LocalDateTime.now());
+        resultRepository.save(result);
+
+        statsRepository.incrementCompleted(event.userId(), quiz.getQuizType(), quiz.getQuizLevel());
+        logger.info("Finalized quiz attempt for quiz: {}, user: {}, score: {}/{}",
+                event.quizId(), event.userId(), progress.getScore(), progress.getTotalQuestions());
+    }
+}
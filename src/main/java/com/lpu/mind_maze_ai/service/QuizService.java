@@ -1,34 +1,46 @@
 package com.lpu.mind_maze_ai.service;
 
 import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.model.CreationStatus;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizSummary;
+import com.lpu.mind_maze_ai.model.QuizType;
 import com.lpu.mind_maze_ai.web.request.dto.CreateQuizDTO;
-
-import java.util.List;
+import com.lpu.mind_maze_ai.web.response.dto.QuizPageDTO;
 
 /**
  * Service interface for managing quiz operations.
  */
 public interface QuizService {
     /**
-     * Retrieves all quizzes associated with a specific user.
+     * Retrieves one page of a user's quizzes, newest first.
      *
      * @param userId The ID of the user whose quizzes are to be retrieved
-     * @return List of quizzes belonging to the user
+     * @param quizType Only return quizzes of this type, or null for all types
+     * @param quizLevel Only return quizzes of this level, or null for all levels
+     * @param creationStatus Only return quizzes in this status, or null for all statuses
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of quizzes on the page
+     * @return Page of quizzes with the cursor for the next page
+     * @throws RuntimeException if the user is not found
+     * @throws com.lpu.mind_maze_ai.exception.InvalidCursorException if the cursor is malformed
      */
-    List<Quiz> getAllQuizzesByUser(Long userId);
+    QuizPageDTO getQuizPage(Long userId, QuizType quizType, QuizLevel quizLevel, CreationStatus creationStatus,
+                            String cursor, int size);
 
     /**
      * Retrieves a specific quiz for a user.
      *
      * @param quizId The ID of the quiz to retrieve
      * @param userId The ID of the user who owns the quiz
-     * @return The requested quiz entity
+     * @return Summary of the requested quiz
      * @throws RuntimeException if the quiz is not found
      */
-    Quiz getQuizByIdAndUser(String quizId, Long userId);
+    QuizSummary getQuizByIdAndUser(String quizId, Long userId);
 
     /**
      * Deletes a specific quiz associated with a user.
+     * The quiz is hidden immediately; its content is purged in the background.
      *
      * @param quizId The ID of the quiz to delete
      * @param userId The ID of the user who owns the quiz
@@ -37,11 +49,15 @@ public interface QuizService {
     void deleteQuizByUser(String quizId, Long userId);
 
     /**
-     * Creates a new quiz for a specific user.
+     * Creates a new quiz for a specific user and queues it for question generation.
+     * Requests repeating the idempotency key of an earlier request return that request's quiz instead.
      *
      * @param createQuizDTO DTO containing quiz creation details
      * @param userId The ID of the user for whom the quiz is being created
-     * @return The newly created quiz entity
+     * @param idempotencyKey Key identifying retries of the same request, or null
+     * @return The newly created quiz entity, or the one created earlier with the same key
+     * @throws com.lpu.mind_maze_ai.exception.ResourceAlreadyExistsException if the key was used for a different quiz
+     * @throws com.lpu.mind_maze_ai.exception.ServerBusyException if the generation queue is full
      */
-    Quiz createQuizForUser(CreateQuizDTO createQuizDTO, Long userId);
+    Quiz createQuizForUser(CreateQuizDTO createQuizDTO, Long userId, String idempotencyKey);
 }
@@ -2,18 +2,31 @@ package com.lpu.mind_maze_ai.service;
 
 import com.lpu.mind_maze_ai.entity.CustomUserDetails;
 import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.event.QuizDeletedEvent;
+import com.lpu.mind_maze_ai.exception.ResourceAlreadyExistsException;
+import com.lpu.mind_maze_ai.exception.ServerBusyException;
 import com.lpu.mind_maze_ai.model.CreationStatus;
+import com.lpu.mind_maze_ai.model.QuizCursor;
+import com.lpu.mind_maze_ai.model.QuizLevel;
 import com.lpu.mind_maze_ai.model.QuizMapper;
-import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.model.QuizSummary;
+import com.lpu.mind_maze_ai.model.QuizType;
 import com.lpu.mind_maze_ai.repository.QuizRepository;
 import com.lpu.mind_maze_ai.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.lpu.mind_maze_ai.web.request.dto.CreateQuizDTO;
+import com.lpu.mind_maze_ai.web.response.dto.QuizPageDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -23,42 +36,77 @@ import java.util.UUID;
 @Service
 public class QuizServiceImpl implements QuizService {
     private static final Logger logger = LoggerFactory.getLogger(QuizServiceImpl.class);
+    /** Upper bound on the number of quizzes returned per page */
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final QuizRepository quizRepository;
-    private final OllamaQuizService ollamaQuizService;
+    private final QuizGenerationScheduler quizGenerationScheduler;
+    private final QuizIdempotencyService quizIdempotencyService;
     private final UserRepository userRepository;
-    private final QuizProgressRepository quizProgressRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructor for QuizServiceImpl.
      *
      * @param quizRepository Repository for managing Quiz entities.
-     * @param ollamaQuizService Service for generating quiz questions.
+     * @param quizGenerationScheduler Scheduler queuing quizzes for question generation.
+     * @param quizIdempotencyService Service recording the idempotency keys of quiz creations.
      * @param userRepository Repository for managing User entities.
-     * @param quizProgressRepository Repository for managing quiz progress.
+     * @param eventPublisher Publisher for quiz deletion events.
+     * @param transactionManager Transaction manager for reads that must see the primary.
      */
-    public QuizServiceImpl(QuizRepository quizRepository, OllamaQuizService ollamaQuizService,
-                           UserRepository userRepository, QuizProgressRepository quizProgressRepository) {
+    public QuizServiceImpl(QuizRepository quizRepository, QuizGenerationScheduler quizGenerationScheduler,
+                           QuizIdempotencyService quizIdempotencyService,
+                           UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
         this.quizRepository = quizRepository;
-        this.ollamaQuizService = ollamaQuizService;
+        this.quizGenerationScheduler = quizGenerationScheduler;
+        this.quizIdempotencyService = quizIdempotencyService;
         this.userRepository = userRepository;
-        this.quizProgressRepository = quizProgressRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
-     * Retrieves all quizzes for a specific user.
+     * Retrieves one page of a user's quizzes using keyset pagination.
+     *
+     * Implementation Details:
+     * 1. Verifies the user exists
+     * 2. Clamps the page size to {@value #MAX_PAGE_SIZE}
+     * 3. Seeks past the cursor position, if any, on (createdAt, id) descending
+     * 4. Fetches one extra row to learn whether another page follows
+     * 5. Encodes the last quiz on the page as the next cursor
      *
      * @param userId The ID of the user whose quizzes are to be retrieved.
-     * @return A list of quizzes associated with the user.
+     * @param quizType Quiz type filter, or null.
+     * @param quizLevel Quiz level filter, or null.
+     * @param creationStatus Creation status filter, or null.
+     * @param cursor Cursor of the previous page, or null for the first page.
+     * @param size Requested page size.
+     * @return The page of quizzes and the next cursor.
      * @throws RuntimeException if the user is not found.
      */
     @Override
-    public List<Quiz> getAllQuizzesByUser(Long userId) {
-        logger.debug("Fetching all quizzes for user with ID: {}", userId);
-        CustomUserDetails user = getUser(userId);
-        List<Quiz> quizzes = quizRepository.findAllByUser(user);
-        logger.info("Retrieved {} quizzes for user with ID: {}", quizzes.size(), userId);
-        return quizzes;
+    @Transactional(readOnly = true)
+    public QuizPageDTO getQuizPage(Long userId, QuizType quizType, QuizLevel quizLevel, CreationStatus creationStatus,
+                                   String cursor, int size) {
+        logger.debug("Fetching quiz page for user with ID: {}, cursor: {}", userId, cursor);
+        requireUser(userId);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        String type = quizType == null ? null : quizType.name();
+        String level = quizLevel == null ? null : quizLevel.name();
+        String status = creationStatus == null ? null : creationStatus.name();
+        QuizCursor position = cursor == null || cursor.isBlank() ? null : QuizCursor.decode(cursor);
+        List<QuizSummary> quizzes = quizRepository.findPage(userId, type, level, status, position, pageSize + 1);
+
+        boolean hasMore = quizzes.size() > pageSize;
+        List<QuizSummary> page = hasMore ? quizzes.subList(0, pageSize) : quizzes;
+        QuizPageDTO quizPageDTO = new QuizPageDTO();
+        quizPageDTO.setQuizzes(page.stream().map(QuizMapper::toDTO).toList());
+        quizPageDTO.setNextCursor(hasMore ? QuizCursor.after(page.getLast()).encode() : null);
+        logger.info("Retrieved {} quizzes for user with ID: {}, more: {}", page.size(), userId, hasMore);
+        return quizPageDTO;
     }
 
     /**
@@ -66,15 +114,16 @@ public class QuizServiceImpl implements QuizService {
      *
      * @param quizId The ID of the quiz to retrieve.
      * @param userId The ID of the user who owns the quiz.
-     * @return The quiz entity if found.
+     * @return The quiz summary if found.
      * @throws RuntimeException if the quiz or user is not found.
      */
     @Override
-    public Quiz getQuizByIdAndUser(String quizId, Long userId) {
+    @Transactional(readOnly = true)
+    public QuizSummary getQuizByIdAndUser(String quizId, Long userId) {
         logger.debug("Fetching quiz with ID: {} for user with ID: {}", quizId, userId);
-        CustomUserDetails user = getUser(userId);
+        requireUser(userId);
         UUID quizUUID = UUID.fromString(quizId);
-        Quiz quiz = quizRepository.findByIdAndUser(quizUUID, user)
+        QuizSummary quiz = quizRepository.findSummaryByIdAndUserId(quizUUID, userId)
             .orElseThrow(() -> {
                 logger.error("Quiz not found with ID: {} for user with ID: {}", quizId, userId);
                 return new RuntimeException("Quiz not found with ID: " + quizId);
@@ -86,40 +135,64 @@ public class QuizServiceImpl implements QuizService {
     /**
      * Deletes a specific quiz for a user.
      *
+     * Implementation Details:
+     * 1. Reads the quiz, from the second-level cache once loaded
+     * 2. Verifies the user owns the quiz
+     * 3. Flags the quiz as deleted with a single UPDATE
+     * 4. Publishes a {@link QuizDeletedEvent}, which cancels its generation once the deletion commits
+     *
+     * The quiz disappears from every read immediately; its questions and attempts
+     * are removed later by {@link QuizPurgeService} with set-based deletes.
+     *
      * @param quizId The ID of the quiz to delete.
      * @param userId The ID of the user who owns the quiz.
-     * @throws RuntimeException if the quiz or user is not found.
+     * @throws RuntimeException if the quiz is not found or not owned by the user.
      */
     @Override
     @Transactional
     public void deleteQuizByUser(String quizId, Long userId) {
         logger.debug("Deleting quiz with ID: {} for user with ID: {}", quizId, userId);
-        CustomUserDetails user = getUser(userId);
-        UUID quizUUID = UUID.fromString(quizId);
-
-        Quiz quiz = quizRepository.findByIdAndUser(quizUUID, user)
+        Quiz quiz = quizRepository.findActiveById(UUID.fromString(quizId))
+            .filter(found -> found.getUser().getId().equals(userId))
             .orElseThrow(() -> {
                 logger.error("Quiz not found with ID: {} for user with ID: {}", quizId, userId);
                 return new RuntimeException("Quiz not found with ID: " + quizId);
             });
 
-        quizProgressRepository.deleteByQuiz(quiz);
-        logger.info("Deleted quiz progress for quiz with ID: {}", quizId);
-
-        quizRepository.delete(quiz);
+        quiz.setDeletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new QuizDeletedEvent(quiz.getId(), userId));
         logger.info("Deleted quiz with ID: {} for user with ID: {}", quizId, userId);
     }
 
     /**
-     * Creates a new quiz for a user.
+     * Creates a new quiz for a user and queues it for question generation.
+     *
+     * Implementation Details:
+     * 1. With an idempotency key, returns the quiz an earlier request created with it, unless that quiz was deleted
+     * 2. Saves the new quiz
+     * 3. With an idempotency key, claims it for the new quiz, taking it over from a deleted quiz; if a concurrent
+     *    request claimed it first, removes the new quiz and returns that request's quiz instead
+     * 4. Queues the quiz for generation; a quiz the queue has no room for is removed again,
+     *    which also releases its key
      *
      * @param createQuizDTO The data transfer object containing quiz details.
      * @param userId The ID of the user for whom the quiz is being created.
-     * @return The created quiz entity.
+     * @param idempotencyKey Key identifying retries of the same request, or null.
+     * @return The created quiz entity, or the one created earlier with the same key.
+     * @throws ResourceAlreadyExistsException if the key was used for a quiz with different details.
+     * @throws ServerBusyException if the generation queue is full.
      */
     @Override
-    public Quiz createQuizForUser(CreateQuizDTO createQuizDTO, Long userId) {
+    public Quiz createQuizForUser(CreateQuizDTO createQuizDTO, Long userId, String idempotencyKey) {
         logger.debug("Creating quiz for user with ID: {}", userId);
+        boolean idempotent = idempotencyKey != null && !idempotencyKey.isBlank();
+        if (idempotent) {
+            Optional<Quiz> existing = quizIdempotencyService.findQuizId(userId, idempotencyKey)
+                .flatMap(quizId -> replay(quizId, createQuizDTO));
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
         CustomUserDetails user = getUser(userId);
 
         Quiz quiz = QuizMapper.toEntity(createQuizDTO);
@@ -129,12 +202,65 @@ public class QuizServiceImpl implements QuizService {
         Quiz savedQuiz = quizRepository.save(quiz);
         logger.info("Quiz created with ID: {} for user with ID: {}", savedQuiz.getId(), userId);
 
-        ollamaQuizService.getQuizQuestions(savedQuiz);
-        logger.info("Quiz questions generated for quiz with ID: {}", savedQuiz.getId());
+        if (idempotent) {
+            UUID claimed = quizIdempotencyService.claim(userId, idempotencyKey, savedQuiz.getId());
+            Optional<Quiz> winner = claimed.equals(savedQuiz.getId()) ? Optional.empty() : replay(claimed, createQuizDTO);
+            if (winner.isPresent()) {
+                quizRepository.delete(savedQuiz);
+                return winner.get();
+            }
+        }
+        try {
+            quizGenerationScheduler.schedule(savedQuiz);
+        } catch (ServerBusyException e) {
+            quizRepository.delete(savedQuiz);
+            throw e;
+        }
+        logger.info("Quiz with ID: {} queued for question generation", savedQuiz.getId());
 
         return savedQuiz;
     }
 
+    /**
+     * Returns the quiz an earlier request created with the same idempotency key.
+     * The quiz may have been committed moments ago by a concurrent request, so it is read in a
+     * read-write transaction, which is always served by the primary rather than a lagging replica.
+     * A deleted quiz is not replayed; the request then counts as a new one.
+     *
+     * @param quizId The ID of the earlier quiz.
+     * @param createQuizDTO The details of the retried request.
+     * @return The earlier quiz, or empty if it was deleted.
+     * @throws ResourceAlreadyExistsException if the earlier quiz has different details.
+     */
+    private Optional<Quiz> replay(UUID quizId, CreateQuizDTO createQuizDTO) {
+        Optional<Quiz> found = transactionTemplate.execute(status -> quizRepository.findActiveById(quizId));
+        if (found.isEmpty()) {
+            logger.info("Quiz with ID: {} of a repeated creation request was deleted, creating a new one", quizId);
+            return found;
+        }
+        Quiz quiz = found.get();
+        Quiz requested = QuizMapper.toEntity(createQuizDTO);
+        if (!quiz.getQuizType().equals(requested.getQuizType()) || !quiz.getQuizLevel().equals(requested.getQuizLevel())
+                || !Objects.equals(quiz.getNumberOfQuestions(), requested.getNumberOfQuestions())) {
+            throw new ResourceAlreadyExistsException("Idempotency key was already used to create a different quiz");
+        }
+        logger.info("Replaying quiz with ID: {} for a repeated creation request", quizId);
+        return found;
+    }
+
+    /**
+     * Ensures a user exists without loading the user row.
+     *
+     * @param userId The ID of the user to check.
+     * @throws RuntimeException if the user is not found.
+     */
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            logger.error("User not found with ID: {}", userId);
+            throw new RuntimeException("User not found with ID: " + userId);
+        }
+    }
+
     /**
      * Retrieves a user by their ID.
      *
@@ -0,0 +1,42 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.model.TokenPair;
+
+/**
+ * Service interface for issuing short-lived access tokens together with rotating refresh tokens.
+ */
+public interface RefreshTokenService {
+    /**
+     * Starts a login session for an authenticated user.
+     *
+     * @param user Authenticated user
+     * @return Access token and the session's first refresh token
+     */
+    TokenPair createSession(CustomUserDetails user);
+
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     * The presented refresh token can not be used again.
+     *
+     * @param refreshToken Refresh token from the last login or refresh
+     * @return New access token and refresh token
+     * @throws com.lpu.mind_maze_ai.exception.InvalidRefreshTokenException if the token is unknown,
+     *         expired, revoked or was already used
+     */
+    TokenPair rotate(String refreshToken);
+
+    /**
+     * Revokes the login session a refresh token belongs to. Unknown tokens are ignored.
+     *
+     * @param refreshToken Refresh token of the session
+     */
+    void revoke(String refreshToken);
+
+    /**
+     * Deletes refresh tokens that have expired.
+     *
+     * @return Number of tokens deleted
+     */
+    int purgeExpired();
+}
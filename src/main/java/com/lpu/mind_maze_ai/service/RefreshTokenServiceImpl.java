@@ -0,0 +1,181 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.RefreshToken;
+import com.lpu.mind_maze_ai.entity.UuidV7Generator;
+import com.lpu.mind_maze_ai.exception.InvalidRefreshTokenException;
+import com.lpu.mind_maze_ai.model.TokenPair;
+import com.lpu.mind_maze_ai.repository.RefreshTokenRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import com.lpu.mind_maze_ai.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Implementation of RefreshTokenService storing refresh tokens as SHA-256 digests.
+ * This service handles:
+ * - Issuing an access token and a random refresh token at login
+ * - Rotating refresh tokens, each of which can be exchanged once
+ * - Revoking the whole session when a used refresh token is presented again
+ * - Deleting expired refresh tokens
+ *
+ * Access tokens carry the session ID as their "sid" claim, so revoking a session also rejects
+ * its outstanding access tokens through the in-memory revocation list.
+ *
+ * @see RefreshTokenService
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtUtil jwtUtil;
+    private final long refreshLifetime;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Creates a new instance of RefreshTokenServiceImpl with required dependencies.
+     *
+     * @param refreshTokenRepository Repository for refresh tokens
+     * @param userRepository Repository for user data
+     * @param tokenRevocationService Service revoking sessions on token reuse
+     * @param jwtUtil Utility issuing access tokens
+     * @param refreshLifetime Lifetime of refresh tokens in milliseconds
+     */
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+                                   TokenRevocationService tokenRevocationService, JwtUtil jwtUtil,
+                                   @Value("${jwt.refresh.expiration}") long refreshLifetime) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.jwtUtil = jwtUtil;
+        this.refreshLifetime = refreshLifetime;
+    }
+
+    /**
+     * Starts a login session for an authenticated user.
+     *
+     * @param user Authenticated user
+     * @return Access token and the session's first refresh token
+     */
+    @Override
+    @Transactional
+    public TokenPair createSession(CustomUserDetails user) {
+        return issue(user, UuidV7Generator.next());
+    }
+
+    /**
+     * Exchanges a refresh token for a new pair.
+     *
+     * Implementation Details:
+     * 1. Looks the token up by digest and locks it against concurrent refreshes
+     * 2. Rejects unknown, revoked and expired tokens
+     * 3. Treats a token that was already used as stolen and revokes its whole session
+     * 4. Marks the token as used and issues a new pair in the same session, with the user's current roles
+     *
+     * The session revocation of step 3 is kept although the exchange fails.
+     *
+     * @param refreshToken Refresh token from the last login or refresh
+     * @return New access token and refresh token
+     * @throws InvalidRefreshTokenException if the token can not be exchanged
+     */
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenPair rotate(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.lockByTokenHash(digest(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Unknown refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getRevokedAt() != null || stored.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired or revoked");
+        }
+        if (stored.getUsedAt() != null) {
+            logger.warn("Reuse of refresh token detected, revoking session {} of user {}", stored.getSessionId(), stored.getUserId());
+            tokenRevocationService.revokeSession(stored.getSessionId());
+            throw new InvalidRefreshTokenException("Refresh token already used");
+        }
+        stored.setUsedAt(now);
+        CustomUserDetails user = userRepository.findById(stored.getUserId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("User no longer exists"));
+        return issue(user, stored.getSessionId());
+    }
+
+    /**
+     * Revokes the login session a refresh token belongs to.
+     *
+     * @param refreshToken Refresh token of the session
+     */
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(digest(refreshToken))
+                .ifPresent(stored -> tokenRevocationService.revokeSession(stored.getSessionId()));
+    }
+
+    /**
+     * Deletes refresh tokens that have expired. Used tokens are kept until they expire,
+     * so their reuse is still detected.
+     *
+     * @return Number of tokens deleted
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval}", initialDelayString = "${jwt.refresh.purge-interval}")
+    public int purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * Stores a new refresh token for a session and issues the matching access token.
+     *
+     * @param user User the tokens are issued to
+     * @param sessionId Session of the tokens
+     * @return Access token and refresh token
+     */
+    private TokenPair issue(CustomUserDetails user, UUID sessionId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setSessionId(sessionId);
+        refreshToken.setUserId(user.getId());
+        refreshToken.setTokenHash(digest(token));
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plusNanos(refreshLifetime * 1_000_000));
+        refreshTokenRepository.save(refreshToken);
+
+        String accessToken = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getName(),
+                user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList(), sessionId);
+        return new TokenPair(accessToken, token);
+    }
+
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.lpu.mind_maze_ai.service;
+
+import java.util.UUID;
+
+/**
+ * Service interface for revoking access tokens without looking users up on every request.
+ */
+public interface TokenRevocationService {
+    /**
+     * Revokes every access and refresh token issued to a user so far.
+     *
+     * @param userId ID of the user
+     */
+    void revokeTokens(Long userId);
+
+    /**
+     * Revokes a login session: its refresh tokens and the access tokens issued from them.
+     *
+     * @param sessionId ID of the session
+     */
+    void revokeSession(UUID sessionId);
+
+    /**
+     * Reloads the revocations made within the token lifetime, including those made by other instances.
+     *
+     * @return Number of revocations loaded
+     */
+    int refresh();
+}
@@ -0,0 +1,127 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.model.SessionRevocation;
+import com.lpu.mind_maze_ai.model.TokenRevocation;
+import com.lpu.mind_maze_ai.repository.RefreshTokenRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import com.lpu.mind_maze_ai.util.TokenRevocationList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of TokenRevocationService backed by a cut-off column on the user
+ * and the revocation time of refresh tokens.
+ * This service handles:
+ * - Recording user cut-offs and session revocations in the database and in the local revocation list
+ * - Loading the revocations of the last access token lifetime at startup
+ * - Periodically picking up revocations made by other instances
+ *
+ * The JWT filter only consults the in-memory {@link TokenRevocationList}, so a revocation made on
+ * another instance takes effect here within one refresh interval.
+ *
+ * @see TokenRevocationService
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList revocationList;
+    private final long tokenLifetime;
+
+    /**
+     * Creates a new instance of TokenRevocationServiceImpl with required dependencies.
+     *
+     * @param userRepository Repository for user data
+     * @param refreshTokenRepository Repository for refresh tokens
+     * @param revocationList In-memory list consulted by the JWT filter
+     * @param tokenLifetime Lifetime of access tokens in milliseconds
+     */
+    public TokenRevocationServiceImpl(UserRepository userRepository, RefreshTokenRepository refreshTokenRepository,
+                                      TokenRevocationList revocationList,
+                                      @Value("${jwt.expiration}") long tokenLifetime) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revocationList = revocationList;
+        this.tokenLifetime = tokenLifetime;
+    }
+
+    /**
+     * Revokes every access and refresh token issued to a user so far.
+     *
+     * Implementation Details:
+     * 1. Stores the current time as the user's cut-off
+     * 2. Revokes the user's refresh tokens, so no new access tokens can be obtained
+     * 3. Adds the cut-off to the local revocation list so this instance rejects the tokens at once
+     *
+     * @param userId ID of the user
+     * @throws RuntimeException if the user does not exist
+     */
+    @Override
+    @Transactional
+    public void revokeTokens(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (userRepository.revokeTokens(userId, now) == 0) {
+            throw new RuntimeException("User not found");
+        }
+        refreshTokenRepository.revokeAllByUserId(userId, now);
+        revocationList.revoke(userId, toInstant(now));
+        logger.info("Revoked access tokens of user {}", userId);
+    }
+
+    /**
+     * Revokes a login session.
+     *
+     * Implementation Details:
+     * 1. Marks the session's refresh tokens as revoked
+     * 2. Adds the session to the local revocation list so this instance rejects its access tokens at once
+     *
+     * @param sessionId ID of the session
+     */
+    @Override
+    @Transactional
+    public void revokeSession(UUID sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.revokeSession(sessionId, now);
+        revocationList.revokeSession(sessionId.toString(), toInstant(now));
+        logger.info("Revoked session {}", sessionId);
+    }
+
+    /**
+     * Reloads the user cut-offs and session revocations made within the access token lifetime.
+     * Revocations are merged rather than replaced, so one made locally while the queries
+     * run is never lost; revocations older than the token lifetime are pruned.
+     *
+     * @return Number of revocations loaded
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval}", initialDelayString = "${jwt.revocation.refresh-interval}")
+    public int refresh() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(tokenLifetime * 1_000_000);
+        List<TokenRevocation> revocations = userRepository.findTokenRevocationsSince(since);
+        revocations.forEach(revocation -> revocationList.revoke(revocation.userId(), toInstant(revocation.revokedAt())));
+        List<SessionRevocation> sessions = refreshTokenRepository.findSessionRevocationsSince(since);
+        sessions.forEach(session -> revocationList.revokeSession(session.sessionId().toString(), toInstant(session.revokedAt())));
+        revocationList.prune(toInstant(since));
+        logger.debug("Loaded {} token and {} session revocations, {} active",
+                revocations.size(), sessions.size(), revocationList.size());
+        return revocations.size() + sessions.size();
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
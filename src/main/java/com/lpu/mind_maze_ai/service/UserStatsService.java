@@ -0,0 +1,34 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.web.response.dto.UserStatsDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for per-user quiz statistics.
+ */
+public interface UserStatsService {
+    /**
+     * Retrieves a user's statistics per quiz type and level.
+     *
+     * @param userId The ID of the user
+     * @return Statistics for every type and level the user has attempted
+     */
+    List<UserStatsDTO> getStats(Long userId);
+
+    /**
+     * Retrieves a user's statistics per week, quiz type and level, to follow accuracy over time.
+     *
+     * @param userId The ID of the user
+     * @param weeks Number of weeks to cover, including the current one
+     * @return Statistics of every week, type and level with activity, oldest week first
+     */
+    List<UserStatsDTO> getHistory(Long userId, int weeks);
+
+    /**
+     * Recomputes the statistics of all users from quiz progress.
+     *
+     * @return Number of statistics rows written
+     */
+    int rebuildAll();
+}
@@ -0,0 +1,155 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.UserQuizStats;
+import com.lpu.mind_maze_ai.event.AnswerRecordedEvent;
+import com.lpu.mind_maze_ai.event.QuizAttemptStartedEvent;
+import com.lpu.mind_maze_ai.model.QuizStatsTotals;
+import com.lpu.mind_maze_ai.repository.UserQuizStatsRepository;
+import com.lpu.mind_maze_ai.web.response.dto.UserStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of UserStatsService backed by the user_quiz_stats read model.
+ * This service handles:
+ * - Incremental updates from attempt and answer events
+ * - Reading a user's lifetime and weekly statistics without touching quizzes or progress
+ * - Rebuilding the read model for backfill
+ *
+ * Updates run before the commit of the transaction that published the event,
+ * so the read model never diverges from the progress it is derived from.
+ *
+ * @see UserStatsService
+ * @see UserQuizStats
+ */
+@Service
+public class UserStatsServiceImpl implements UserStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsServiceImpl.class);
+    private final UserQuizStatsRepository statsRepository;
+    private final boolean rebuildOnStartup;
+
+    /**
+     * Creates a new instance of UserStatsServiceImpl with required dependencies.
+     *
+     * @param statsRepository Repository for the stats read model
+     * @param rebuildOnStartup Whether to rebuild the read model when the application starts
+     */
+    public UserStatsServiceImpl(UserQuizStatsRepository statsRepository,
+                                @Value("${quiz.stats.rebuild-on-startup}") boolean rebuildOnStartup) {
+        this.statsRepository = statsRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * Retrieves a user's lifetime statistics per quiz type and level.
+     * Sums the user's weekly rows into one row per type and level combination.
+     *
+     * @param userId Identifier of the user
+     * @return List of statistics DTOs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserStatsDTO> getStats(Long userId) {
+        return statsRepository.findTotalsByUserId(userId).stream().map(UserStatsServiceImpl::toStatsDTO).toList();
+    }
+
+    /**
+     * Retrieves a user's weekly statistics per quiz type and level.
+     *
+     * @param userId Identifier of the user
+     * @param weeks Number of weeks to cover, including the current one
+     * @return List of statistics DTOs, oldest week first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserStatsDTO> getHistory(Long userId, int weeks) {
+        LocalDate from = LocalDate.now().with(DayOfWeek.MONDAY).minusWeeks(weeks - 1L);
+        return statsRepository.findHistory(userId, from).stream().map(stats -> {
+            UserStatsDTO statsDTO = toStatsDTO(stats);
+            statsDTO.setPeriodStart(stats.getPeriodStart());
+            return statsDTO;
+        }).toList();
+    }
+
+    /**
+     * Recomputes all statistics from live and archived quiz progress with set-based statements.
+     * The table is locked against writes first, so answers recorded meanwhile wait for the rebuild
+     * and are then added to the rebuilt rows instead of colliding with its inserts.
+     *
+     * @return Number of statistics rows written
+     */
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        logger.info("Rebuilding user statistics from quiz progress");
+        statsRepository.lockAgainstWrites();
+        statsRepository.deleteAllRows();
+        int rows = statsRepository.rebuildFromProgress();
+        logger.info("Rebuilt {} user statistics rows", rows);
+        return rows;
+    }
+
+    /**
+     * Runs the backfill once the application is ready, when enabled.
+     * The listener is transactional itself, as calling {@link #rebuildAll()} on this instance bypasses its proxy.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Maps statistics counters to a DTO with the derived accuracy and average score.
+     *
+     * @param stats Counters of one quiz type and level
+     * @return Statistics DTO without a period
+     */
+    private static UserStatsDTO toStatsDTO(QuizStatsTotals stats) {
+        UserStatsDTO statsDTO = new UserStatsDTO();
+        statsDTO.setQuizType(stats.getQuizType());
+        statsDTO.setQuizLevel(stats.getQuizLevel());
+        statsDTO.setAttempts(stats.getAttempts());
+        statsDTO.setCompletedAttempts(stats.getCompletedAttempts());
+        statsDTO.setCorrectAnswers(stats.getCorrectAnswers());
+        statsDTO.setWrongAnswers(stats.getWrongAnswers());
+        long answered = stats.getCorrectAnswers() + stats.getWrongAnswers();
+        statsDTO.setAccuracy(answered == 0 ? 0.0 : (double) stats.getCorrectAnswers() / answered);
+        statsDTO.setAverageScore(stats.getAttempts() == 0 ? 0.0 : (double) stats.getCorrectAnswers() / stats.getAttempts());
+        return statsDTO;
+    }
+
+    /**
+     * Counts a newly started attempt.
+     *
+     * @param event Event describing the started attempt
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAttemptStarted(QuizAttemptStartedEvent event) {
+        statsRepository.increment(event.userId(), event.quizType(), event.quizLevel(), 1, 0, 0);
+    }
+
+    /**
+     * Adds graded answers to the user's statistics.
+     *
+     * @param event Event describing the graded answers
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAnswerRecorded(AnswerRecordedEvent event) {
+        statsRepository.increment(event.userId(), event.quizType(), event.quizLevel(), 0,
+                event.correctDelta(), event.wrongDelta());
+    }
+}
@@ -0,0 +1,106 @@
+package com.lpu.mind_maze_ai.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Utility class for offline answer sheets.
+ * Provides functionality for:
+ * - Salt generation
+ * - Salted answer hashing for client-side grading
+ * - Signing and verifying issued answer sheets
+ */
+@Component
+public class AnswerSheetSigner {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final long validityTime;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public AnswerSheetSigner(@Value("${quiz.offline.secret}") String secret,
+            @Value("${quiz.offline.sheet-validity}") long validityTime) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.validityTime = validityTime;
+    }
+
+    /**
+     * Generates a random salt for a newly issued answer sheet.
+     *
+     * @return URL-safe base64 encoded salt
+     */
+    public String generateSalt() {
+        byte[] salt = new byte[16];
+        secureRandom.nextBytes(salt);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(salt);
+    }
+
+    /**
+     * Hashes an answer so the client can grade without seeing the correct option.
+     * Clients compute {@code hex(sha256(salt + ":" + questionId + ":" + lowercase(option)))}
+     * for the chosen option and compare it with the published hash.
+     *
+     * @param salt       Salt of the answer sheet
+     * @param questionId ID of the question
+     * @param answer     Answer option to hash
+     * @return Lowercase hex encoded SHA-256 digest
+     */
+    public String hashAnswer(String salt, UUID questionId, String answer) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String input = salt + ":" + questionId + ":" + answer.toLowerCase(Locale.ROOT);
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Signs the identifying fields of an answer sheet.
+     *
+     * @param quizId   ID of the quiz
+     * @param userId   ID of the user the sheet was issued to
+     * @param salt     Salt of the answer sheet
+     * @param issuedAt Issue time in epoch milliseconds
+     * @return URL-safe base64 encoded HMAC signature
+     */
+    public String sign(UUID quizId, Long userId, String salt, long issuedAt) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            String payload = quizId + "|" + userId + "|" + salt + "|" + issuedAt;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign answer sheet", e);
+        }
+    }
+
+    /**
+     * Verifies that an answer sheet was issued by this server and has not expired.
+     *
+     * @param quizId    ID of the quiz
+     * @param userId    ID of the user submitting the sheet
+     * @param salt      Salt of the answer sheet
+     * @param issuedAt  Issue time in epoch milliseconds
+     * @param signature Signature returned when the sheet was issued
+     * @return true if the signature matches and the sheet is still valid, false otherwise
+     */
+    public boolean verify(UUID quizId, Long userId, String salt, long issuedAt, String signature) {
+        if (signature == null || System.currentTimeMillis() > issuedAt + validityTime) {
+            return false;
+        }
+        byte[] expected = sign(quizId, userId, salt, issuedAt).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+}
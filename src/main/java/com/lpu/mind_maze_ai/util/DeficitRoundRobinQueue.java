@@ -0,0 +1,273 @@
+package com.lpu.mind_maze_ai.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounded blocking queue serving its keys fairly by deficit round-robin.
+ * Every key has its own FIFO queue; keys with queued items take turns, and on each turn a key
+ * may take items worth up to {@code quantum * weight} of cost, carrying unused credit over to
+ * its next turn. A key with a long backlog therefore delays another key's item by at most one
+ * turn, regardless of how much it has queued. An item costing more than a turn's quantum waits
+ * while its key saves up credit over several turns, so costs keep their full weight in the shares.
+ *
+ * <p>Items are taken in O(1) amortised time. A key's queue, weight and credit are dropped as
+ * soon as it is empty, so memory is bounded by the number of queued items.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <K> Type of the keys items are queued under
+ * @param <T> Type of the queued items
+ */
+public class DeficitRoundRobinQueue<K, T> {
+    private final long quantum;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<K, Flow<K, T>> flows = new HashMap<>();
+    private final ArrayDeque<Flow<K, T>> active = new ArrayDeque<>();
+    private int size;
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param quantum Cost a key of weight 1 may take per turn
+     * @param capacity Maximum number of items queued across all keys
+     */
+    public DeficitRoundRobinQueue(long quantum, int capacity) {
+        if (quantum <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Quantum and capacity must be positive");
+        }
+        this.quantum = quantum;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queues an item under a key if the queue has room.
+     * The weight is remembered while the key has items queued; the latest one applies.
+     *
+     * @param key Key to queue the item under
+     * @param weight Share of the turns the key gets relative to weight 1
+     * @param cost Cost of the item, at least 1
+     * @param item Item to queue
+     * @return true if the item was queued, false if the queue is full
+     */
+    public boolean offer(K key, int weight, long cost, T item) {
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                return false;
+            }
+            Flow<K, T> flow = flows.computeIfAbsent(key, Flow::new);
+            if (flow.items.isEmpty()) {
+                active.addLast(flow);
+            }
+            flow.weight = Math.max(1, weight);
+            flow.items.addLast(new Pending<>(item, Math.max(1, cost), System.nanoTime()));
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next item in fair order, waiting until one is queued.
+     *
+     * @return The item with its key and the time it waited
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Entry<K, T> take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next item in fair order, waiting up to the given time until one is queued.
+     *
+     * @param timeout Longest time to wait
+     * @param unit Unit of the timeout
+     * @return The item with its key and the time it waited, or null if none was queued in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Entry<K, T> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes queued items ahead of their turn, for callers that can serve several items at the price of one.
+     * Keys are visited in rotation order and each key's items oldest first; the claim function is called
+     * once per item, with the queue locked, and the item is removed if it returns true. The cost of a
+     * removed item is charged to its key's credit, so the key gives the turns back later and the
+     * long-run shares stay as weighted; a key's debt is forgiven once it has nothing queued.
+     *
+     * @param claim Function deciding, item by item, whether to remove it; it may track what it has claimed
+     * @return The removed items with their keys and the time they waited, in removal order
+     */
+    public List<Entry<K, T>> drain(Predicate<? super T> claim) {
+        lock.lock();
+        try {
+            List<Entry<K, T>> drained = new ArrayList<>();
+            long now = System.nanoTime();
+            Iterator<Flow<K, T>> flowIterator = active.iterator();
+            while (flowIterator.hasNext()) {
+                Flow<K, T> flow = flowIterator.next();
+                Iterator<Pending<T>> itemIterator = flow.items.iterator();
+                while (itemIterator.hasNext()) {
+                    Pending<T> pending = itemIterator.next();
+                    if (claim.test(pending.item())) {
+                        itemIterator.remove();
+                        flow.deficit -= pending.cost();
+                        size--;
+                        drained.add(new Entry<>(flow.key, pending.item(), now - pending.enqueuedAt()));
+                    }
+                }
+                if (flow.items.isEmpty()) {
+                    flowIterator.remove();
+                    flows.remove(flow.key);
+                }
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of items queued across all keys
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of keys with items queued
+     */
+    public int keys() {
+        lock.lock();
+        try {
+            return flows.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Describes the items queued under a key.
+     *
+     * @param key Key to describe
+     * @return Number of items queued and how long the oldest has waited; zeros if none are queued
+     */
+    public Backlog backlog(K key) {
+        lock.lock();
+        try {
+            Flow<K, T> flow = flows.get(key);
+            if (flow == null) {
+                return new Backlog(0, 0);
+            }
+            return new Backlog(flow.items.size(), System.nanoTime() - flow.items.getFirst().enqueuedAt());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the next item. The key at the head of the rotation is granted its quantum once per turn
+     * and keeps the turn while its credit covers its next item; then it moves to the back. A key whose
+     * next item costs more than its credit, whether in debt from {@link #drain} or saving up for an item
+     * larger than its quantum, passes its turns until the credit covers it.
+     * Must be called with the lock held and at least one item queued.
+     */
+    private Entry<K, T> dequeue() {
+        while (true) {
+            Flow<K, T> flow = active.getFirst();
+            if (!flow.granted) {
+                flow.deficit += quantum * flow.weight;
+                flow.granted = true;
+            }
+            Pending<T> next = flow.items.getFirst();
+            if (next.cost() <= flow.deficit) {
+                flow.items.removeFirst();
+                flow.deficit -= next.cost();
+                size--;
+                if (flow.items.isEmpty()) {
+                    active.removeFirst();
+                    flows.remove(flow.key);
+                }
+                return new Entry<>(flow.key, next.item(), System.nanoTime() - next.enqueuedAt());
+            }
+            flow.granted = false;
+            active.addLast(active.removeFirst());
+        }
+    }
+
+    /**
+     * Item taken from the queue.
+     *
+     * @param key Key the item was queued under
+     * @param item The item
+     * @param waitNanos Time the item spent queued
+     */
+    public record Entry<K, T>(K key, T item, long waitNanos) {
+    }
+
+    /**
+     * Items queued under one key.
+     *
+     * @param queued Number of items queued
+     * @param waitNanos Time the oldest item has been queued
+     */
+    public record Backlog(int queued, long waitNanos) {
+    }
+
+    private record Pending<T>(T item, long cost, long enqueuedAt) {
+    }
+
+    /**
+     * Queue and scheduling state of one key.
+     */
+    private static final class Flow<K, T> {
+        private final K key;
+        private final ArrayDeque<Pending<T>> items = new ArrayDeque<>();
+        private int weight = 1;
+        private long deficit;
+        private boolean granted;
+
+        private Flow(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.lpu.mind_maze_ai.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lpu.mind_maze_ai.model.AuthenticatedUser;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for handling JSON Web Token (JWT) operations.
@@ -18,18 +31,48 @@ import java.util.List;
  * - Token generation
  * - Token validation
  * - Claims extraction
+ *
+ * Tokens are verified by a single parser built at startup; parsers are immutable and thread-safe.
+ * Verified claims are optionally kept in a bounded cache keyed by the SHA-256 digest of the token
+ * until the token expires, so a client sending the same token repeatedly is verified once.
+ * Revocation is checked separately on every request and is not affected by the cache.
  */
 @Component
 public class JwtUtil {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+    /** Claim holding the login session of a token */
+    public static final String SESSION_CLAIM = "sid";
+    /** Claim holding the issue time of a token in epoch milliseconds; the standard "iat" claim has second precision */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
 
     private final SecretKey key;
     private final long expirationTime;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
+    /**
+     * Creates the utility and its verified-token cache.
+     *
+     * @param secret HMAC secret used to sign and verify tokens
+     * @param expirationTime Lifetime of issued tokens in milliseconds
+     * @param verifiedCacheSize Maximum number of verified tokens cached; 0 disables the cache
+     * @param meterRegistry Registry the cache metrics are published to
+     */
     public JwtUtil(@Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long expirationTime) {
+            @Value("${jwt.expiration}") long expirationTime,
+            @Value("${jwt.verified-cache-size}") long verifiedCacheSize,
+            MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = verifiedCacheSize > 0 ? Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build() : null;
+        if (verifiedTokens != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+        }
     }
 
     /**
@@ -42,6 +85,20 @@ public class JwtUtil {
      * @return Generated JWT token string
      */
     public String generateToken(String username, Long userId, String name, List<String> roles) {
+        return generateToken(username, userId, name, roles, null);
+    }
+
+    /**
+     * Generates a JWT token bound to a login session, so it can be revoked together with the session.
+     *
+     * @param username  User's username
+     * @param userId    User's unique identifier
+     * @param name      User's full name
+     * @param roles     User's assigned roles
+     * @param sessionId ID of the login session, or null for a token without one
+     * @return Generated JWT token string
+     */
+    public String generateToken(String username, Long userId, String name, List<String> roles, UUID sessionId) {
         Date now = new Date();
         try {
             return Jwts.builder()
@@ -49,6 +106,8 @@ public class JwtUtil {
                     .claim("userId", userId)
                     .claim("name", name)
                     .claim("roles", roles)
+                    .claim(SESSION_CLAIM, sessionId == null ? null : sessionId.toString())
+                    .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                     .issuedAt(now)
                     .expiration(new Date(now.getTime() + expirationTime))
                     .signWith(key)
@@ -68,20 +127,72 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Verifies a token and returns its claims.
+     * Tokens verified before and not yet expired are served from the verified-token cache.
+     *
+     * @param token Token to verify
+     * @return Claims of the token
+     * @throws JwtException if the token is malformed, forged or expired
+     */
     public Claims extractClaims(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = parse(token);
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
 
+    private Claims parse(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             logger.error("Error extracting claims from token", e);
             throw new JwtException("Invalid token", e);
         }
     }
 
+    /**
+     * Returns the issue time of a token in epoch milliseconds.
+     * Tokens issued before the millisecond claim was added only carry "iat", so they are taken
+     * to be issued at the end of that second, which keeps rejecting them in the second of a cut-off.
+     *
+     * @param claims Claims of a verified token
+     * @return Issue time in epoch milliseconds, or null if the token carries none
+     */
+    public Long issuedAtMillis(Claims claims) {
+        Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Number.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis.longValue();
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.getTime() + 999;
+    }
+
+    /**
+     * Builds the principal of a request from verified token claims.
+     *
+     * @param claims Claims of a verified token
+     * @return Principal carrying the user's ID, names and roles
+     * @throws JwtException if the token lacks the user ID
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        Number userId = claims.get("userId", Number.class);
+        if (userId == null) {
+            throw new JwtException("Token has no user ID");
+        }
+        List<?> roles = claims.get("roles", List.class);
+        List<GrantedAuthority> authorities = roles == null ? List.of() : roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), claims.get("name", String.class), authorities);
+    }
+
     /**
      * Validates a JWT token.
      *
@@ -90,10 +201,47 @@ public class JwtUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            extractClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
+
+    /**
+     * Computes the cache key of a token. A cryptographic digest keeps keys small
+     * and makes it infeasible to craft a different token sharing a cached entry.
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires a cached token together with the token itself.
+     */
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(expiration.getTime() - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
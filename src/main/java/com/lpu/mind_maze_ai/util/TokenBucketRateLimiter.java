@@ -0,0 +1,126 @@
+package com.lpu.mind_maze_ai.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket rate limiter with one bucket per key.
+ * Each bucket holds up to {@code capacity} tokens and regains {@code refillPerMinute} tokens per minute;
+ * a request takes as many tokens as its cost and is rejected if the bucket holds fewer.
+ *
+ * <p>A bucket is a single {@link AtomicLong} holding the time at which it will be full again
+ * (the generic cell rate algorithm), so taking tokens is one compare-and-set with no locks and
+ * no background refill. Buckets live in a size-bounded cache and are dropped once idle for a full
+ * refill period; a dropped bucket would have been full anyway. When the size bound evicts a busy
+ * bucket its key starts over with a full bucket.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <K> Type of the bucket keys
+ */
+public class TokenBucketRateLimiter<K> {
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final Cache<K, AtomicLong> buckets;
+
+    /**
+     * Creates a rate limiter on the system clock.
+     *
+     * @param capacity Maximum number of tokens a bucket holds
+     * @param refillPerMinute Number of tokens a bucket regains per minute
+     * @param maxBuckets Maximum number of buckets kept in memory
+     */
+    public TokenBucketRateLimiter(long capacity, long refillPerMinute, long maxBuckets) {
+        this(capacity, refillPerMinute, maxBuckets, System::nanoTime);
+    }
+
+    /**
+     * Creates a rate limiter on the given clock.
+     *
+     * @param capacity Maximum number of tokens a bucket holds
+     * @param refillPerMinute Number of tokens a bucket regains per minute
+     * @param maxBuckets Maximum number of buckets kept in memory
+     * @param clock Source of monotonic nanosecond timestamps
+     */
+    public TokenBucketRateLimiter(long capacity, long refillPerMinute, long maxBuckets, LongSupplier clock) {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Duration.ofMinutes(1).toNanos() / refillPerMinute;
+        this.burstNanos = capacity * nanosPerToken;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .ticker(clock::getAsLong)
+                .build();
+    }
+
+    /**
+     * Takes tokens from a key's bucket if it holds enough.
+     *
+     * @param key Key of the bucket
+     * @param cost Number of tokens to take
+     * @return Outcome with the state of the bucket afterwards
+     * @throws IllegalArgumentException if the cost exceeds the capacity and could never be granted
+     */
+    public Decision tryAcquire(K key, long cost) {
+        if (cost > capacity) {
+            throw new IllegalArgumentException("Cost " + cost + " exceeds the bucket capacity of " + capacity);
+        }
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(clock.getAsLong()));
+        long increment = cost * nanosPerToken;
+        while (true) {
+            long now = clock.getAsLong();
+            long current = fullAt.get();
+            // A bucket that filled up in the past is simply full; its time does not carry over
+            long start = current - now < 0 ? now : current;
+            long next = start + increment;
+            long debt = next - now;
+            if (debt > burstNanos) {
+                long owed = start - now;
+                return new Decision(false, remaining(owed), owed, debt - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, remaining(debt), debt, 0);
+            }
+        }
+    }
+
+    /**
+     * @return Maximum number of tokens a bucket holds
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Approximate number of buckets held in memory
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    private long remaining(long owedNanos) {
+        return (burstNanos - owedNanos) / nanosPerToken;
+    }
+
+    /**
+     * Outcome of a token request.
+     *
+     * @param allowed Whether the tokens were taken
+     * @param remaining Number of tokens left in the bucket
+     * @param nanosUntilFull Time until the bucket is full again
+     * @param retryAfterNanos Time until the request could succeed, 0 if it was allowed
+     */
+    public record Decision(boolean allowed, long remaining, long nanosUntilFull, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.lpu.mind_maze_ai.util;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory list of revoked access tokens, consulted by the JWT filter on every request.
+ * A token is revoked if:
+ * - It was issued at or before its user's cut-off, set when the user logs out everywhere
+ * - Its login session (the "sid" claim) was revoked
+ *
+ * Cut-offs and token issue times are compared in milliseconds, so a token issued right after a
+ * user logs out everywhere is accepted; only one issued within the same millisecond is rejected too.
+ *
+ * <p>Only revocations younger than the access token lifetime need to be kept; older ones can no
+ * longer match an unexpired token and are pruned, which keeps both sets small enough to hold exactly
+ * rather than in a probabilistic filter. Lookups only hash the user ID and the session ID string taken
+ * from the claims, so checking a token allocates nothing. This class is thread-safe.</p>
+ */
+@Component
+public class TokenRevocationList {
+    private final ConcurrentMap<Long, Long> cutOffs = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> revokedSessions = new ConcurrentHashMap<>();
+
+    /**
+     * Records a user cut-off, keeping the later cut-off if the user already has one.
+     *
+     * @param userId ID of the user
+     * @param revokedAt Cut-off time
+     */
+    public void revoke(Long userId, Instant revokedAt) {
+        cutOffs.merge(userId, revokedAt.toEpochMilli(), Math::max);
+    }
+
+    /**
+     * Records a revoked login session.
+     *
+     * @param sessionId ID of the session as carried by the "sid" claim
+     * @param revokedAt Time of the revocation
+     */
+    public void revokeSession(String sessionId, Instant revokedAt) {
+        revokedSessions.merge(sessionId, revokedAt.toEpochMilli(), Math::max);
+    }
+
+    /**
+     * Checks whether a token was revoked.
+     *
+     * @param userId ID of the user the token was issued to
+     * @param sessionId Session of the token, null for tokens issued without one
+     * @param issuedAt Issue time of the token in epoch milliseconds
+     * @return true if the token was issued at or before the user's cut-off or its session was revoked
+     */
+    public boolean isRevoked(Long userId, String sessionId, long issuedAt) {
+        Long cutOff = cutOffs.get(userId);
+        if (cutOff != null && issuedAt <= cutOff) {
+            return true;
+        }
+        return sessionId != null && revokedSessions.containsKey(sessionId);
+    }
+
+    /**
+     * Removes the cut-offs and session revocations made before the given time.
+     *
+     * @param before Time before which revocations are removed
+     */
+    public void prune(Instant before) {
+        long limit = before.toEpochMilli();
+        cutOffs.values().removeIf(cutOff -> cutOff < limit);
+        revokedSessions.values().removeIf(revokedAt -> revokedAt < limit);
+    }
+
+    /**
+     * @return Number of user cut-offs and revoked sessions held
+     */
+    public int size() {
+        return cutOffs.size() + revokedSessions.size();
+    }
+}
@@ -2,6 +2,7 @@ package com.lpu.mind_maze_ai.web.request.dto;
 
 import com.lpu.mind_maze_ai.model.QuizLevel;
 import com.lpu.mind_maze_ai.model.QuizType;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
@@ -20,6 +21,8 @@ public class CreateQuizDTO {
     private QuizLevel quizLevel;
 
     /** Number of questions to generate */
+    @NotNull(message = "Number of questions cannot be null")
+    @Min(value = 1, message = "Number of questions must be at least 1")
     private Integer numberOfQuestions;
 
     /**
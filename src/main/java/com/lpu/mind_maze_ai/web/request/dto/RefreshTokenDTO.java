@@ -0,0 +1,15 @@
+package com.lpu.mind_maze_ai.web.request.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for refresh and revocation requests.
+ * Carries the refresh token returned by the last login or refresh.
+ */
+@Data
+public class RefreshTokenDTO {
+    /** Refresh token to exchange or revoke */
+    @NotBlank
+    private String refreshToken;
+}
@@ -0,0 +1,39 @@
+package com.lpu.mind_maze_ai.web.request.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for uploading an answer sheet graded offline.
+ * Echoes the signed sheet metadata and carries the selected option per question.
+ */
+@Data
+public class SubmitAnswerSheetDTO {
+    /** Quiz the sheet was issued for */
+    @NotNull
+    private UUID quizId;
+
+    /** User the sheet was issued to */
+    @NotNull
+    private Long userId;
+
+    /** Salt of the issued sheet */
+    @NotBlank
+    private String salt;
+
+    /** Issue time of the sheet in epoch milliseconds */
+    @NotNull
+    private Long issuedAt;
+
+    /** Signature of the issued sheet */
+    @NotBlank
+    private String signature;
+
+    /** Selected option keyed by question ID */
+    @NotNull
+    private Map<UUID, String> answers;
+}
@@ -0,0 +1,32 @@
+package com.lpu.mind_maze_ai.web.response.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a whole-quiz download.
+ * Contains every question of the quiz along with the signed sheet metadata
+ * the client must send back when uploading its answers.
+ */
+@Data
+public class AnswerSheetDTO {
+    /** Unique identifier for the quiz */
+    private UUID quizId;
+
+    /** User the sheet was issued to */
+    private Long userId;
+
+    /** Salt used for the answer hashes */
+    private String salt;
+
+    /** Issue time in epoch milliseconds */
+    private Long issuedAt;
+
+    /** Server signature over quiz, user, salt and issue time */
+    private String signature;
+
+    /** All questions of the quiz */
+    private List<OfflineQuestionDTO> questions;
+}
@@ -16,4 +16,7 @@ public class CorrectResponseDTO {
 
     /** The question text for reference */
     private String question;
+
+    /** Next unasked question, present only when prefetching was requested and questions remain */
+    private QuestionDTO nextQuestion;
 }
@@ -0,0 +1,15 @@
+package com.lpu.mind_maze_ai.web.response.dto;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object describing a user's quizzes waiting for question generation.
+ */
+@Data
+public class GenerationBacklogDTO {
+    /** Number of the user's quizzes waiting for generation */
+    private int queued;
+
+    /** Milliseconds the user's oldest waiting quiz has been queued, 0 if none is */
+    private long waitMillis;
+}
@@ -0,0 +1,24 @@
+package com.lpu.mind_maze_ai.web.response.dto;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object for a leaderboard position.
+ */
+@Data
+public class LeaderboardEntryDTO {
+    /** 1-based position on the leaderboard */
+    private Integer rank;
+
+    /** ID of the ranked user */
+    private Long userId;
+
+    /** Accumulated number of correct answers */
+    private Long score;
+
+    public LeaderboardEntryDTO(Integer rank, Long userId, Long score) {
+        this.rank = rank;
+        this.userId = userId;
+        this.score = score;
+    }
+}
@@ -0,0 +1,25 @@
+package com.lpu.mind_maze_ai.web.response.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a question in an offline answer sheet.
+ * Carries a salted hash of the correct answer instead of the answer itself.
+ */
+@Data
+public class OfflineQuestionDTO {
+    /** Unique identifier for the question */
+    private UUID id;
+
+    /** The question text */
+    private String question;
+
+    /** List of possible answer options */
+    private List<String> options;
+
+    /** Salted SHA-256 hash of the correct answer */
+    private String answerHash;
+}
@@ -0,0 +1,18 @@
+package com.lpu.mind_maze_ai.web.response.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a user's quiz listing.
+ * Quizzes are ordered newest first.
+ */
+@Data
+public class QuizPageDTO {
+    /** Quizzes on this page */
+    private List<QuizDTO> quizzes;
+
+    /** Cursor to request the next page with, or null if this is the last page */
+    private String nextCursor;
+}
@@ -0,0 +1,32 @@
+package com.lpu.mind_maze_ai.web.response.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the immutable result of a finished quiz attempt.
+ */
+@Data
+public class QuizResultDTO {
+    /** Unique identifier for the quiz */
+    private String quizId;
+
+    /** Type of quiz (e.g., Math, Science) */
+    private String quizType;
+
+    /** Difficulty level of the quiz */
+    private String quizLevel;
+
+    /** Number of questions answered correctly */
+    private Integer correctAnswers;
+
+    /** Number of questions answered incorrectly */
+    private Integer wrongAnswers;
+
+    /** Total number of questions in the quiz */
+    private Integer totalQuestions;
+
+    /** Time the attempt was finalized */
+    private LocalDateTime completedAt;
+}
@@ -16,4 +16,7 @@ public class ScoreDTO {
 
     /** Total number of questions in the quiz */
     private Integer totalQuestions;
+
+    /** Whether the attempt has been finalized and the score can no longer change */
+    private Boolean completed;
 }
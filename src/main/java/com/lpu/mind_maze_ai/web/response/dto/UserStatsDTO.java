@@ -0,0 +1,39 @@
+package com.lpu.mind_maze_ai.web.response.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for a user's statistics on one quiz type and level,
+ * over the user's lifetime or over one week.
+ */
+@Data
+public class UserStatsDTO {
+    /** First day (Monday) of the week the statistics cover; null for lifetime totals */
+    private LocalDate periodStart;
+
+    /** Type of quiz (e.g., Math, Science) */
+    private String quizType;
+
+    /** Difficulty level of the quiz */
+    private String quizLevel;
+
+    /** Number of attempts started */
+    private Long attempts;
+
+    /** Number of attempts finished */
+    private Long completedAttempts;
+
+    /** Number of correct answers */
+    private Long correctAnswers;
+
+    /** Number of wrong answers */
+    private Long wrongAnswers;
+
+    /** Share of answered questions that were correct, between 0 and 1 */
+    private Double accuracy;
+
+    /** Average number of correct answers per attempt */
+    private Double averageScore;
+}
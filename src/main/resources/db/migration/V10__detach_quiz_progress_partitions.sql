@@ -0,0 +1,40 @@
+-- Old monthly partitions are now removed by the archival job with DETACH PARTITION ... CONCURRENTLY
+-- followed by DROP TABLE, so removing a partition never blocks queries on quiz_progress. A concurrent
+-- detach can not run inside a function or transaction block, so the function that dropped partitions
+-- itself is replaced by one that only lists them.
+DROP FUNCTION IF EXISTS drop_empty_quiz_progress_partitions(timestamp);
+
+-- Lists the monthly partitions that ended before the given time and hold no attempts, with their state:
+-- 'attached', 'detach_pending' after an interrupted concurrent detach, or 'detached' when only the drop is left.
+CREATE OR REPLACE FUNCTION empty_quiz_progress_partitions(ended_before timestamp)
+    RETURNS TABLE (partition_name text, partition_state text)
+    LANGUAGE plpgsql STABLE AS
+$$
+DECLARE
+    candidate record;
+    is_empty  boolean;
+BEGIN
+    FOR candidate IN
+        SELECT c.relname::text AS name,
+               CASE
+                   WHEN i.inhrelid IS NULL THEN 'detached'
+                   WHEN i.inhdetachpending THEN 'detach_pending'
+                   ELSE 'attached'
+               END AS state
+        FROM pg_class c
+                 LEFT JOIN pg_inherits i ON i.inhrelid = c.oid AND i.inhparent = 'quiz_progress'::regclass
+        WHERE c.relkind = 'r'
+          AND pg_table_is_visible(c.oid)
+          AND c.relname ~ '^quiz_progress_[0-9]{4}_[0-9]{2}$'
+          AND to_timestamp(substring(c.relname FROM 15), 'YYYY_MM')::timestamp + interval '1 month' <= ended_before
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('SELECT NOT EXISTS (SELECT 1 FROM %I)', candidate.name) INTO is_empty;
+            IF is_empty THEN
+                partition_name := candidate.name;
+                partition_state := candidate.state;
+                RETURN NEXT;
+            END IF;
+        END LOOP;
+END
+$$;
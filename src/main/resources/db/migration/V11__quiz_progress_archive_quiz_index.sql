@@ -0,0 +1,3 @@
+-- Backs the lookup of a deleted quiz's archived scores, which are taken off the leaderboards;
+-- the unique (user_id, quiz_id) index can not serve lookups by quiz alone
+CREATE INDEX IF NOT EXISTS idx_quiz_progress_archive_quiz ON quiz_progress_archive (quiz_id);
@@ -0,0 +1,10 @@
+-- Statistics are kept per week, so accuracy can be followed over time; a user's lifetime totals
+-- are the sum of their weeks. Rows from before carry no history and are assigned to the week of
+-- their last change; a rebuild spreads them over the weeks the attempts took place in.
+ALTER TABLE user_quiz_stats ADD COLUMN IF NOT EXISTS period_start date;
+UPDATE user_quiz_stats SET period_start = CAST(date_trunc('week', COALESCE(updated_at, now())) AS date) WHERE period_start IS NULL;
+ALTER TABLE user_quiz_stats ALTER COLUMN period_start SET NOT NULL;
+
+ALTER TABLE user_quiz_stats DROP CONSTRAINT IF EXISTS uk_user_quiz_stats_user_type_level;
+ALTER TABLE user_quiz_stats ADD CONSTRAINT uk_user_quiz_stats_user_type_level_period
+    UNIQUE (user_id, quiz_type, quiz_level, period_start);
@@ -0,0 +1,74 @@
+-- Baseline schema as originally created by Hibernate's ddl-auto.
+-- Statements are guarded so databases that already carry this schema are left untouched.
+
+CREATE TABLE IF NOT EXISTS app_user (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY,
+    username    varchar(255),
+    password    varchar(255),
+    name        varchar(255),
+    email       varchar(255),
+    authorities bytea[],
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    created_by  varchar(255),
+    updated_by  varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS quiz (
+    id                  uuid NOT NULL,
+    user_id             bigint NOT NULL,
+    quiz_type           varchar(255),
+    quiz_level          varchar(255),
+    number_of_questions integer,
+    creation_status     varchar(255),
+    created_at          timestamp(6),
+    updated_at          timestamp(6),
+    created_by          varchar(255),
+    updated_by          varchar(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk1jc1tqjea5eojgwq8qr2a13bd FOREIGN KEY (user_id) REFERENCES app_user
+);
+
+CREATE TABLE IF NOT EXISTS quiz_question (
+    id             uuid NOT NULL,
+    quiz_id        uuid NOT NULL,
+    question       varchar(255),
+    correct_answer varchar(255),
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    created_by     varchar(255),
+    updated_by     varchar(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fkdtynvfjgh6e7fd8l0wk37nrpc FOREIGN KEY (quiz_id) REFERENCES quiz
+);
+
+CREATE TABLE IF NOT EXISTS quiz_options (
+    question_id  uuid NOT NULL,
+    option_value varchar(255),
+    CONSTRAINT fkebjwqdacj43sk4gh35wfochs FOREIGN KEY (question_id) REFERENCES quiz_question
+);
+
+CREATE TABLE IF NOT EXISTS quiz_progress (
+    id                  uuid NOT NULL,
+    user_id             bigint NOT NULL,
+    quiz_id             uuid NOT NULL,
+    current_question_id uuid,
+    score               integer NOT NULL,
+    total_questions     integer NOT NULL,
+    wrong_answers       integer NOT NULL,
+    completed           boolean NOT NULL,
+    created_at          timestamp(6),
+    updated_at          timestamp(6),
+    created_by          varchar(255),
+    updated_by          varchar(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fkoa728iwj2wcfi226cfiwiid2r FOREIGN KEY (user_id) REFERENCES app_user,
+    CONSTRAINT fk9f7ju88y7xqvqk9fb360ascnr FOREIGN KEY (quiz_id) REFERENCES quiz
+);
+
+CREATE TABLE IF NOT EXISTS quiz_progress_asked_question_ids (
+    quiz_progress_id   uuid NOT NULL,
+    asked_question_ids uuid,
+    CONSTRAINT fkefmf0jjaxc97h09a79gpmurkg FOREIGN KEY (quiz_progress_id) REFERENCES quiz_progress
+);
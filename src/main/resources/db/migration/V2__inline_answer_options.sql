@@ -0,0 +1,34 @@
+-- Answer options move from the quiz_options element-collection table
+-- into an inline text[] column on quiz_question.
+
+ALTER TABLE quiz_question ADD COLUMN IF NOT EXISTS ans_options text[];
+
+DO $$
+BEGIN
+    IF to_regclass('quiz_options') IS NOT NULL THEN
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'quiz_options' AND column_name = 'ans_options_order') THEN
+            -- Lists mapped with an order column keep the position Hibernate stored
+            UPDATE quiz_question q
+            SET ans_options = o.options
+            FROM (SELECT question_id, array_agg(option_value ORDER BY ans_options_order) AS options
+                  FROM quiz_options
+                  GROUP BY question_id) o
+            WHERE o.question_id = q.id
+              AND q.ans_options IS NULL;
+        ELSE
+            -- The bag mapping stored no position, id or sequence to order by. Its reads scanned
+            -- the table without an index and returned each list in physical order, so that is
+            -- the order users were shown and the closest to the order the options were written in
+            UPDATE quiz_question q
+            SET ans_options = o.options
+            FROM (SELECT question_id, array_agg(option_value ORDER BY ctid) AS options
+                  FROM quiz_options
+                  GROUP BY question_id) o
+            WHERE o.question_id = q.id
+              AND q.ans_options IS NULL;
+        END IF;
+
+        DROP TABLE quiz_options;
+    END IF;
+END $$;
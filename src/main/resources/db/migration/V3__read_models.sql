@@ -0,0 +1,48 @@
+-- Derived read models: leaderboard snapshots, per-user statistics and finalized results.
+
+CREATE TABLE IF NOT EXISTS leaderboard_snapshot (
+    id          uuid NOT NULL,
+    board       varchar(255),
+    position    integer NOT NULL,
+    user_id     bigint,
+    score       bigint NOT NULL,
+    achieved_at timestamp(6),
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    created_by  varchar(255),
+    updated_by  varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_quiz_stats (
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY,
+    user_id            bigint NOT NULL,
+    quiz_type          varchar(255) NOT NULL,
+    quiz_level         varchar(255) NOT NULL,
+    attempts           bigint NOT NULL,
+    completed_attempts bigint NOT NULL,
+    correct_answers    bigint NOT NULL,
+    wrong_answers      bigint NOT NULL,
+    updated_at         timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_quiz_stats_user_type_level UNIQUE (user_id, quiz_type, quiz_level)
+);
+
+-- Statistics tables created before completion tracking lack this column
+ALTER TABLE user_quiz_stats ADD COLUMN IF NOT EXISTS completed_attempts bigint NOT NULL DEFAULT 0;
+ALTER TABLE user_quiz_stats ALTER COLUMN completed_attempts DROP DEFAULT;
+
+CREATE TABLE IF NOT EXISTS quiz_result (
+    id              uuid NOT NULL,
+    progress_id     uuid,
+    user_id         bigint NOT NULL,
+    quiz_id         uuid NOT NULL,
+    quiz_type       varchar(255),
+    quiz_level      varchar(255),
+    correct_answers integer NOT NULL,
+    wrong_answers   integer NOT NULL,
+    total_questions integer NOT NULL,
+    completed_at    timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_quiz_result_user_quiz UNIQUE (user_id, quiz_id)
+);
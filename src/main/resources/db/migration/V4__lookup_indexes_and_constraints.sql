@@ -0,0 +1,32 @@
+-- Indexes for the lookups issued on every request, and a uniqueness guarantee for attempts.
+
+-- A user may only have one attempt per quiz. Keep the most advanced duplicate.
+CREATE TEMPORARY TABLE duplicate_progress ON COMMIT DROP AS
+SELECT id
+FROM (SELECT id,
+             row_number() OVER (PARTITION BY user_id, quiz_id
+                                ORDER BY completed DESC, score + wrong_answers DESC, updated_at DESC NULLS LAST, id) AS rn
+      FROM quiz_progress) ranked
+WHERE rn > 1;
+
+DELETE FROM quiz_progress_asked_question_ids WHERE quiz_progress_id IN (SELECT id FROM duplicate_progress);
+DELETE FROM quiz_progress WHERE id IN (SELECT id FROM duplicate_progress);
+
+-- Backs findByUserIdAndQuizId and findAttemptByUserIdAndQuizId; leading with quiz_id
+-- lets the same index serve deleteByQuiz and the leaderboard rebuild join
+ALTER TABLE quiz_progress ADD CONSTRAINT uk_quiz_progress_user_quiz UNIQUE (quiz_id, user_id);
+
+-- Backs loading the asked question set of an attempt
+CREATE INDEX IF NOT EXISTS idx_asked_question_ids_progress ON quiz_progress_asked_question_ids (quiz_progress_id);
+
+-- Backs findAllByQuizId
+CREATE INDEX IF NOT EXISTS idx_quiz_question_quiz ON quiz_question (quiz_id);
+
+-- Back login and registration lookups; registration already rejects duplicates
+CREATE UNIQUE INDEX IF NOT EXISTS uk_app_user_username ON app_user (username);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_app_user_email ON app_user (email);
+
+-- Back the keyset-paginated quiz listing
+CREATE INDEX IF NOT EXISTS idx_quiz_user_created ON quiz (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_quiz_user_type_level_created ON quiz (user_id, quiz_type, quiz_level, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_quiz_user_status_created ON quiz (user_id, creation_status, created_at DESC, id DESC);
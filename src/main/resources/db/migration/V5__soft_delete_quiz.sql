@@ -0,0 +1,6 @@
+-- Quizzes are flagged as deleted in the request and purged together with their children in the background.
+
+ALTER TABLE quiz ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+
+-- Backs the purger's scan for flagged quizzes; stays small because purged rows leave it
+CREATE INDEX IF NOT EXISTS idx_quiz_deleted ON quiz (deleted_at) WHERE deleted_at IS NOT NULL;
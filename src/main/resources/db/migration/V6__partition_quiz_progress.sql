@@ -0,0 +1,124 @@
+-- Attempts are partitioned by creation month and finished attempts are moved to a compact archive,
+-- so the live table and its indexes only hold the recent working set.
+
+-- The asked question IDs can no longer reference the attempt: every unique key of a partitioned
+-- table must contain the partition key. Their rows are removed together with their attempt.
+ALTER TABLE quiz_progress_asked_question_ids DROP CONSTRAINT IF EXISTS fkefmf0jjaxc97h09a79gpmurkg;
+
+ALTER TABLE quiz_progress RENAME TO quiz_progress_unpartitioned;
+ALTER TABLE quiz_progress_unpartitioned DROP CONSTRAINT IF EXISTS quiz_progress_pkey;
+ALTER TABLE quiz_progress_unpartitioned DROP CONSTRAINT IF EXISTS uk_quiz_progress_user_quiz;
+
+CREATE TABLE quiz_progress (
+    id                  uuid NOT NULL,
+    user_id             bigint NOT NULL,
+    quiz_id             uuid NOT NULL,
+    current_question_id uuid,
+    score               integer NOT NULL,
+    total_questions     integer NOT NULL,
+    wrong_answers       integer NOT NULL,
+    completed           boolean NOT NULL,
+    created_at          timestamp(6) NOT NULL,
+    updated_at          timestamp(6),
+    created_by          varchar(255),
+    updated_by          varchar(255),
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT fkoa728iwj2wcfi226cfiwiid2r FOREIGN KEY (user_id) REFERENCES app_user,
+    CONSTRAINT fk9f7ju88y7xqvqk9fb360ascnr FOREIGN KEY (quiz_id) REFERENCES quiz
+) PARTITION BY RANGE (created_at);
+
+-- Creates the monthly partitions from the given month up to the given number of months past the current one.
+-- Concurrent callers are serialized so each partition is created once.
+CREATE OR REPLACE FUNCTION create_quiz_progress_partitions(from_month timestamp, months_ahead integer)
+    RETURNS integer
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    month     timestamp := date_trunc('month', from_month);
+    last      timestamp := date_trunc('month', localtimestamp) + make_interval(months => months_ahead);
+    partition text;
+    created   integer   := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('quiz_progress_partitions'));
+    WHILE month <= last LOOP
+        partition := 'quiz_progress_' || to_char(month, 'YYYY_MM');
+        IF to_regclass(partition) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF quiz_progress FOR VALUES FROM (%L) TO (%L)',
+                           partition, month, month + interval '1 month');
+            created := created + 1;
+        END IF;
+        month := month + interval '1 month';
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+-- Drops monthly partitions that ended before the given time and hold no attempts any more.
+-- A partition that cannot be locked within a second is left for the next call.
+CREATE OR REPLACE FUNCTION drop_empty_quiz_progress_partitions(ended_before timestamp)
+    RETURNS integer
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition text;
+    is_empty  boolean;
+    dropped   integer := 0;
+BEGIN
+    PERFORM set_config('lock_timeout', '1s', true);
+    FOR partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'quiz_progress'::regclass
+          AND c.relname ~ '^quiz_progress_[0-9]{4}_[0-9]{2}$'
+          AND to_timestamp(substring(c.relname FROM 15), 'YYYY_MM')::timestamp + interval '1 month' <= ended_before
+        LOOP
+            BEGIN
+                EXECUTE format('SELECT NOT EXISTS (SELECT 1 FROM %I)', partition) INTO is_empty;
+                IF is_empty THEN
+                    EXECUTE format('DROP TABLE %I', partition);
+                    dropped := dropped + 1;
+                END IF;
+            EXCEPTION
+                WHEN lock_not_available THEN
+                    RAISE NOTICE 'Skipped dropping partition %: lock not available', partition;
+            END;
+        END LOOP;
+    RETURN dropped;
+END
+$$;
+
+SELECT create_quiz_progress_partitions(
+               (SELECT COALESCE(min(COALESCE(created_at, updated_at)), localtimestamp) FROM quiz_progress_unpartitioned), 3);
+
+INSERT INTO quiz_progress (id, user_id, quiz_id, current_question_id, score, total_questions, wrong_answers, completed,
+                           created_at, updated_at, created_by, updated_by)
+SELECT id, user_id, quiz_id, current_question_id, score, total_questions, wrong_answers, completed,
+       COALESCE(created_at, updated_at, localtimestamp), updated_at, created_by, updated_by
+FROM quiz_progress_unpartitioned;
+
+DROP TABLE quiz_progress_unpartitioned;
+
+-- Backs the attempt lookups by user and quiz, and the purge of a quiz's attempts, on every partition.
+-- Not unique: attempts are created under an advisory lock on the user and quiz instead.
+CREATE INDEX IF NOT EXISTS idx_quiz_progress_quiz_user ON quiz_progress (quiz_id, user_id);
+
+-- Finished attempts moved out of quiz_progress. Rows are only ever inserted; quiz type and level are
+-- copied so the rows stay meaningful after their quiz is purged. Fixed-width columns come first so
+-- rows carry no alignment padding.
+CREATE TABLE IF NOT EXISTS quiz_progress_archive (
+    id              uuid NOT NULL,
+    quiz_id         uuid NOT NULL,
+    user_id         bigint NOT NULL,
+    started_at      timestamp(6) NOT NULL,
+    finished_at     timestamp(6),
+    score           integer NOT NULL,
+    wrong_answers   integer NOT NULL,
+    total_questions integer NOT NULL,
+    quiz_type       varchar(255),
+    quiz_level      varchar(255),
+    PRIMARY KEY (id)
+) WITH (fillfactor = 100);
+
+-- Backs the archived attempt lookups by user and quiz
+CREATE UNIQUE INDEX IF NOT EXISTS uk_quiz_progress_archive_user_quiz ON quiz_progress_archive (user_id, quiz_id);
@@ -0,0 +1,7 @@
+-- Access tokens are verified without loading the user; revoking a user's tokens records a cut-off instead.
+-- Tokens issued at or before tokens_revoked_at are rejected.
+
+ALTER TABLE app_user ADD COLUMN IF NOT EXISTS tokens_revoked_at timestamp(6);
+
+-- Backs the periodic reload of recent revocations; only users who have ever revoked their tokens are indexed
+CREATE INDEX IF NOT EXISTS idx_app_user_tokens_revoked ON app_user (tokens_revoked_at) WHERE tokens_revoked_at IS NOT NULL;
@@ -0,0 +1,23 @@
+-- Rotating refresh tokens. Only the SHA-256 digest of a token is stored; the token itself is shown once.
+-- All tokens rotated from the same login share a session_id, which access tokens carry as their "sid" claim.
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id         uuid NOT NULL,
+    session_id uuid NOT NULL,
+    user_id    bigint NOT NULL,
+    token_hash varchar(64) NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    used_at    timestamp(6),
+    revoked_at timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES app_user (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_session ON refresh_token (session_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user ON refresh_token (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires ON refresh_token (expires_at);
+
+-- Backs the periodic reload of revoked sessions; revoked rows leave it when they expire and are deleted
+CREATE INDEX IF NOT EXISTS idx_refresh_token_revoked ON refresh_token (revoked_at) WHERE revoked_at IS NOT NULL;
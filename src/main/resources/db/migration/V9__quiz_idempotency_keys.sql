@@ -0,0 +1,19 @@
+-- Idempotency keys of quiz creation requests. A retried request with the same key returns the quiz
+-- created by the first one. Keys are stored as SHA-256 digests, scoped per user, and expire after
+-- quiz.idempotency.ttl; deleting a quiz removes its key.
+
+CREATE TABLE IF NOT EXISTS quiz_idempotency_key (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY,
+    user_id    bigint NOT NULL,
+    key_hash   varchar(64) NOT NULL,
+    quiz_id    uuid NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_quiz_idempotency_key_user_hash UNIQUE (user_id, key_hash),
+    CONSTRAINT fk_quiz_idempotency_key_user FOREIGN KEY (user_id) REFERENCES app_user (id),
+    CONSTRAINT fk_quiz_idempotency_key_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_quiz_idempotency_key_quiz ON quiz_idempotency_key (quiz_id);
+CREATE INDEX IF NOT EXISTS idx_quiz_idempotency_key_expires ON quiz_idempotency_key (expires_at);
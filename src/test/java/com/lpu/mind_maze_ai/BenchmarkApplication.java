@@ -0,0 +1,66 @@
+package com.lpu.mind_maze_ai;
+
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import com.lpu.mind_maze_ai.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * Starts the application inside JMH benchmarks that measure a path end to end.
+ * Benchmarks use the datasource from application.yaml, like the integration tests,
+ * and each trial creates its own user so runs never share rows.
+ */
+public final class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Starts the application with logging quieted so benchmark output stays readable.
+     *
+     * @param properties Additional properties as key=value pairs
+     * @return The running application context
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        // Passed as arguments because default properties would lose to application.yaml
+        Stream<String> defaults = Stream.of("server.port=0", "logging.level.root=WARN", "logging.level.org.springframework=WARN",
+                "logging.level.org.hibernate=WARN", "logging.level.com.lpu.mind_maze_ai=WARN",
+                "spring.jpa.properties.hibernate.generate_statistics=false");
+        return new SpringApplicationBuilder(MindMazeAiApplication.class)
+                .run(Stream.concat(defaults, Stream.of(properties)).map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /**
+     * Registers a fresh user.
+     *
+     * @param context Running application context
+     * @param prefix Prefix of the generated username
+     * @return The persisted user
+     */
+    public static CustomUserDetails createUser(ApplicationContext context, String prefix) {
+        String username = prefix + System.nanoTime();
+        Long userId = context.getBean(UserService.class)
+                .registerUser(username, "password", "Bench", username + "@mindmaze.test", "ROLE_USER").getId();
+        return context.getBean(UserRepository.class).findById(userId).orElseThrow();
+    }
+
+    /**
+     * Creates a playable quiz with four options per question.
+     *
+     * @param context Running application context
+     * @param user Owner of the quiz
+     * @param questions Number of questions
+     * @return The persisted quiz
+     */
+    public static Quiz createQuiz(ApplicationContext context, CustomUserDetails user, int questions) {
+        Quiz quiz = context.getBean(QuizRepository.class).save(QuizFixtures.quiz(user, questions));
+        context.getBean(QuizQuestionRepo.class).saveAll(QuizFixtures.questions(quiz, questions));
+        return quiz;
+    }
+}
@@ -0,0 +1,54 @@
+package com.lpu.mind_maze_ai;
+
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizQuestion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unsaved quizzes and questions shared by the integration tests and benchmarks.
+ * Every question has the four options a, b, c and d, with a being correct.
+ */
+public final class QuizFixtures {
+    private QuizFixtures() {
+    }
+
+    /**
+     * Creates a generated MATH/EASY quiz.
+     *
+     * @param user Owner of the quiz
+     * @param questions Number of questions the quiz declares
+     * @return The unsaved quiz
+     */
+    public static Quiz quiz(CustomUserDetails user, int questions) {
+        Quiz quiz = new Quiz();
+        quiz.setUser(user);
+        quiz.setQuizType("MATH");
+        quiz.setQuizLevel("EASY");
+        quiz.setNumberOfQuestions(questions);
+        quiz.setCreationStatus("SUCCESS");
+        return quiz;
+    }
+
+    /**
+     * Creates questions with four options each.
+     *
+     * @param quiz Quiz the questions belong to
+     * @param count Number of questions
+     * @return The unsaved questions, numbered from 0
+     */
+    public static List<QuizQuestion> questions(Quiz quiz, int count) {
+        List<QuizQuestion> questions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            QuizQuestion question = new QuizQuestion();
+            question.setQuiz(quiz);
+            question.setQuestion("Question " + i);
+            question.setAnsOptions(List.of("a", "b", "c", "d"));
+            question.setCorrectAnswer("a");
+            questions.add(question);
+        }
+        return questions;
+    }
+}
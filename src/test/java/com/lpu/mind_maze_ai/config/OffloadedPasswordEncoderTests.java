@@ -0,0 +1,77 @@
+package com.lpu.mind_maze_ai.config;
+
+import com.lpu.mind_maze_ai.exception.ServerBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OffloadedPasswordEncoder and the encoder built by PasswordHashingConfig.
+ * Verifies hash upgrades and that hashing requests are shed once the executor is saturated.
+ */
+class OffloadedPasswordEncoderTests {
+
+    @Test
+    void legacyAndWeakerHashesMatchAndAreUpgraded() {
+        try (OffloadedPasswordEncoder encoder = new PasswordHashingConfig()
+                .passwordEncoder(1, 4, 5_000, 5, new SimpleMeterRegistry())) {
+            String legacy = new BCryptPasswordEncoder(4).encode("secret");
+            assertTrue(encoder.matches("secret", legacy));
+            assertFalse(encoder.matches("wrong", legacy));
+            assertTrue(encoder.upgradeEncoding(legacy));
+
+            String current = encoder.encode("secret");
+            assertTrue(current.startsWith("{bcrypt}$2a$05$"));
+            assertTrue(encoder.matches("secret", current));
+            assertFalse(encoder.upgradeEncoding(current));
+            assertTrue(encoder.upgradeEncoding("{bcrypt}" + legacy));
+        }
+    }
+
+    @Test
+    void saturatedExecutorShedsRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        Counter rejected = new SimpleMeterRegistry().counter("password.hashing.rejected");
+        try (OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(blocking, executor, 5_000, rejected)) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            while (executor.getQueue().isEmpty()) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(ServerBusyException.class, () -> encoder.encode("c"));
+            assertEquals(1.0, rejected.count());
+
+            release.countDown();
+            assertEquals("a", running.get(5, TimeUnit.SECONDS));
+            assertEquals("b", queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
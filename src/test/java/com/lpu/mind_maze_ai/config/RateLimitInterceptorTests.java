@@ -0,0 +1,61 @@
+package com.lpu.mind_maze_ai.config;
+
+import com.lpu.mind_maze_ai.service.UserService;
+import com.lpu.mind_maze_ai.util.JwtUtil;
+import com.lpu.mind_maze_ai.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for RateLimitInterceptor.
+ * Verifies that every authenticated request reports what is left of its user's bucket,
+ * and that requests are rejected with Retry-After and counted once the bucket is empty.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RateLimitInterceptorTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TokenBucketRateLimiter<Long> userRateLimiter;
+
+    @Test
+    void exhaustedBucketRejectsWithRetryAfter() throws Exception {
+        String username = "limited" + System.nanoTime();
+        Long userId = userService.registerUser(username, "password", "Limited", username + "@mindmaze.test", "ROLE_USER").getId();
+        String token = "Bearer " + jwtUtil.generateToken(username, userId, "Limited", List.of("ROLE_USER"));
+
+        mockMvc.perform(get("/api/v1/quiz").param("userId", userId.toString()).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", String.valueOf(userRateLimiter.capacity())))
+                .andExpect(header().string("RateLimit-Remaining", String.valueOf(userRateLimiter.capacity() - 1)))
+                .andExpect(header().exists("RateLimit-Reset"));
+
+        while (userRateLimiter.tryAcquire(userId, 1).allowed()) {
+            // Drain the bucket
+        }
+        double rejected = meterRegistry.counter("rate.limit.rejected", "method", "GET", "uri", "/api/v1/quiz").count();
+        mockMvc.perform(get("/api/v1/quiz").param("userId", userId.toString()).header("Authorization", token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+        assertEquals(rejected + 1, meterRegistry.counter("rate.limit.rejected", "method", "GET", "uri", "/api/v1/quiz").count());
+    }
+}
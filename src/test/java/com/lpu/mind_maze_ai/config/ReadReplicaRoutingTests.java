@@ -0,0 +1,113 @@
+package com.lpu.mind_maze_ai.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for read/write routing, using a second database on the local server as the replica.
+ * The replica database holds no schema; only the connection's database name is inspected.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.replica.url=jdbc:postgresql://localhost:5432/" + ReadReplicaRoutingTests.REPLICA_DATABASE,
+        "spring.datasource.replica.max-lag=1000"
+})
+class ReadReplicaRoutingTests {
+    static final String REPLICA_DATABASE = "mindmaze_replica";
+    private static final String PRIMARY_URL = "jdbc:postgresql://localhost:5432/MINDMAZE";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeAll
+    static void createReplicaDatabase() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(PRIMARY_URL, "mind_maze", "pass");
+             Statement statement = connection.createStatement()) {
+            try (ResultSet exists = statement.executeQuery("SELECT 1 FROM pg_database WHERE datname = '" + REPLICA_DATABASE + "'")) {
+                if (exists.next()) {
+                    return;
+                }
+            }
+            statement.execute("CREATE DATABASE " + REPLICA_DATABASE);
+        }
+    }
+
+    @AfterEach
+    void restoreReplica() {
+        lagMonitor.update(0, true);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals(REPLICA_DATABASE, currentDatabase(true));
+        assertEquals("MINDMAZE", currentDatabase(false));
+    }
+
+    @Test
+    void staleOrUnreachableReplicaFallsBackToPrimary() {
+        lagMonitor.update(5000, true);
+        assertEquals("MINDMAZE", currentDatabase(true));
+
+        lagMonitor.update(Double.NaN, false);
+        assertEquals("MINDMAZE", currentDatabase(true));
+
+        lagMonitor.checkLag();
+        assertEquals(REPLICA_DATABASE, currentDatabase(true));
+    }
+
+    @Test
+    void replicaIsNotTrustedOnceChecksStop() throws InterruptedException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, 1000, 20, new SimpleMeterRegistry());
+        monitor.update(0, true);
+        assertTrue(monitor.isReplicaUsable());
+
+        Thread.sleep(100);
+        assertFalse(monitor.isReplicaUsable());
+        monitor.checkLag();
+        assertTrue(monitor.isReplicaUsable());
+    }
+
+    @Test
+    void poolsPublishSeparateMetrics() {
+        currentDatabase(true);
+        currentDatabase(false);
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge());
+        assertNotNull(meterRegistry.find("db.replica.lag").gauge());
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+}
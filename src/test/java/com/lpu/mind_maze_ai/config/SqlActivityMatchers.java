@@ -0,0 +1,41 @@
+package com.lpu.mind_maze_ai.config;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * MockMvc matchers over the SQL activity recorded by {@link SqlActivityFilter}.
+ * Only the request's own thread is counted, so asynchronous listeners cannot skew the numbers.
+ */
+public final class SqlActivityMatchers {
+
+    private SqlActivityMatchers() {
+    }
+
+    /**
+     * Expects a request to prepare exactly the given number of JDBC statements.
+     * An increase usually means a new N+1 query or a lost fetch plan; a decrease means
+     * the expectation should be lowered so later regressions are caught.
+     *
+     * @param expected Expected number of statements
+     * @return Matcher failing on any other count
+     */
+    public static ResultMatcher statements(int expected) {
+        return result -> {
+            String request = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+            SqlActivity.Snapshot activity = (SqlActivity.Snapshot) result.getRequest().getAttribute(SqlActivityFilter.ACTIVITY_ATTRIBUTE);
+            assertNotNull(activity, () -> "No SQL activity recorded for " + request);
+            long actual = activity.statements();
+            if (actual > expected) {
+                fail(String.format("%s issued %d SQL statements, %d more than the budget of %d; check for N+1 queries",
+                        request, actual, actual - expected, expected));
+            }
+            if (actual < expected) {
+                fail(String.format("%s issued %d SQL statements, fewer than the budget of %d; lower the budget to %d",
+                        request, actual, expected, actual));
+            }
+        };
+    }
+}
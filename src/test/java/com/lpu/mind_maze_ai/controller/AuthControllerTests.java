@@ -0,0 +1,95 @@
+package com.lpu.mind_maze_ai.controller;
+
+import com.lpu.mind_maze_ai.service.UserService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for AuthController.
+ * Verifies that logins upgrade legacy password hashes, and that refresh tokens rotate
+ * and replaying a used one revokes its whole session.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private String login;
+
+    @BeforeEach
+    void setUp() {
+        String username = "auth" + System.nanoTime();
+        userId = userService.registerUser(username, "password", "Auth", username + "@mindmaze.test", "ROLE_USER").getId();
+        login = "{\"username\":\"" + username + "\",\"password\":\"password\"}";
+    }
+
+    @Test
+    void loginUpgradesLegacyPasswordHashes() throws Exception {
+        // Hashes stored before the delegating encoder carry no {bcrypt} prefix
+        jdbcTemplate.update("UPDATE app_user SET password = ? WHERE id = ?", new BCryptPasswordEncoder(4).encode("password"), userId);
+
+        login().andExpect(status().isOk());
+        String upgraded = password();
+        assertTrue(upgraded.startsWith("{bcrypt}$2a$10$"));
+
+        // The upgraded hash verifies and is kept
+        login().andExpect(status().isOk());
+        assertEquals(upgraded, password());
+    }
+
+    @Test
+    void refreshTokensRotateAndReplayRevokesTheSession() throws Exception {
+        String otherSession = JsonPath.read(login().andReturn().getResponse().getContentAsString(), "$.token");
+        String firstRefresh = JsonPath.read(login().andReturn().getResponse().getContentAsString(), "$.refreshToken");
+
+        String refreshed = refresh(firstRefresh).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(refreshed, "$.token");
+        String secondRefresh = JsonPath.read(refreshed, "$.refreshToken");
+        assertNotEquals(firstRefresh, secondRefresh);
+        listQuizzes(accessToken).andExpect(status().isOk());
+
+        // Replaying the used token revokes the session: its newer refresh token and access tokens stop working
+        refresh(firstRefresh).andExpect(status().isUnauthorized());
+        refresh(secondRefresh).andExpect(status().isUnauthorized());
+        listQuizzes(accessToken).andExpect(status().isForbidden());
+        // Other sessions of the user are unaffected
+        listQuizzes(otherSession).andExpect(status().isOk());
+    }
+
+    private ResultActions login() throws Exception {
+        return mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON).content(login));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/v1/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    private ResultActions listQuizzes(String accessToken) throws Exception {
+        return mockMvc.perform(get("/api/v1/quiz").param("userId", userId.toString()).header("Authorization", "Bearer " + accessToken));
+    }
+
+    private String password() {
+        return jdbcTemplate.queryForObject("SELECT password FROM app_user WHERE id = ?", String.class, userId);
+    }
+}
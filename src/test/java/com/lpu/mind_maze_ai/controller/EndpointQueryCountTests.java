@@ -0,0 +1,260 @@
+package com.lpu.mind_maze_ai.controller;
+
+import com.lpu.mind_maze_ai.QuizFixtures;
+import com.lpu.mind_maze_ai.config.SqlActivityMatchers;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizProgress;
+import com.lpu.mind_maze_ai.entity.QuizQuestion;
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import com.lpu.mind_maze_ai.service.UserService;
+import com.lpu.mind_maze_ai.util.JwtUtil;
+import com.lpu.mind_maze_ai.util.TokenBucketRateLimiter;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests pinning the number of SQL statements each endpoint issues,
+ * that a 50-question quiz loads with its options in one statement,
+ * and that bulk question and progress inserts are sent as JDBC batches.
+ * A changed count means the fetch plan changed; update the expectation only after reviewing the new SQL.
+ * What the endpoints do is covered by the tests of the respective feature.
+ *
+ * Request counts come from the SQL activity filter, so only statements on the request thread are counted.
+ * Requests are authenticated statelessly from the token claims, so no count includes a user lookup.
+ * Quiz content is served by the second-level cache once loaded, so counts depend on the request order.
+ * Each test user owns two quizzes so the listing can be paged with a cursor.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class EndpointQueryCountTests {
+    private static final int QUESTIONS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepo questionRepo;
+    @Autowired
+    private QuizProgressRepository progressRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TokenBucketRateLimiter<Long> userRateLimiter;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private CustomUserDetails user;
+    private String quizId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String username = "count" + System.nanoTime();
+        Long userId = userService.registerUser(username, "password", "Count", username + "@mindmaze.test", "ROLE_USER").getId();
+        user = userRepository.findById(userId).orElseThrow();
+        token = "Bearer " + jwtUtil.generateToken(username, userId, "Count", List.of("ROLE_USER"));
+
+        newQuiz();
+        Quiz quiz = newQuiz();
+        questionRepo.saveAll(QuizFixtures.questions(quiz, QUESTIONS));
+        quizId = quiz.getId().toString();
+    }
+
+    @Test
+    void quizReadEndpoints() throws Exception {
+        MvcResult firstPage = assertStatements(2, get("/api/v1/quiz").param("userId", userId()).param("size", "1"));
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+        MvcResult secondPage = assertStatements(2, get("/api/v1/quiz").param("userId", userId()).param("cursor", cursor)
+                .param("quizType", "MATH").param("creationStatus", "SUCCESS"));
+        String secondPageBody = secondPage.getResponse().getContentAsString();
+        assertEquals(1, (int) JsonPath.read(secondPageBody, "$.quizzes.length()"));
+        assertNull(JsonPath.read(secondPageBody, "$.nextCursor"));
+        assertStatements(2, get("/api/v1/quiz/" + quizId).param("userId", userId()));
+        // The generation queue is held in memory
+        MvcResult queue = assertStatements(0, get("/api/v1/quiz/queue").param("userId", userId()));
+        assertEquals(0, (int) JsonPath.read(queue.getResponse().getContentAsString(), "$.queued"));
+    }
+
+    @Test
+    void questionEndpoints() throws Exception {
+        // The first request loads the quiz's questions into the second-level cache; later ones read them from memory
+        // A new attempt also takes the attempt lock, looks for a concurrent attempt and checks the archive
+        MvcResult first = assertStatements(8, get("/api/v1/question/random").param("quizId", quizId).param("userId", userId()));
+        String questionId = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+
+        assertStatements(4, post("/api/v1/question/saveProgress").param("quizId", quizId).param("userId", userId())
+                .param("questionId", questionId).param("selectedOption", "a").param("prefetchNext", "true"));
+        assertStatements(3, get("/api/v1/question/random").param("quizId", quizId).param("userId", userId()));
+        assertStatements(1, get("/api/v1/question/resume").param("quizId", quizId).param("userId", userId()));
+        assertStatements(1, get("/api/v1/question/score").param("quizId", quizId).param("userId", userId()));
+        assertStatements(1, get("/api/v1/question/result").param("quizId", quizId).param("userId", userId()));
+        assertStatements(0, get("/api/v1/question/sheet").param("quizId", quizId).param("userId", userId()));
+
+        DistributionSummary requestStatements = meterRegistry.find("db.request.statements")
+                .tags("method", "GET", "uri", "/api/v1/question/random").summary();
+        assertNotNull(requestStatements);
+        assertTrue(requestStatements.max() >= 8);
+        assertTrue(meterRegistry.find("db.request.entities").tags("method", "GET", "uri", "/api/v1/question/random")
+                .summary().totalAmount() > 0);
+        assertNotNull(meterRegistry.find("db.service.statements")
+                .tags("class", "QuizProgressServiceImpl", "method", "saveProgress").summary());
+    }
+
+    @Test
+    void quizDeletionIsOneUpdate() throws Exception {
+        assertStatements(8, get("/api/v1/question/random").param("quizId", quizId).param("userId", userId()));
+        // The quiz comes from the cache, so deletion is the single flag UPDATE
+        assertStatements(1, delete("/api/v1/quiz").param("quizId", quizId).param("userId", userId()));
+    }
+
+    @Test
+    void archivedAttemptScore() throws Exception {
+        jdbcTemplate.update("INSERT INTO quiz_progress_archive (id, quiz_id, user_id, started_at, finished_at, score, " +
+                        "wrong_answers, total_questions, quiz_type, quiz_level) VALUES (?, ?, ?, now(), now(), 3, 2, ?, 'MATH', 'EASY')",
+                UUID.randomUUID(), UUID.fromString(quizId), user.getId(), QUESTIONS);
+        // The live attempt is looked up first, then the archive
+        assertStatements(2, get("/api/v1/question/score").param("quizId", quizId).param("userId", userId()));
+    }
+
+    @Test
+    void quizCreationWithIdempotencyKey() throws Exception {
+        // The key is checked for the rate limit and looked up, then the user is loaded, the quiz inserted and the key claimed
+        mockMvc.perform(post("/api/v1/quiz/create").param("userId", userId()).header("Authorization", token)
+                        .header("Idempotency-Key", UUID.randomUUID().toString()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quizType\":\"MATH\",\"quizLevel\":\"EASY\",\"numberOfQuestions\":" + QUESTIONS + "}"))
+                .andExpect(status().isOk())
+                .andExpect(SqlActivityMatchers.statements(5));
+    }
+
+    @Test
+    void loginAndRefresh() throws Exception {
+        // Loading the user and storing the refresh token
+        MvcResult login = mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + user.getUsername() + "\",\"password\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andExpect(SqlActivityMatchers.statements(2))
+                .andReturn();
+        String refreshToken = JsonPath.read(login.getResponse().getContentAsString(), "$.refreshToken");
+
+        // Locking the token, loading the user, storing the next token and marking the old one used
+        mockMvc.perform(post("/api/v1/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(SqlActivityMatchers.statements(4));
+    }
+
+    @Test
+    void logoutRevokesIssuedTokensWithoutLookups() throws Exception {
+        // Logging out is the cut-off UPDATE and the refresh token revocation; afterwards the token is rejected from memory
+        mockMvc.perform(post("/api/v1/auth/logout").header("Authorization", token))
+                .andExpect(status().isNoContent())
+                .andExpect(SqlActivityMatchers.statements(2));
+        mockMvc.perform(get("/api/v1/question/score").param("quizId", quizId).param("userId", userId()).header("Authorization", token))
+                .andExpect(status().isForbidden())
+                .andExpect(SqlActivityMatchers.statements(0));
+    }
+
+    @Test
+    void rateLimitedRequestIssuesNoStatements() throws Exception {
+        while (userRateLimiter.tryAcquire(user.getId(), 1).allowed()) {
+            // Drain the bucket
+        }
+        mockMvc.perform(get("/api/v1/question/score").param("quizId", quizId).param("userId", userId()).header("Authorization", token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(SqlActivityMatchers.statements(0));
+    }
+
+    @Test
+    void questionAndProgressInsertsAreBatched() {
+        Quiz quiz = newQuiz();
+        List<QuizQuestion> questions = QuizFixtures.questions(quiz, 120);
+        statistics.clear();
+        questionRepo.saveAll(questions);
+        // Without batching every row prepares its own statement; batched rows share one
+        assertEquals(1, statistics.getPrepareStatementCount(), "120 question inserts should share one batched statement");
+
+        QuizProgress progress = new QuizProgress();
+        progress.setUser(user);
+        progress.setQuiz(quiz);
+        progress.setTotalQuestions(questions.size());
+        progress.setAskedQuestionIds(new HashSet<>(questions.stream().map(QuizQuestion::getId).toList()));
+        statistics.clear();
+        progressRepository.save(progress);
+        assertEquals(2, statistics.getPrepareStatementCount(), "Asked question inserts should share one batched statement");
+    }
+
+    @Test
+    void fiftyQuestionQuizLoadsWithOneStatement() {
+        Quiz quiz = newQuiz();
+        questionRepo.saveAll(QuizFixtures.questions(quiz, 50));
+        entityManagerFactory.getCache().evictAll();
+
+        statistics.clear();
+        int options = transactionTemplate.execute(tx -> questionRepo.findAllByQuizId(quiz.getId()).stream()
+                .mapToInt(question -> question.getAnsOptions().size())
+                .sum());
+        assertEquals(200, options);
+        // Options are inline, so reading them issues no statement per question
+        assertEquals(1, statistics.getPrepareStatementCount(), "50 questions with their options should load with one statement");
+    }
+
+    private Quiz newQuiz() {
+        return quizRepository.save(QuizFixtures.quiz(user, QUESTIONS));
+    }
+
+    private String userId() {
+        return user.getId().toString();
+    }
+
+    private MvcResult assertStatements(int expected, MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header("Authorization", token))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(SqlActivityMatchers.statements(expected))
+                .andReturn();
+    }
+}
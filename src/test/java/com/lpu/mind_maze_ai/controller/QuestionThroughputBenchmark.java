@@ -0,0 +1,101 @@
+package com.lpu.mind_maze_ai.controller;
+
+import com.lpu.mind_maze_ai.BenchmarkApplication;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of authenticated /question reads over HTTP, through the full filter chain.
+ * Compares stateless authentication from the token claims with loading the user on every request,
+ * the behaviour before stateless mode. Rate limiting is off so every request reaches the endpoint.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=QuestionThroughputBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionThroughputBenchmark {
+    private static final int QUESTIONS = 5;
+
+    @Param({"true", "false"})
+    public boolean stateless;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest score;
+    private HttpRequest resume;
+
+    @Setup
+    public void start() throws IOException, InterruptedException {
+        context = BenchmarkApplication.start("jwt.stateless=" + stateless, "quiz.rate-limit.enabled=false");
+        CustomUserDetails user = BenchmarkApplication.createUser(context, "throughput");
+        Quiz quiz = BenchmarkApplication.createQuiz(context, user, QUESTIONS);
+        String token = "Bearer " + context.getBean(JwtUtil.class)
+                .generateToken(user.getUsername(), user.getId(), "Bench", List.of("ROLE_USER"));
+        String query = "?quizId=" + quiz.getId() + "&userId=" + user.getId();
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/question/";
+        client = HttpClient.newHttpClient();
+        score = get(base + "score" + query, token);
+        resume = get(base + "resume" + query, token);
+
+        // Starts the attempt the measured endpoints read
+        send(get(base + "random" + query, token));
+        send(score);
+        send(resume);
+    }
+
+    @TearDown
+    public void stop() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int score() throws IOException, InterruptedException {
+        return send(score);
+    }
+
+    @Benchmark
+    public int resume() throws IOException, InterruptedException {
+        return send(resume);
+    }
+
+    private static HttpRequest get(String uri, String token) {
+        return HttpRequest.newBuilder(URI.create(uri)).header("Authorization", token).GET().build();
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri().getPath() + " answered " + response.statusCode() + ": " + response.body());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,89 @@
+package com.lpu.mind_maze_ai.controller;
+
+import com.lpu.mind_maze_ai.service.UserService;
+import com.lpu.mind_maze_ai.util.JwtUtil;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for QuizController.
+ * Verifies that retried creation requests carrying an Idempotency-Key return the first quiz
+ * at the default rate limit cost, and that the key moves on once its quiz is deleted.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QuizControllerTests {
+    private static final String BODY = "{\"quizType\":\"MATH\",\"quizLevel\":\"EASY\",\"numberOfQuestions\":5}";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repeatedCreationWithIdempotencyKeyReturnsTheFirstQuiz() throws Exception {
+        String username = "idempotent" + System.nanoTime();
+        Long userId = userService.registerUser(username, "password", "Idempotent", username + "@mindmaze.test", "ROLE_USER").getId();
+        String token = "Bearer " + jwtUtil.generateToken(username, userId, "Idempotent", List.of("ROLE_USER"));
+        String key = UUID.randomUUID().toString();
+        double duplicates = meterRegistry.get("quiz.idempotency.duplicates").tag("stage", "lookup").counter().count();
+
+        MvcResult created = create(userId, token, key, BODY).andExpect(status().isOk()).andReturn();
+        String createdId = JsonPath.read(created.getResponse().getContentAsString(), "$.quizId");
+        long remaining = remaining(created);
+
+        // A retry returns the first quiz without creating or queueing another; it does no generation work,
+        // so it is charged the default cost instead of the cost of a creation
+        MvcResult retried = create(userId, token, key, BODY).andExpect(status().isOk()).andReturn();
+        assertEquals(createdId, JsonPath.read(retried.getResponse().getContentAsString(), "$.quizId"));
+        assertEquals(duplicates + 1, meterRegistry.get("quiz.idempotency.duplicates").tag("stage", "lookup").counter().count());
+        assertTrue(remaining(retried) >= remaining - 1);
+
+        // Reusing the key for a different quiz is refused
+        create(userId, token, key, BODY.replace("EASY", "HARD")).andExpect(status().isConflict());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM quiz_idempotency_key WHERE user_id = ?", Integer.class, userId));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM quiz WHERE user_id = ?", Integer.class, userId));
+
+        // Once the quiz is deleted, a retry creates a new quiz at the full cost and the key moves to it
+        mockMvc.perform(delete("/api/v1/quiz").param("quizId", createdId).param("userId", userId.toString()).header("Authorization", token))
+                .andExpect(status().isOk());
+        MvcResult recreated = create(userId, token, key, BODY).andExpect(status().isOk()).andReturn();
+        String recreatedId = JsonPath.read(recreated.getResponse().getContentAsString(), "$.quizId");
+        assertNotEquals(createdId, recreatedId);
+        assertTrue(remaining(recreated) < remaining - 2);
+        assertEquals(recreatedId, jdbcTemplate.queryForObject("SELECT quiz_id FROM quiz_idempotency_key WHERE user_id = ?",
+                UUID.class, userId).toString());
+    }
+
+    private ResultActions create(Long userId, String token, String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/v1/quiz/create").param("userId", userId.toString()).header("Authorization", token)
+                .header("Idempotency-Key", key).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    private static long remaining(MvcResult result) {
+        return Long.parseLong(result.getResponse().getHeader("RateLimit-Remaining"));
+    }
+}
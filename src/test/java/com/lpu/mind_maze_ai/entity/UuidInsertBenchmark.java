@@ -0,0 +1,120 @@
+package com.lpu.mind_maze_ai.entity;
+
+import com.lpu.mind_maze_ai.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * JMH benchmark of batch-inserting rows keyed by random UUIDv4 versus time-ordered UUIDv7 values.
+ * Each iteration fills a fresh unlogged table with a uuid primary key, so only the key order differs,
+ * and prints the size of its primary key index before dropping it.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UuidInsertBenchmark
+ * Lower the row count for a quick run with -Dbenchmark="UuidInsertBenchmark -p rows=300000".
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final int COMMIT_EVERY = 100_000;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    @Param("3000000")
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private DataSource dataSource;
+    private Supplier<UUID> keys;
+    private String table;
+
+    @Setup
+    public void start() {
+        context = BenchmarkApplication.start();
+        dataSource = context.getBean(DataSource.class);
+        keys = "v7".equals(version) ? UuidV7Generator::next : UUID::randomUUID;
+        table = "bench_uuid_" + version;
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        execute("DROP TABLE IF EXISTS " + table);
+        execute("CREATE UNLOGGED TABLE " + table + " (id uuid PRIMARY KEY, created_at timestamp(6) NOT NULL)");
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIndexSize() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            size.next();
+            System.out.printf("%n%s primary key index: %d MB for %d rows%n", version, size.getLong(1) / (1024 * 1024), rows);
+        }
+        execute("DROP TABLE " + table);
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, created_at) VALUES (?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int row = 1; row <= rows; row++) {
+                insert.setObject(1, keys.get());
+                insert.setTimestamp(2, createdAt);
+                insert.addBatch();
+                if (row % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+                if (row % COMMIT_EVERY == 0) {
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+            connection.setAutoCommit(true);
+        }
+        return rows;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.lpu.mind_maze_ai.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UuidV7Generator.
+ * Verifies the RFC 9562 layout and that identifiers increase in the byte order Postgres sorts by.
+ */
+class UuidV7GeneratorTests {
+
+    @Test
+    void identifiersCarryVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after + 1, () -> "Unexpected timestamp " + timestamp);
+    }
+
+    @Test
+    void identifiersIncreaseWithinTheSameMillisecond() {
+        // Lowercase hex strings compare like the unsigned bytes Postgres orders uuid values by
+        String previous = UuidV7Generator.next().toString();
+        for (int i = 0; i < 100_000; i++) {
+            String last = previous;
+            String next = UuidV7Generator.next().toString();
+            assertTrue(next.compareTo(last) > 0, () -> next + " does not sort after " + last);
+            previous = next;
+        }
+    }
+}
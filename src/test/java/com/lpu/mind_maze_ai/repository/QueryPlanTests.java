@@ -0,0 +1,213 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizProgress;
+import com.lpu.mind_maze_ai.model.QuizCursor;
+import com.lpu.mind_maze_ai.service.UserService;
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests asserting that the per-request lookups are served by the indexes created in the migrations.
+ * Each check calls the repository method, records the SQL Hibernate generated for it and explains that
+ * statement with the same values bound, so the plan is the one the application gets.
+ * Sequential scans, bitmap scans and explicit sorts are disabled for each check, so a missing
+ * index shows up as a sequential scan even on the small test tables.
+ */
+@SpringBootTest
+class QueryPlanTests {
+    private static final UUID QUIZ_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepo questionRepo;
+    @Autowired
+    private QuizProgressRepository progressRepository;
+    @Autowired
+    private QuizProgressArchiveRepository archiveRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void progressLookupUsesPartitionIndexes() {
+        // Each monthly partition carries its own copy of idx_quiz_progress_quiz_user
+        assertUsesIndex("_quiz_id_user_id_idx", "quiz_progress",
+                () -> progressRepository.findAttemptByUserIdAndQuizId(1L, QUIZ_ID), 1L, QUIZ_ID);
+        // Both archive indexes lead with a column of the lookup; the planner picks either on the small test table
+        String archivePlan = explain("quiz_progress_archive", () -> archiveRepository.findScoreByUserIdAndQuizId(1L, QUIZ_ID), 1L, QUIZ_ID);
+        assertTrue(archivePlan.contains("uk_quiz_progress_archive_user_quiz") || archivePlan.contains("idx_quiz_progress_archive_quiz"),
+                () -> "Expected an archive index in plan:\n" + archivePlan);
+    }
+
+    @Test
+    void deletedQuizScoreLookupsUseQuizIndexes() {
+        assertUsesIndex("_quiz_id_user_id_idx", "quiz_progress",
+                () -> progressRepository.findScoreAggregatesByQuizId(QUIZ_ID), QUIZ_ID);
+        assertUsesIndex("idx_quiz_progress_archive_quiz", "quiz_progress_archive",
+                () -> archiveRepository.findScoreAggregatesByQuizId(QUIZ_ID), QUIZ_ID);
+    }
+
+    @Test
+    void archiveScanSkipsRecentPartitions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(31);
+        String currentPartition = "quiz_progress_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy_MM"));
+        String planText = explain("quiz_progress", () -> progressRepository.lockArchivableIds(cutoff, 500), cutoff, 500);
+        assertFalse(planText.contains(currentPartition), () -> "Expected " + currentPartition + " to be pruned from plan:\n" + planText);
+    }
+
+    @Test
+    void questionLookupUsesQuizIndex() {
+        assertUsesIndex("idx_quiz_question_quiz", "quiz_question", () -> questionRepo.findAllByQuizId(QUIZ_ID), QUIZ_ID);
+    }
+
+    @Test
+    void askedQuestionLookupUsesProgressIndex() {
+        // The collection is only read for an existing attempt, so create one
+        String username = "plan" + System.nanoTime();
+        Long userId = userService.registerUser(username, "password", "Plan", username + "@mindmaze.test", "ROLE_USER").getId();
+        CustomUserDetails user = userRepository.findById(userId).orElseThrow();
+        Quiz quiz = new Quiz();
+        quiz.setUser(user);
+        quiz.setQuizType("MATH");
+        quiz.setQuizLevel("EASY");
+        quiz.setNumberOfQuestions(1);
+        quiz.setCreationStatus("SUCCESS");
+        quizRepository.save(quiz);
+        QuizProgress progress = new QuizProgress();
+        progress.setUser(user);
+        progress.setQuiz(quiz);
+        progress.setTotalQuestions(1);
+        UUID progressId = progressRepository.save(progress).getId();
+
+        assertUsesIndex("idx_asked_question_ids_progress", "quiz_progress_asked_question_ids",
+                () -> Hibernate.initialize(progressRepository.findById(progressId).orElseThrow().getAskedQuestionIds()), progressId);
+    }
+
+    @Test
+    void userLookupsUseUniqueIndexes() {
+        assertUsesIndex("uk_app_user_username", "app_user", () -> userRepository.findByUsername("someone"), "someone");
+        assertUsesIndex("uk_app_user_email", "app_user",
+                () -> userRepository.findByEmail("someone@mindmaze.test"), "someone@mindmaze.test");
+    }
+
+    @Test
+    void quizListingUsesKeysetIndexes() {
+        assertUsesIndex("idx_quiz_user_created", "quiz",
+                () -> quizRepository.findPage(1L, null, null, null, null, 21), 1L, 21);
+        QuizCursor after = new QuizCursor(LocalDateTime.of(2030, 1, 1, 0, 0), QUIZ_ID);
+        assertUsesIndex("idx_quiz_user_type_level_created", "quiz",
+                () -> quizRepository.findPage(1L, "MATH", "EASY", null, after, 21),
+                1L, "MATH", "EASY", after.createdAt(), after.id(), 21);
+    }
+
+    @Test
+    void purgeScanUsesDeletedIndex() {
+        assertUsesIndex("idx_quiz_deleted", "quiz", () -> quizRepository.lockDeletedIds(100), 100);
+    }
+
+    private void assertUsesIndex(String indexName, String table, Runnable repositoryCall, Object... parameters) {
+        String planText = explain(table, repositoryCall, parameters);
+        assertTrue(planText.contains(indexName), () -> "Expected " + indexName + " in plan:\n" + planText);
+    }
+
+    /**
+     * Runs a repository call and explains the statement it issued against a table.
+     *
+     * @param table Table the statement reads from
+     * @param repositoryCall Call issuing the statement
+     * @param parameters Values to bind, in the order the statement takes them
+     * @return The plan of the generated statement
+     */
+    private String explain(String table, Runnable repositoryCall, Object... parameters) {
+        List<String> statements = statementRecorder.record(() -> transactionTemplate.executeWithoutResult(status -> repositoryCall.run()));
+        Pattern readsTable = Pattern.compile("(?i)\\bfrom " + table + "\\b");
+        String sql = statements.stream()
+                .filter(statement -> readsTable.matcher(statement).find())
+                .findFirst()
+                .orElse(null);
+        assertNotNull(sql, () -> "Expected a statement reading from " + table + " in " + statements);
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_sort = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters);
+        });
+        return sql + "\n" + String.join("\n", plan);
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the recording thread, ignoring background jobs.
+     */
+    static class StatementRecorder implements StatementInspector {
+        private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = recording.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        /**
+         * Runs an action and returns the statements it prepared.
+         *
+         * @param action Action to record
+         * @return Statements in the order they were prepared
+         */
+        List<String> record(Runnable action) {
+            List<String> statements = new ArrayList<>();
+            recording.set(statements);
+            try {
+                action.run();
+            } finally {
+                recording.remove();
+            }
+            return statements;
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorderCustomizer(StatementRecorder statementRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementRecorder);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.lpu.mind_maze_ai.repository;
+
+import com.lpu.mind_maze_ai.BenchmarkApplication;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of loading a 50-question quiz with its answer options from Postgres.
+ * The second-level cache is cleared before every call, so each load reaches the database.
+ * The statement count of the same load is pinned by EndpointQueryCountTests.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=QuizQuestionLoadBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizQuestionLoadBenchmark {
+    private static final int QUESTIONS = 50;
+
+    private ConfigurableApplicationContext context;
+    private QuizQuestionRepo questionRepo;
+    private TransactionTemplate transactionTemplate;
+    private EntityManagerFactory entityManagerFactory;
+    private UUID quizId;
+
+    @Setup
+    public void start() {
+        context = BenchmarkApplication.start();
+        questionRepo = context.getBean(QuizQuestionRepo.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        Quiz quiz = BenchmarkApplication.createQuiz(context, BenchmarkApplication.createUser(context, "load"), QUESTIONS);
+        quizId = quiz.getId();
+    }
+
+    @Setup(Level.Invocation)
+    public void evict() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int loadQuiz() {
+        return transactionTemplate.execute(tx -> questionRepo.findAllByQuizId(quizId).stream()
+                .mapToInt(question -> question.getAnsOptions().size())
+                .sum());
+    }
+}
@@ -0,0 +1,82 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.model.ImportFormat;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.web.response.dto.QuestionDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for LeaderboardService.
+ * Verifies that accepted answers are scored and that deleting a quiz takes its scores off the leaderboards.
+ */
+@SpringBootTest
+class LeaderboardServiceTests {
+    @Autowired
+    private LeaderboardService leaderboardService;
+    @Autowired
+    private QuizProgressService quizProgressService;
+    @Autowired
+    private QuestionImportService questionImportService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void deletedQuizLeavesTheLeaderboards() throws InterruptedException {
+        String username = "board" + System.nanoTime();
+        Long userId = userService.registerUser(username, "password", "Board", username + "@mindmaze.test", "ROLE_USER").getId();
+        Quiz kept = quiz(userId);
+        Quiz deleted = quiz(userId);
+        answerCorrectly(kept, userId);
+        answerCorrectly(deleted, userId);
+        assertEquals(2, leaderboardService.getRankByType(QuizType.MATH, userId).orElseThrow().getScore());
+        assertEquals(2, leaderboardService.getRankByLevel(QuizLevel.EASY, userId).orElseThrow().getScore());
+
+        // Scores are taken off asynchronously once the deletion has committed
+        quizService.deleteQuizByUser(deleted.getId().toString(), userId);
+        assertTrue(waitFor(() -> leaderboardService.getRankByType(QuizType.MATH, userId).orElseThrow().getScore() == 1));
+        assertEquals(1, leaderboardService.getRankByLevel(QuizLevel.EASY, userId).orElseThrow().getScore());
+
+        quizService.deleteQuizByUser(kept.getId().toString(), userId);
+        assertTrue(waitFor(() -> leaderboardService.getRankByType(QuizType.MATH, userId).isEmpty()));
+        assertTrue(leaderboardService.getRankByLevel(QuizLevel.EASY, userId).isEmpty());
+    }
+
+    private Quiz quiz(Long userId) {
+        String csv = """
+                question,options,answer
+                What is 1 + 1?,one;two,two
+                """;
+        return questionImportService.importQuiz(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                ImportFormat.CSV, QuizType.MATH, QuizLevel.EASY, userId);
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private void answerCorrectly(Quiz quiz, Long userId) {
+        String quizId = quiz.getId().toString();
+        QuestionDTO question = quizProgressService.getRandomQuestion(quizId, userId);
+        quizProgressService.saveProgress(quizId, userId, question.getId().toString(), "two", false);
+    }
+}
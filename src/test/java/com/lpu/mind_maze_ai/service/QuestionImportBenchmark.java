@@ -0,0 +1,115 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.BenchmarkApplication;
+import com.lpu.mind_maze_ai.QuizFixtures;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.model.ImportFormat;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of writing a question bank through COPY versus Hibernate inserts, with and without JDBC batching.
+ * Every operation writes one quiz of {@code questions} rows and rolls back, so the table does not grow between runs.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=QuestionImportBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionImportBenchmark {
+    @Param("10000")
+    public int questions;
+
+    private ConfigurableApplicationContext context;
+    private QuestionImportService importService;
+    private QuizRepository quizRepository;
+    private QuizQuestionRepo questionRepo;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private CustomUserDetails user;
+    private byte[] csv;
+
+    @Setup
+    public void start() {
+        context = BenchmarkApplication.start("quiz.import.max-questions=" + questions);
+        importService = context.getBean(QuestionImportService.class);
+        quizRepository = context.getBean(QuizRepository.class);
+        questionRepo = context.getBean(QuizQuestionRepo.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        user = BenchmarkApplication.createUser(context, "import");
+        StringBuilder bank = new StringBuilder("question,options,answer\n");
+        for (int i = 0; i < questions; i++) {
+            bank.append("Question ").append(i).append(",a;b;c;d,a\n");
+        }
+        csv = bank.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Quiz copyImport() {
+        return transactionTemplate.execute(tx -> {
+            tx.setRollbackOnly();
+            return importService.importQuiz(new ByteArrayInputStream(csv), ImportFormat.CSV, QuizType.MATH, QuizLevel.EASY, user.getId());
+        });
+    }
+
+    @Benchmark
+    public Quiz batchedInserts() {
+        return saveAll(null);
+    }
+
+    @Benchmark
+    public Quiz unbatchedInserts() {
+        return saveAll(1);
+    }
+
+    /**
+     * Saves the bank the way generated questions are saved.
+     *
+     * @param batchSize JDBC batch size for the session, or null for the configured one
+     * @return The quiz, rolled back
+     */
+    private Quiz saveAll(Integer batchSize) {
+        return transactionTemplate.execute(tx -> {
+            tx.setRollbackOnly();
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            Quiz quiz = quizRepository.save(QuizFixtures.quiz(user, questions));
+            questionRepo.saveAll(QuizFixtures.questions(quiz, questions));
+            entityManager.flush();
+            return quiz;
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizQuestion;
+import com.lpu.mind_maze_ai.exception.InvalidImportException;
+import com.lpu.mind_maze_ai.model.ImportFormat;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for QuestionImportService.
+ * Verifies both upload formats round-trip through COPY and that a bad row rolls the import back.
+ */
+@SpringBootTest
+class QuestionImportServiceTests {
+    @Autowired
+    private QuestionImportService questionImportService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepo questionRepo;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String username = "import" + System.nanoTime();
+        userId = userService.registerUser(username, "password", "Import", username + "@mindmaze.test", "ROLE_USER").getId();
+    }
+
+    @Test
+    void importsCsvWithQuotedFields() {
+        String csv = """
+                question,options,answer
+                "What is 2 + 2, in words?","four;five;\"\"six\"\"",four
+                Which is a {brace}?,{;};\\,{
+                """;
+        Quiz quiz = questionImportService.importQuiz(stream(csv), ImportFormat.CSV, QuizType.MATH, QuizLevel.EASY, userId);
+
+        assertEquals("SUCCESS", quiz.getCreationStatus());
+        assertEquals(2, quiz.getNumberOfQuestions());
+        List<QuizQuestion> questions = questions(quiz);
+        QuizQuestion first = questions.stream().filter(q -> q.getQuestion().startsWith("What")).findFirst().orElseThrow();
+        assertEquals("What is 2 + 2, in words?", first.getQuestion());
+        assertEquals(List.of("four", "five", "\"six\""), first.getAnsOptions());
+        QuizQuestion second = questions.stream().filter(q -> q.getQuestion().startsWith("Which")).findFirst().orElseThrow();
+        assertEquals(List.of("{", "}", "\\"), second.getAnsOptions());
+        assertEquals("{", second.getCorrectAnswer());
+    }
+
+    @Test
+    void importsNdjson() {
+        String ndjson = """
+                {"question": "Capital of France?", "options": ["Paris", "Rome"], "answer": "Paris"}
+                {"question": "Capital of Italy?", "options": ["Paris", "Rome"], "answer": "Rome"}
+                """;
+        Quiz quiz = questionImportService.importQuiz(stream(ndjson), ImportFormat.NDJSON, QuizType.GEOGRAPHY, QuizLevel.EASY, userId);
+
+        assertEquals(2, quiz.getNumberOfQuestions());
+        assertEquals(List.of("Capital of France?", "Capital of Italy?"),
+                questions(quiz).stream().map(QuizQuestion::getQuestion).sorted().toList());
+    }
+
+    @Test
+    void invalidRowRollsBackImport() {
+        String ndjson = """
+                {"question": "Valid?", "options": ["yes", "no"], "answer": "yes"}
+                {"question": "Answer missing?", "options": ["yes", "no"], "answer": "maybe"}
+                """;
+        long quizzesBefore = quizRepository.count();
+
+        InvalidImportException error = assertThrows(InvalidImportException.class, () ->
+                questionImportService.importQuiz(stream(ndjson), ImportFormat.NDJSON, QuizType.MATH, QuizLevel.EASY, userId));
+        assertTrue(error.getMessage().contains("row 2"));
+        assertEquals(quizzesBefore, quizRepository.count());
+    }
+
+    private List<QuizQuestion> questions(Quiz quiz) {
+        return questionRepo.findAllByQuizId(quiz.getId()).stream()
+                .sorted(Comparator.comparing(QuizQuestion::getQuestion))
+                .toList();
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.QuizFixtures;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizProgress;
+import com.lpu.mind_maze_ai.exception.QuestionAlreadyAskedException;
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import com.lpu.mind_maze_ai.web.response.dto.ScoreDTO;
+import com.lpu.mind_maze_ai.web.response.dto.UserStatsDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for QuizArchiveService.
+ * Verifies finished attempts past the retention period are archived and stay readable,
+ * that old partitions are removed with a concurrent detach, which fails inside a transaction,
+ * and that a partition left detached by an interrupted run is dropped by the next one.
+ */
+@SpringBootTest
+class QuizArchiveServiceTests {
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Autowired
+    private QuizArchiveService quizArchiveService;
+    @Autowired
+    private QuizProgressService quizProgressService;
+    @Autowired
+    private UserStatsService userStatsService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepo questionRepo;
+    @Autowired
+    private QuizProgressRepository progressRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void finishedAttemptsAreArchivedAndStayReadable() {
+        String username = "archive" + System.nanoTime();
+        Long userId = userService.registerUser(username, "password", "Archive", username + "@mindmaze.test", "ROLE_USER").getId();
+        CustomUserDetails user = userRepository.findById(userId).orElseThrow();
+        Quiz quiz = quizRepository.save(QuizFixtures.quiz(user, 5));
+        questionRepo.saveAll(QuizFixtures.questions(quiz, 5));
+        String quizId = quiz.getId().toString();
+
+        QuizProgress progress = new QuizProgress();
+        progress.setUser(user);
+        progress.setQuiz(quiz);
+        progress.setScore(3);
+        progress.setWrongAnswers(2);
+        progress.setTotalQuestions(5);
+        progress.setCompleted(true);
+        UUID progressId = progressRepository.save(progress).getId();
+        // Backdate the attempt past the retention period, which moves it to an older partition
+        transactionTemplate.executeWithoutResult(status -> {
+            progressRepository.createPartitions(LocalDateTime.now().minusDays(40), 0);
+            jdbcTemplate.update("UPDATE quiz_progress SET created_at = created_at - interval '40 days' WHERE id = ?", progressId);
+        });
+
+        assertTrue(quizArchiveService.archiveFinishedAttempts() >= 1);
+        assertTrue(progressRepository.findById(progressId).isEmpty());
+
+        ScoreDTO score = quizProgressService.getScore(quizId, userId);
+        assertEquals(3, score.getCorrectAnswers());
+        assertTrue(score.getCompleted());
+        // An archived attempt is finished; it must not be started again
+        assertThrows(QuestionAlreadyAskedException.class, () -> quizProgressService.getRandomQuestion(quizId, userId));
+        assertTrue(progressRepository.findByUserIdAndQuizId(userId, quiz.getId()).isEmpty());
+
+        userStatsService.rebuildAll();
+        UserStatsDTO stats = userStatsService.getStats(userId).getFirst();
+        assertEquals(1, stats.getCompletedAttempts());
+        assertEquals(3, stats.getCorrectAnswers());
+    }
+
+    @Test
+    void emptyPartitionsPastRetentionAreDetachedAndDropped() {
+        LocalDateTime attachedMonth = LocalDateTime.now().minusMonths(6);
+        String attached = "quiz_progress_" + attachedMonth.format(PARTITION_MONTH);
+        String detached = "quiz_progress_" + attachedMonth.plusMonths(1).format(PARTITION_MONTH);
+        transactionTemplate.executeWithoutResult(status -> {
+            progressRepository.createPartitions(attachedMonth, 0);
+            jdbcTemplate.execute("ALTER TABLE quiz_progress DETACH PARTITION " + detached);
+        });
+        assertTrue(exists(attached));
+        assertTrue(exists(detached));
+
+        quizArchiveService.archiveFinishedAttempts();
+
+        assertFalse(exists(attached));
+        assertFalse(exists(detached));
+    }
+
+    private boolean exists(String table) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+    }
+}
@@ -0,0 +1,153 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.config.QuizGenerationProperties;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Simulation of quiz generation batching against a fake model server, used to pick {@code quiz.generation.batch-window}.
+ * The fake server serves {@link #SLOTS} prompts in parallel and takes a fixed prefill time per prompt plus a decode
+ * time per requested question, so sharing a prompt saves the prefill of the quizzes it absorbs.
+ * For every batch window, quizzes of random type, level and size arrive from 50 users as a Poisson process,
+ * and the throughput, the 50th and 99th percentile of the time from scheduling to stored questions,
+ * and the number of prompts per quiz are printed.
+ *
+ * Implementation Details:
+ * 1. The real QuizGenerationSchedulerImpl runs with {@link #SLOTS} worker threads and a question limit of 50
+ * 2. Arrivals use a fixed seed, so every window sees the same sequence of quizzes
+ * 3. The prefill and per-question times are read from the {@code prefill} and {@code perq} system properties in
+ *    milliseconds, defaulting to 60 and 6
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec
+ * -Dbenchmark.runner=com.lpu.mind_maze_ai.service.QuizGenerationBatchingSimulation -Dbenchmark="0,25,50,100 40"
+ * where the first argument lists the batch windows in milliseconds and the second the arrival rate per second.
+ */
+public class QuizGenerationBatchingSimulation {
+    private static final int SLOTS = 4;
+    private static final int QUIZZES = 400;
+    private static final int USERS = 50;
+    private static final long PREFILL_MILLIS = Long.getLong("prefill", 60);
+    private static final long QUESTION_MILLIS = Long.getLong("perq", 6);
+    private static final String[] TYPES = {"MATH", "SCIENCE", "HISTORY"};
+    private static final String[] LEVELS = {"EASY", "MEDIUM", "HARD"};
+
+    public static void main(String[] args) throws InterruptedException {
+        String windows = args.length > 0 ? args[0] : "0,25,50,100";
+        double ratePerSecond = args.length > 1 ? Double.parseDouble(args[1]) : 40;
+        for (String window : windows.split(",")) {
+            run(Long.parseLong(window.trim()), ratePerSecond);
+        }
+    }
+
+    /**
+     * Schedules {@link #QUIZZES} quizzes with one batch window and prints the results once all are generated.
+     *
+     * @param window Batch window in milliseconds
+     * @param ratePerSecond Average number of quizzes scheduled per second
+     * @throws InterruptedException if interrupted while scheduling or waiting
+     */
+    private static void run(long window, double ratePerSecond) throws InterruptedException {
+        Map<UUID, Long> scheduledAt = new ConcurrentHashMap<>();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch generated = new CountDownLatch(QUIZZES);
+        FakeModelServer server = new FakeModelServer(scheduledAt, latencies, generated);
+
+        QuizGenerationProperties properties = new QuizGenerationProperties();
+        properties.setThreads(SLOTS);
+        properties.setBatchWindow(window);
+        properties.setBatchMaxQuestions(50);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QuizGenerationSchedulerImpl scheduler = new QuizGenerationSchedulerImpl(server, properties, meterRegistry);
+        scheduler.start();
+        try {
+            Random random = new Random(42);
+            long start = System.nanoTime();
+            for (int i = 0; i < QUIZZES; i++) {
+                Quiz quiz = quiz(random);
+                scheduledAt.put(quiz.getId(), System.nanoTime());
+                scheduler.schedule(quiz);
+                Thread.sleep((long) (-Math.log(1 - random.nextDouble()) * 1000 / ratePerSecond));
+            }
+            generated.await();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long prompts = meterRegistry.get("quiz.generation.batch.quizzes").summary().count();
+            System.out.printf("window=%3d ms rate=%.0f/s  throughput=%6.1f quizzes/s  p50=%5d ms  p99=%5d ms  prompts/quiz=%.2f%n",
+                    window, ratePerSecond, QUIZZES / seconds,
+                    TimeUnit.NANOSECONDS.toMillis(sorted.get(sorted.size() / 2)),
+                    TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99))),
+                    prompts / (double) QUIZZES);
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    private static Quiz quiz(Random random) {
+        CustomUserDetails user = new CustomUserDetails();
+        user.setId((long) random.nextInt(USERS));
+        Quiz quiz = new Quiz();
+        quiz.setId(UUID.randomUUID());
+        quiz.setUser(user);
+        quiz.setQuizType(TYPES[random.nextInt(TYPES.length)]);
+        quiz.setQuizLevel(LEVELS[random.nextInt(LEVELS.length)]);
+        quiz.setNumberOfQuestions(5 + random.nextInt(11));
+        return quiz;
+    }
+
+    /**
+     * Model server with {@link #SLOTS} parallel slots, recording the time each quiz took from scheduling to generated.
+     */
+    private static final class FakeModelServer implements OllamaQuizService {
+        private final Semaphore slots = new Semaphore(SLOTS);
+        private final Map<UUID, Long> scheduledAt;
+        private final List<Long> latencies;
+        private final CountDownLatch generated;
+
+        private FakeModelServer(Map<UUID, Long> scheduledAt, List<Long> latencies, CountDownLatch generated) {
+            this.scheduledAt = scheduledAt;
+            this.latencies = latencies;
+            this.generated = generated;
+        }
+
+        @Override
+        public Set<UUID> getQuizQuestions(List<Quiz> quizzes) {
+            int questions = quizzes.stream().mapToInt(Quiz::getNumberOfQuestions).sum();
+            slots.acquireUninterruptibly();
+            try {
+                Thread.sleep(PREFILL_MILLIS + QUESTION_MILLIS * questions);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Set.of();
+            } finally {
+                slots.release();
+            }
+            long now = System.nanoTime();
+            for (Quiz quiz : quizzes) {
+                latencies.add(now - scheduledAt.get(quiz.getId()));
+                generated.countDown();
+            }
+            return quizzes.stream().map(Quiz::getId).collect(Collectors.toSet());
+        }
+
+        @Override
+        public void markFailed(UUID quizId) {
+            System.err.println("Generation failed for quiz ID: " + quizId);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.config.QuizGenerationProperties;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QuizGenerationSchedulerImpl.
+ * Verifies that deleting a quiz or passing its deadline aborts a running generation and frees its worker,
+ * and that quizzes of the same type and level share one prompt when batching is enabled.
+ */
+class QuizGenerationSchedulerTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingGenerator generator = new BlockingGenerator();
+    private QuizGenerationSchedulerImpl scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void cancellingRunningGenerationInterruptsItAndFreesTheWorker() throws InterruptedException {
+        scheduler = scheduler(60_000);
+        Quiz first = quiz();
+        Quiz second = quiz();
+        scheduler.schedule(first);
+        scheduler.schedule(second);
+        assertTrue(generator.started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(scheduler.cancel(first.getId()));
+        assertFalse(scheduler.cancel(first.getId()));
+        assertTrue(generator.interrupted.await(5, TimeUnit.SECONDS));
+
+        // The single worker moves on to the next quiz
+        assertTrue(generator.secondStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, wasted("deleted", "running").count());
+        assertTrue(generator.failed.isEmpty());
+    }
+
+    @Test
+    void deadlineCancelsRunningGenerationAndMarksItFailed() throws InterruptedException {
+        scheduler = scheduler(50);
+        Quiz quiz = quiz();
+        scheduler.schedule(quiz);
+        assertTrue(generator.started.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(100);
+        scheduler.enforceDeadlines();
+        assertTrue(generator.interrupted.await(5, TimeUnit.SECONDS));
+
+        assertTrue(waitFor(() -> generator.failed.contains(quiz.getId())));
+        assertEquals(1, wasted("deadline", "running").count());
+        assertTrue(wasted("deadline", "running").totalTime(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    @Test
+    void compatibleQuizzesShareOnePrompt() throws InterruptedException {
+        QuizGenerationProperties properties = new QuizGenerationProperties();
+        properties.setThreads(1);
+        properties.setBatchWindow(200);
+        properties.setBatchMaxQuestions(12);
+        RecordingGenerator recorder = new RecordingGenerator();
+        scheduler = new QuizGenerationSchedulerImpl(recorder, properties, meterRegistry);
+        Quiz first = quiz("MATH", 5);
+        Quiz other = quiz("SCIENCE", 5);
+        Quiz second = quiz("MATH", 7);
+        Quiz overflow = quiz("MATH", 1);
+        List.of(first, other, second, overflow).forEach(scheduler::schedule);
+        scheduler.start();
+
+        // Queued quizzes are claimed up to the question limit without waiting, as other quizzes are queued
+        assertTrue(waitFor(() -> recorder.prompts.size() == 3));
+        assertEquals(List.of(Set.of(first.getId(), second.getId()), Set.of(other.getId()), Set.of(overflow.getId())),
+                recorder.prompts);
+
+        // With nothing else queued, a quiz waits out the window for compatible ones
+        Quiz late = quiz("MATH", 5);
+        Quiz later = quiz("MATH", 5);
+        scheduler.schedule(late);
+        Thread.sleep(50);
+        scheduler.schedule(later);
+        assertTrue(waitFor(() -> recorder.prompts.size() == 4));
+        assertEquals(Set.of(late.getId(), later.getId()), recorder.prompts.get(3));
+        assertEquals(6, meterRegistry.get("quiz.generation.batch.quizzes").summary().totalAmount());
+    }
+
+    private QuizGenerationSchedulerImpl scheduler(long deadline) {
+        QuizGenerationProperties properties = new QuizGenerationProperties();
+        properties.setThreads(1);
+        properties.setDeadline(deadline);
+        QuizGenerationSchedulerImpl scheduler = new QuizGenerationSchedulerImpl(generator, properties, meterRegistry);
+        scheduler.start();
+        return scheduler;
+    }
+
+    private Timer wasted(String reason, String stage) {
+        return meterRegistry.get("quiz.generation.wasted").tags("reason", reason, "stage", stage).timer();
+    }
+
+    private static Quiz quiz() {
+        return quiz("MATH", 5);
+    }
+
+    private static Quiz quiz(String quizType, int numberOfQuestions) {
+        CustomUserDetails user = new CustomUserDetails();
+        user.setId(1L);
+        Quiz quiz = new Quiz();
+        quiz.setId(UUID.randomUUID());
+        quiz.setUser(user);
+        quiz.setQuizType(quizType);
+        quiz.setQuizLevel("EASY");
+        quiz.setNumberOfQuestions(numberOfQuestions);
+        return quiz;
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    /**
+     * Generator whose first generation blocks until interrupted, as a request to the model would.
+     */
+    private static class BlockingGenerator implements OllamaQuizService {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private final CountDownLatch secondStarted = new CountDownLatch(1);
+        private final Set<UUID> failed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Set<UUID> getQuizQuestions(List<Quiz> quizzes) {
+            Set<UUID> ids = quizzes.stream().map(Quiz::getId).collect(Collectors.toSet());
+            if (started.getCount() == 0) {
+                secondStarted.countDown();
+                return ids;
+            }
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                return ids;
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("Generation aborted", e);
+            }
+        }
+
+        @Override
+        public void markFailed(UUID quizId) {
+            failed.add(quizId);
+        }
+    }
+
+    /**
+     * Generator recording the quizzes of every prompt.
+     */
+    private static class RecordingGenerator implements OllamaQuizService {
+        private final List<Set<UUID>> prompts = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Set<UUID> getQuizQuestions(List<Quiz> quizzes) {
+            Set<UUID> ids = quizzes.stream().map(Quiz::getId).collect(Collectors.toSet());
+            prompts.add(ids);
+            return ids;
+        }
+
+        @Override
+        public void markFailed(UUID quizId) {
+        }
+    }
+}
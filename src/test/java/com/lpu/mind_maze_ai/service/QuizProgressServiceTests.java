@@ -0,0 +1,108 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.exception.QuestionAlreadyAskedException;
+import com.lpu.mind_maze_ai.exception.QuestionNotPendingException;
+import com.lpu.mind_maze_ai.exception.ResourceAlreadyExistsException;
+import com.lpu.mind_maze_ai.model.ImportFormat;
+import com.lpu.mind_maze_ai.model.QuizLevel;
+import com.lpu.mind_maze_ai.model.QuizType;
+import com.lpu.mind_maze_ai.web.response.dto.CorrectResponseDTO;
+import com.lpu.mind_maze_ai.web.response.dto.ScoreDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for QuizProgressService.
+ * Verifies that each handed out question is scored at most once, that the final answer completes the attempt,
+ * and that attempts finished before completion detection existed are finalized on first access.
+ */
+@SpringBootTest
+class QuizProgressServiceTests {
+    @Autowired
+    private QuizProgressService quizProgressService;
+    @Autowired
+    private QuestionImportService questionImportService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onlyTheCurrentQuestionIsScoredAndOnlyOnce() {
+        Long userId = user("answer");
+        Quiz quiz = quiz(userId, """
+                question,options,answer
+                What is 1 + 1?,one;two,two
+                What is 2 + 2?,three;four,four
+                """);
+        Quiz other = quiz(userId, """
+                question,options,answer
+                What is 3 + 3?,five;six,six
+                """);
+        String quizId = quiz.getId().toString();
+        String otherQuestionId = quizProgressService.getRandomQuestion(other.getId().toString(), userId).getId().toString();
+
+        String firstId = quizProgressService.getRandomQuestion(quizId, userId).getId().toString();
+        assertThrows(QuestionNotPendingException.class,
+                () -> quizProgressService.saveProgress(quizId, userId, otherQuestionId, "six", false));
+        CorrectResponseDTO first = quizProgressService.saveProgress(quizId, userId, firstId, "two", true);
+        assertThrows(QuestionNotPendingException.class,
+                () -> quizProgressService.saveProgress(quizId, userId, firstId, "two", false));
+
+        // The final answer completes the attempt in its own transaction
+        String secondId = first.getNextQuestion().getId().toString();
+        quizProgressService.saveProgress(quizId, userId, secondId, "three", false);
+        ScoreDTO score = quizProgressService.getScore(quizId, userId);
+        assertEquals(1, score.getCorrectAnswers());
+        assertEquals(1, score.getWrongAnswers());
+        assertTrue(score.getCompleted());
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> quizProgressService.saveProgress(quizId, userId, secondId, "four", false));
+    }
+
+    @Test
+    void finishedLegacyAttemptIsFinalizedOnAccess() throws InterruptedException {
+        Long userId = user("legacy");
+        Quiz quiz = quiz(userId, """
+                question,options,answer
+                What is 1 + 1?,one;two,two
+                """);
+        String quizId = quiz.getId().toString();
+        quizProgressService.getRandomQuestion(quizId, userId);
+        // An attempt answered in full but never marked completed, as recorded by earlier versions
+        jdbcTemplate.update("UPDATE quiz_progress SET score = 1 WHERE user_id = ? AND quiz_id = ?", userId, quiz.getId());
+
+        assertThrows(QuestionAlreadyAskedException.class, () -> quizProgressService.getRandomQuestion(quizId, userId));
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!completed(userId, quiz) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(completed(userId, quiz));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT correct_answers FROM quiz_result WHERE user_id = ? AND quiz_id = ?", Integer.class, userId, quiz.getId()));
+    }
+
+    private Long user(String prefix) {
+        String username = prefix + System.nanoTime();
+        return userService.registerUser(username, "password", prefix, username + "@mindmaze.test", "ROLE_USER").getId();
+    }
+
+    private Quiz quiz(Long userId, String csv) {
+        return questionImportService.importQuiz(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                ImportFormat.CSV, QuizType.MATH, QuizLevel.EASY, userId);
+    }
+
+    private boolean completed(Long userId, Quiz quiz) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT completed FROM quiz_progress WHERE user_id = ? AND quiz_id = ?", Boolean.class, userId, quiz.getId()));
+    }
+}
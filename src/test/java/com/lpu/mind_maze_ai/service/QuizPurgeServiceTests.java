@@ -0,0 +1,67 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.QuizFixtures;
+import com.lpu.mind_maze_ai.entity.CustomUserDetails;
+import com.lpu.mind_maze_ai.entity.Quiz;
+import com.lpu.mind_maze_ai.entity.QuizQuestion;
+import com.lpu.mind_maze_ai.repository.QuizProgressRepository;
+import com.lpu.mind_maze_ai.repository.QuizQuestionRepo;
+import com.lpu.mind_maze_ai.repository.QuizRepository;
+import com.lpu.mind_maze_ai.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for QuizPurgeService.
+ * Verifies a deleted quiz is hidden at once and that the purge removes it with its questions and attempts,
+ * including the copies held in the second-level cache.
+ */
+@SpringBootTest
+class QuizPurgeServiceTests {
+    @Autowired
+    private QuizPurgeService quizPurgeService;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizProgressService quizProgressService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepo questionRepo;
+    @Autowired
+    private QuizProgressRepository progressRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void deletedQuizIsHiddenAndPurgedWithItsContent() {
+        String username = "purge" + System.nanoTime();
+        Long userId = userService.registerUser(username, "password", "Purge", username + "@mindmaze.test", "ROLE_USER").getId();
+        CustomUserDetails user = userRepository.findById(userId).orElseThrow();
+        Quiz quiz = quizRepository.save(QuizFixtures.quiz(user, 5));
+        UUID id = quiz.getId();
+        List<UUID> questionIds = questionRepo.saveAll(QuizFixtures.questions(quiz, 5)).stream().map(QuizQuestion::getId).toList();
+        quizProgressService.getRandomQuestion(id.toString(), userId);
+        assertTrue(entityManagerFactory.getCache().contains(Quiz.class, id));
+
+        quizService.deleteQuizByUser(id.toString(), userId);
+        assertTrue(quizRepository.findSummaryByIdAndUserId(id, userId).isEmpty());
+        assertTrue(quizRepository.findQuestionsByQuizId(id).isEmpty());
+
+        assertTrue(quizPurgeService.purgeDeletedQuizzes() >= 1);
+        assertTrue(quizRepository.findById(id).isEmpty(), "Purged quiz must not be served from the cache");
+        assertTrue(questionRepo.findAllById(questionIds).isEmpty(), "Purged questions must not be served from the cache");
+        assertTrue(progressRepository.findByUserIdAndQuizId(userId, id).isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.lpu.mind_maze_ai.service;
+
+import com.lpu.mind_maze_ai.entity.UserQuizStats;
+import com.lpu.mind_maze_ai.repository.UserQuizStatsRepository;
+import com.lpu.mind_maze_ai.web.response.dto.UserStatsDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for UserStatsService.
+ * Verifies the startup backfill runs in a transaction; the context fails to start if it does not.
+ * Also verifies weekly rows add up to the lifetime totals and are served per week.
+ */
+@SpringBootTest(properties = "quiz.stats.rebuild-on-startup=true")
+class UserStatsServiceTests {
+    @Autowired
+    private UserStatsServiceImpl userStatsService;
+    @Autowired
+    private UserQuizStatsRepository statsRepository;
+
+    @Test
+    void startupBackfillRebuildsTheReadModel() {
+        assertDoesNotThrow(() -> userStatsService.rebuildOnStartup());
+        long rows = statsRepository.count();
+        assertEquals(rows, userStatsService.rebuildAll());
+    }
+
+    @Test
+    void weeklyRowsAreSummedAndServedPerWeek() {
+        Long userId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        LocalDate thisWeek = LocalDate.now().with(DayOfWeek.MONDAY);
+        statsRepository.save(stats(userId, thisWeek, 3, 1));
+        statsRepository.save(stats(userId, thisWeek.minusWeeks(3), 1, 3));
+
+        UserStatsDTO totals = userStatsService.getStats(userId).getFirst();
+        assertNull(totals.getPeriodStart());
+        assertEquals(4, totals.getCorrectAnswers());
+        assertEquals(0.5, totals.getAccuracy());
+
+        assertEquals(1, userStatsService.getHistory(userId, 3).size());
+        List<UserStatsDTO> history = userStatsService.getHistory(userId, 4);
+        assertEquals(List.of(thisWeek.minusWeeks(3), thisWeek), history.stream().map(UserStatsDTO::getPeriodStart).toList());
+        assertEquals(0.25, history.getFirst().getAccuracy());
+        assertEquals(0.75, history.getLast().getAccuracy());
+    }
+
+    private static UserQuizStats stats(Long userId, LocalDate periodStart, long correct, long wrong) {
+        UserQuizStats stats = new UserQuizStats();
+        stats.setUserId(userId);
+        stats.setQuizType("MATH");
+        stats.setQuizLevel("EASY");
+        stats.setPeriodStart(periodStart);
+        stats.setAttempts(1);
+        stats.setCorrectAnswers(correct);
+        stats.setWrongAnswers(wrong);
+        return stats;
+    }
+}
@@ -0,0 +1,109 @@
+package com.lpu.mind_maze_ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DeficitRoundRobinQueue.
+ * Verifies that a key's burst cannot delay other keys by more than one turn, that weights and costs set the shares,
+ * and that items drained ahead of their turn are repaid by their key.
+ */
+class DeficitRoundRobinQueueTests {
+
+    @Test
+    void burstOfOneKeyDoesNotDelayOthers() throws InterruptedException {
+        DeficitRoundRobinQueue<String, Integer> queue = new DeficitRoundRobinQueue<>(10, 100);
+        for (int i = 0; i < 30; i++) {
+            assertTrue(queue.offer("teacher", 1, 10, i));
+        }
+        queue.offer("student", 1, 10, 100);
+        assertEquals(2, queue.keys());
+        assertEquals(1, queue.backlog("student").queued());
+
+        assertEquals("teacher", queue.take().key());
+        DeficitRoundRobinQueue.Entry<String, Integer> second = queue.take();
+        assertEquals("student", second.key());
+        assertEquals(100, second.item());
+        assertEquals(0, queue.backlog("student").queued());
+        assertEquals(1, queue.keys());
+
+        // The burst is still served in order
+        for (int i = 1; i < 30; i++) {
+            assertEquals(i, queue.take().item());
+        }
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void weightsAndCostsSetTheShares() throws InterruptedException {
+        DeficitRoundRobinQueue<String, Integer> queue = new DeficitRoundRobinQueue<>(10, 100);
+        for (int i = 0; i < 20; i++) {
+            queue.offer("heavy", 2, 10, i);
+            queue.offer("light", 1, 10, i);
+            queue.offer("small", 1, 5, i);
+        }
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            order.add(queue.take().key());
+        }
+        // Per round: two quizzes of weight 2, one of weight 1, and two of half the cost
+        assertEquals(List.of("heavy", "heavy", "light", "small", "small",
+                "heavy", "heavy", "light", "small", "small"), order.subList(0, 10));
+        assertEquals(8, order.stream().filter("heavy"::equals).count());
+    }
+
+    @Test
+    void itemsLargerThanTheQuantumKeepTheirCost() throws InterruptedException {
+        DeficitRoundRobinQueue<String, Integer> queue = new DeficitRoundRobinQueue<>(10, 100);
+        for (int i = 0; i < 10; i++) {
+            queue.offer("large", 1, 20, i);
+            queue.offer("small", 1, 10, i);
+        }
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            order.add(queue.take().key());
+        }
+        // A quiz of 20 questions takes two turns of credit, so it is served half as often as one of 10
+        assertEquals(List.of("small", "large", "small", "small", "large", "small"), order.subList(0, 6));
+        assertEquals(4, order.stream().filter("large"::equals).count());
+        assertEquals(8, order.stream().filter("small"::equals).count());
+    }
+
+    @Test
+    void drainedItemsAreChargedToTheirKey() throws InterruptedException {
+        DeficitRoundRobinQueue<String, Integer> queue = new DeficitRoundRobinQueue<>(10, 100);
+        for (int i = 0; i < 4; i++) {
+            queue.offer("a", 1, 10, i);
+            queue.offer("b", 1, 10, 10 + i);
+        }
+        List<DeficitRoundRobinQueue.Entry<String, Integer>> drained = queue.drain(item -> item < 2);
+        assertEquals(List.of(0, 1), drained.stream().map(DeficitRoundRobinQueue.Entry::item).toList());
+        assertEquals(6, queue.size());
+
+        // "a" sits out two turns to repay the items it got ahead of time
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            order.add(queue.take().key());
+        }
+        assertEquals(List.of("b", "b", "a", "b", "a", "b"), order);
+
+        // A key with nothing left queued is forgiven its debt
+        queue.offer("c", 1, 10, 20);
+        queue.drain(item -> item == 20);
+        assertEquals(0, queue.keys());
+    }
+
+    @Test
+    void fullQueueRefusesItems() {
+        DeficitRoundRobinQueue<String, Integer> queue = new DeficitRoundRobinQueue<>(10, 2);
+        assertTrue(queue.offer("a", 1, 1, 1));
+        assertTrue(queue.offer("b", 1, 1, 2));
+        assertFalse(queue.offer("c", 1, 1, 3));
+        assertEquals(2, queue.size());
+    }
+}
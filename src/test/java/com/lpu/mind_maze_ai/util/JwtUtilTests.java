@@ -0,0 +1,70 @@
+package com.lpu.mind_maze_ai.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtUtil.
+ * Verifies that the verified-token cache never accepts a token the parser would reject,
+ * and that revocation cut-offs are compared with token issue times in milliseconds.
+ */
+class JwtUtilTests {
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+
+    @Test
+    void cachedVerificationRejectsTamperedTokens() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100, registry);
+        String token = jwtUtil.generateToken("alice", 7L, "Alice", List.of("ROLE_USER"));
+
+        Claims first = jwtUtil.extractClaims(token);
+        assertSame(first, jwtUtil.extractClaims(token));
+        assertEquals(7L, jwtUtil.toPrincipal(first).id());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit").functionCounter().count());
+
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+        assertThrows(JwtException.class, () -> jwtUtil.extractClaims(tampered));
+        assertFalse(jwtUtil.validateToken(tampered));
+    }
+
+    @Test
+    void expiredTokensAreNeitherVerifiedNorCached() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, -1_000, 100, new SimpleMeterRegistry());
+        String expired = jwtUtil.generateToken("bob", 8L, "Bob", List.of("ROLE_USER"));
+
+        assertThrows(JwtException.class, () -> jwtUtil.extractClaims(expired));
+        assertThrows(JwtException.class, () -> jwtUtil.extractClaims(expired));
+    }
+
+    @Test
+    void tokenIssuedJustAfterACutOffIsAccepted() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 0, new SimpleMeterRegistry());
+        Claims claims = jwtUtil.extractClaims(jwtUtil.generateToken("dave", 10L, "Dave", List.of("ROLE_USER")));
+        long issuedAt = jwtUtil.issuedAtMillis(claims);
+        assertEquals(claims.getIssuedAt().getTime() / 1000, issuedAt / 1000);
+
+        TokenRevocationList revocationList = new TokenRevocationList();
+        revocationList.revoke(10L, Instant.ofEpochMilli(issuedAt - 1));
+        assertFalse(revocationList.isRevoked(10L, null, issuedAt));
+        revocationList.revoke(10L, Instant.ofEpochMilli(issuedAt));
+        assertTrue(revocationList.isRevoked(10L, null, issuedAt));
+    }
+
+    @Test
+    void cacheCanBeDisabled() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 0, new SimpleMeterRegistry());
+        String token = jwtUtil.generateToken("carol", 9L, "Carol", List.of("ROLE_USER"));
+
+        assertEquals("carol", jwtUtil.extractClaims(token).getSubject());
+        assertNotSame(jwtUtil.extractClaims(token), jwtUtil.extractClaims(token));
+    }
+}
@@ -0,0 +1,70 @@
+package com.lpu.mind_maze_ai.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the JWT verification cost per request.
+ * Compares the former filter, which built a new parser and verified the token twice, with a single
+ * parse on the shared parser and with a hit in the verified-token cache.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark="JwtVerificationBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hmac-sha-256";
+
+    private SecretKey key;
+    private JwtUtil sharedParser;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        sharedParser = new JwtUtil(SECRET, 3_600_000, 0, new SimpleMeterRegistry());
+        cached = new JwtUtil(SECRET, 3_600_000, 10_000, new SimpleMeterRegistry());
+        token = sharedParser.generateToken("alice", 7L, "Alice", List.of("ROLE_USER"));
+        cached.extractClaims(token);
+    }
+
+    @Benchmark
+    public void twoParsesWithNewParsers(Blackhole blackhole) {
+        // extractUsername and then validateToken, each building its own parser
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject());
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getExpiration());
+    }
+
+    @Benchmark
+    public Claims singleParseSharedParser() {
+        return sharedParser.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims verifiedTokenCacheHit() {
+        return cached.extractClaims(token);
+    }
+}
@@ -0,0 +1,57 @@
+package com.lpu.mind_maze_ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RankedSkipList.
+ * Verifies ordering, ranks and removals against a sorted reference set.
+ */
+class RankedSkipListTests {
+
+    @Test
+    void ranksMatchSortedOrderAfterRandomInsertsAndRemovals() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+        TreeSet<Integer> reference = new TreeSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(2_000);
+            if (reference.contains(value)) {
+                assertTrue(list.remove(value));
+                reference.remove(value);
+            } else {
+                list.insert(value);
+                reference.add(value);
+            }
+        }
+
+        assertEquals(reference.size(), list.size());
+        List<Integer> expected = new ArrayList<>(reference);
+        assertEquals(expected, list.first(Integer.MAX_VALUE));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i + 1, list.rank(expected.get(i)));
+        }
+        assertEquals(0, list.rank(-1));
+        assertFalse(list.remove(-1));
+    }
+
+    @Test
+    void firstReturnsAtMostLimitElements() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.reverseOrder());
+        for (int i = 1; i <= 10; i++) {
+            list.insert(i);
+        }
+
+        assertEquals(List.of(10, 9, 8), list.first(3));
+        assertEquals(1, list.rank(10));
+        assertEquals(10, list.rank(1));
+    }
+}
@@ -0,0 +1,50 @@
+package com.lpu.mind_maze_ai.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucketRateLimiter on a manually advanced clock.
+ */
+class TokenBucketRateLimiterTests {
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void bucketsDrainByCostAndRefillOverTime() {
+        // 10 tokens, one per 6 seconds
+        TokenBucketRateLimiter<Long> limiter = new TokenBucketRateLimiter<>(10, 10, 100, clock::get);
+
+        TokenBucketRateLimiter.Decision first = limiter.tryAcquire(1L, 4);
+        assertTrue(first.allowed());
+        assertEquals(6, first.remaining());
+        assertTrue(limiter.tryAcquire(1L, 6).allowed());
+
+        TokenBucketRateLimiter.Decision rejected = limiter.tryAcquire(1L, 3);
+        assertFalse(rejected.allowed());
+        assertEquals(0, rejected.remaining());
+        assertEquals(TimeUnit.SECONDS.toNanos(18), rejected.retryAfterNanos());
+        assertEquals(TimeUnit.SECONDS.toNanos(60), rejected.nanosUntilFull());
+
+        // Other keys have their own bucket
+        assertEquals(9, limiter.tryAcquire(2L, 1).remaining());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(18));
+        assertTrue(limiter.tryAcquire(1L, 3).allowed());
+        assertFalse(limiter.tryAcquire(1L, 1).allowed());
+
+        // An idle bucket fills up to its capacity and no further
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        assertEquals(9, limiter.tryAcquire(1L, 1).remaining());
+    }
+
+    @Test
+    void costsAboveTheCapacityAreRefused() {
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(5, 60, 100, clock::get);
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire("a", 6));
+        assertTrue(limiter.tryAcquire("a", 5).allowed());
+    }
+}